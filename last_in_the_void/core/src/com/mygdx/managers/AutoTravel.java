@@ -0,0 +1,169 @@
+package com.mygdx.managers;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import com.mygdx.objects.Event;
+import com.mygdx.objects.Planet;
+import com.mygdx.objects.Player;
+import com.mygdx.objects.StarSystem;
+import com.mygdx.objects.Universe;
+import com.mygdx.screens.GameScreen;
+import com.mygdx.sim.GameRules;
+
+/**
+ * Turbo mode for playtesting: plays several landings, events and jumps per frame through the same
+ * GameScreen, UIManager and EventUI calls a player's clicks go through, so the late game can be
+ * reached in seconds. A Pilot makes the decisions. Stops at the story events after the first
+ * and when the player dies, and when the pilot has nothing left it can do.
+ */
+public class AutoTravel {
+
+    // Actions per rendered frame, each is a landing, a jump or an answered event
+    private static final int STEPS_PER_FRAME = 10;
+
+    /**
+     * The decisions turbo mode makes on the player's behalf.
+     */
+    public interface Pilot {
+        // Which of the event's choices to take
+        int chooseEventChoice(Event event);
+
+        // Planet of the current system to land on next, -1 to leave the system
+        int chooseLanding(Player player, StarSystem system);
+
+        // Index into the universe's current destinations
+        int chooseDestination(StarSystem[] destinations);
+    }
+
+    // Takes the likeliest choice, lands on what it can harvest without meeting aliens and
+    // keeps two jumps of fuel back, like FuelConservativePolicy in the headless runs
+    public static final Pilot CAUTIOUS = new Pilot() {
+        private static final int RESERVE_JUMPS = 2;
+
+        @Override
+        public int chooseEventChoice(Event event) {
+            List<Event.Choice> choices = event.getChoices();
+            int best = 0;
+            for (int i = 1; i < choices.size(); i++) {
+                if (choices.get(i).getSuccessChance() > choices.get(best).getSuccessChance()) {
+                    best = i;
+                }
+            }
+            return best;
+        }
+
+        @Override
+        public int chooseLanding(Player player, StarSystem system) {
+            if (player.getFuel() - Planet.LANDING_FUEL_COST < RESERVE_JUMPS * Universe.JUMP_FUEL_COST) return -1;
+            Planet[] planets = system.getPlanets();
+            for (int i = 0; i < Math.min(planets.length, RenderManager.MAX_SHOWN_PLANETS + 1); i++) {
+                Planet planet = planets[i];
+                if (!planet.getHarvest() && planet.getType() != Planet.Type.Star && !planet.getHasAlien()) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public int chooseDestination(StarSystem[] destinations) {
+            int best = 0;
+            for (int i = 1; i < destinations.length; i++) {
+                if (destinations[i].getNumPlanets() > destinations[best].getNumPlanets()) {
+                    best = i;
+                }
+            }
+            return best;
+        }
+    };
+
+    private final GameScreen gameScreen;
+    private final UIManager uiManager;
+    private final EventManager eventManager;
+    private final Player player;
+    private final Universe universe;
+    private Pilot pilot = CAUTIOUS;
+    private boolean enabled = false;
+
+    public AutoTravel(GameScreen gameScreen, UIManager uiManager, EventManager eventManager, Player player,
+                      Universe universe) {
+        this.gameScreen = gameScreen;
+        this.uiManager = uiManager;
+        this.eventManager = eventManager;
+        this.player = player;
+        this.universe = universe;
+    }
+
+    public void setPilot(Pilot pilot) {
+        this.pilot = pilot;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void toggle() {
+        enabled = !enabled;
+        if (enabled) {
+            uiManager.showStatus("Turbo travel on");
+        } else {
+            uiManager.hideStatus();
+        }
+    }
+
+    // Plays up to STEPS_PER_FRAME actions, call once per frame while enabled
+    public void update() {
+        for (int step = 0; step < STEPS_PER_FRAME && enabled; step++) {
+            if (GameRules.checkDeath(player) != null) {
+                stop("the player died");
+                return;
+            }
+            if (eventManager.isEventActive()) {
+                Event event = eventManager.getCurrentEvent();
+                if (event == null || GameRules.isStoryEvent(event)) {
+                    stop(event != null ? "\"" + event.getTitle() + "\"" : "an event");
+                    return;
+                }
+                eventManager.resolveCurrentEvent(pilot.chooseEventChoice(event));
+                continue;
+            }
+
+            topUp(Player.Stats.FUEL, player.getFuelLim() / 2);
+            topUp(Player.Stats.HEALTH, player.getHealthLim() * 0.75);
+            topUp(Player.Stats.OXYGEN, player.getOxygenLim() * 0.75);
+
+            int planet = pilot.chooseLanding(player, universe.getCurrentPosition());
+            if (planet >= 0) {
+                if (!gameScreen.landOn(planet)) {
+                    stop("the landing killed the player");
+                }
+                continue;
+            }
+            if (!uiManager.jumpTo(pilot.chooseDestination(universe.getDestinations()))) {
+                stop("there is not enough fuel to jump");
+            }
+        }
+    }
+
+    private void stop(String reason) {
+        enabled = false;
+        uiManager.showStatus("Turbo travel stopped at depth " + universe.getDepth() + ": " + reason);
+    }
+
+    // Uses items on a stat until it reaches the wanted level, cheapest items first, through the inventory's Recover button
+    private void topUp(Player.Stats stat, double wanted) {
+        List<String> items = new ArrayList<>(player.getInventory().getItems().keySet());
+        items.sort(Comparator.comparingInt(GameRules::recoveryAmount));
+        for (String item : items) {
+            double current = stat == Player.Stats.FUEL ? player.getFuel()
+                    : stat == Player.Stats.OXYGEN ? player.getOxygen() : player.getHealth();
+            if (current >= wanted) return;
+            int amount = GameRules.recoveryAmount(item);
+            if (GameRules.recoveryStat(item) != stat || amount <= 0) continue;
+            int quantity = Math.min(player.getInventory().checkItemQuantity(item), (int) Math.ceil((wanted - current) / amount));
+            uiManager.getInventoryUI().recover(item, quantity);
+        }
+    }
+}
@@ -2,8 +2,11 @@ package com.mygdx.managers;
 
 import com.mygdx.objects.Event;
 import com.mygdx.objects.Player;
+import com.mygdx.sim.ChoicePreview;
+import com.mygdx.sim.Journal;
 import com.mygdx.ui.EventUI;
 import com.mygdx.screens.GameScreen;
+import java.util.SplittableRandom;
 
 /**
  * Manages in-game events and the event UI
@@ -12,10 +15,14 @@ public class EventManager {
     private EventUI eventUI;
     private Event currentEvent;
     private Player player;
+    private SplittableRandom eventRandom;
+    private final ChoicePreview choicePreview = new ChoicePreview();
     
-    public EventManager(Player player, EventUI.EventCompletionListener listener) {
+    public EventManager(Player player, EventUI.EventCompletionListener listener, SplittableRandom eventRandom) {
         this.player = player;
+        this.eventRandom = eventRandom;
         this.eventUI = new EventUI(player, listener);
+        eventUI.setChoicePreview(choicePreview);
     }
     
     public void render() {
@@ -30,6 +37,7 @@ public class EventManager {
     
     public void dispose() {
         eventUI.dispose();
+        choicePreview.dispose();
     }
     
     public boolean isEventActive() {
@@ -42,6 +50,10 @@ public class EventManager {
     
     public void setCurrentEvent(Event event) {
         this.currentEvent = event;
+        // Give each event its own branch of the run's event stream
+        if (event != null) {
+            event.setRandom(eventRandom.split());
+        }
     }
     
     public void showCurrentEvent() {
@@ -50,10 +62,20 @@ public class EventManager {
         }
     }
     
+    // Choices made in the event window are written to the run's journal
+    public void setJournal(Journal journal) {
+        eventUI.setJournal(journal);
+    }
+
     public void hideEvent() {
         eventUI.hideEvent();
     }
 
+    // Answers the event on screen without waiting for clicks, see AutoTravel
+    public void resolveCurrentEvent(int choiceIndex) {
+        eventUI.resolveNow(choiceIndex);
+    }
+
     public Event getCurrentEvent() {
         return currentEvent;
     }
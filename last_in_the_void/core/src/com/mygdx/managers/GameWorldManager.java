@@ -1,13 +1,17 @@
 package com.mygdx.managers;
 
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Box2D;
 import com.badlogic.gdx.physics.box2d.World;
 import com.mygdx.screens.GameScreen;
 import com.mygdx.objects.Universe;
+import com.mygdx.sim.Journal;
 
 import java.lang.reflect.Method;
+import java.util.concurrent.ForkJoinPool;
 
 
 public class GameWorldManager {
@@ -15,6 +19,10 @@ public class GameWorldManager {
     private World world;
     private GameScreen gameScreen;
     private Universe universe;
+    // Builds the run ahead of the player, leaves a core free for the render thread
+    private final ForkJoinPool generationPool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+    // Every decision of the run, saved when the player dies so the death can be replayed without the game
+    private Journal journal;
 
     public GameWorldManager(OrthographicCamera camera, GameScreen gameScreen) {
         Box2D.init();
@@ -23,6 +31,8 @@ public class GameWorldManager {
 
 
         this.universe = new Universe();
+        this.universe.pregenerate(generationPool);
+        this.journal = new Journal(universe.getSeed());
 
 
     }
@@ -55,11 +65,30 @@ public class GameWorldManager {
     }
 
 
+    public Journal getJournal() {
+        return journal;
+    }
+
+
+    // Writes the journal next to the game, one file per run seed. Only called on death, quitting keeps the last one
+    public void saveJournal() {
+        try {
+            FileHandle file = Gdx.files.local("journals/" + universe.getSeed() + ".litj");
+            file.writeBytes(journal.toBytes(), false);
+            System.out.println("Journal saved to " + file.path());
+        } catch (Exception e) {
+            System.out.println("Could not save journal: " + e.getMessage());
+        }
+    }
+
+
     public void travelTo(int index) {
         try {
             Method m = Universe.class.getDeclaredMethod("chooseDestination", int.class);
             m.setAccessible(true);
-            m.invoke(universe, index);
+            if (!(Boolean) m.invoke(universe, index)) {
+                System.out.println("Destination " + index + " is out of jump range");
+            }
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -67,6 +96,7 @@ public class GameWorldManager {
 
 
     public void dispose() {
+        generationPool.shutdownNow();
         if (world != null) {
             world.dispose();
         }
@@ -29,6 +29,7 @@ public class InputHandler {
         handlePauseInput();
         handleInventoryInput();
         handleUpgradesInput();
+        handleAutoTravelInput();
     }
     
     private void handleExitInput() {
@@ -45,6 +46,12 @@ public class InputHandler {
         }
     }
     
+    public void handleAutoTravelInput() {
+        if (Gdx.input.isKeyJustPressed(Input.Keys.T)) {
+            gameScreen.toggleAutoTravel();
+        }
+    }
+    
     private void handleInventoryInput() {
         if (Gdx.input.isKeyJustPressed(Input.Keys.I)) {
             if (!eventManager.isEventActive()) {
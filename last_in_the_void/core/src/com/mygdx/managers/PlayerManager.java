@@ -23,12 +23,21 @@ public class PlayerManager {
     private BitmapFont statsFontGreen;
     private BitmapFont statsFontYellow;
     private BitmapFont statsFontRed;
+
+    // Stat lines as last drawn, rebuilt by onPlayerChanged
+    private String healthText;
+    private String fuelText;
+    private String oxygenText;
+    private BitmapFont healthFont;
+    private BitmapFont fuelFont;
+    private BitmapFont oxygenFont;
     
     public PlayerManager(Player player, Inventory inventory, World world) {
         this.player = player;
         this.inventory = inventory;
 
         initializeFonts();
+        onPlayerChanged();
     }
     
     private void initializeFonts() {
@@ -39,51 +48,39 @@ public class PlayerManager {
         this.statsFontRed = fontHelper.getFont(Color.RED, 16);
     }
     
-    public void renderPlayerStats(SpriteBatch batch) {
-        float statsX = 10;
-        float statsY = SpaceGame.getInstance().getWindowHeight() - 20;
+    // Rebuilds the stat lines, called when the player changes instead of every frame
+    public void onPlayerChanged() {
         double currentHealth = (player.getHealth()/player.getHealthLim()) * 100;
         double currentFuel = (player.getFuel()/player.getFuelLim()) * 100;
         double currentOxygen = (player.getOxygen()/player.getOxygenLim()) * 100;
 
-        // Use the pre-initialized white font
-        statsFontWhite.draw(batch, "Name: Space Explorer", statsX, statsY);
+        healthText = "Hull Integrity: " + (int) currentHealth + "%";
+        healthFont = fontFor(currentHealth);
+        fuelText = "Ship Fuel: " + (int) currentFuel + "%";
+        fuelFont = fontFor(currentFuel);
+        oxygenText = "Life Support: " + (int) currentOxygen + "%";
+        oxygenFont = fontFor(currentOxygen);
+    }
 
-        // Select the correct pre-initialized font based on health color
-        Color healthColor = getResourceColor(currentHealth);
-        BitmapFont healthFont;
-        if (healthColor.equals(Color.GREEN)) {
-            healthFont = statsFontGreen;
-        } else if (healthColor.equals(Color.YELLOW)) {
-            healthFont = statsFontYellow;
-        } else {
-            healthFont = statsFontRed;
-        }
-        healthFont.draw(batch, "Hull Integrity: " + (int) currentHealth + "%", statsX, statsY - 20);
+    public void renderPlayerStats(SpriteBatch batch) {
+        float statsX = 10;
+        float statsY = SpaceGame.getInstance().getWindowHeight() - 20;
 
-        // Select the correct pre-initialized font based on fuel color
-        Color fuelColor = getResourceColor(currentFuel);
-        BitmapFont fuelFont;
-        if (fuelColor.equals(Color.GREEN)) {
-            fuelFont = statsFontGreen;
-        } else if (fuelColor.equals(Color.YELLOW)) {
-            fuelFont = statsFontYellow;
-        } else {
-            fuelFont = statsFontRed;
-        }
-        fuelFont.draw(batch, "Ship Fuel: " + (int) currentFuel + "%", statsX, statsY - 40);
+        statsFontWhite.draw(batch, "Name: Space Explorer", statsX, statsY);
+        healthFont.draw(batch, healthText, statsX, statsY - 20);
+        fuelFont.draw(batch, fuelText, statsX, statsY - 40);
+        oxygenFont.draw(batch, oxygenText, statsX, statsY - 60);
+    }
 
-        // Select the correct pre-initialized font based on oxygen color
-        Color oxygenColor = getResourceColor(currentOxygen);
-        BitmapFont oxygenFont;
-        if (oxygenColor.equals(Color.GREEN)) {
-            oxygenFont = statsFontGreen;
-        } else if (oxygenColor.equals(Color.YELLOW)) {
-            oxygenFont = statsFontYellow;
-        } else {
-            oxygenFont = statsFontRed;
+    // Select the correct pre-initialized font based on the resource color
+    private BitmapFont fontFor(double value) {
+        Color color = getResourceColor(value);
+        if (color.equals(Color.GREEN)) {
+            return statsFontGreen;
+        } else if (color.equals(Color.YELLOW)) {
+            return statsFontYellow;
         }
-        oxygenFont.draw(batch, "Life Support: " + (int) currentOxygen + "%", statsX, statsY - 60);
+        return statsFontRed;
     }
     
     private Color getResourceColor(double value) {
@@ -34,6 +34,8 @@ public class RenderManager {
     private Map<Planet.Type, List<Texture>> planetTextureVariants;
     private Map<Planet.Type, Texture> worldBackgrounds;
     private Texture fallbackBackground;
+    // Planets drawn around the star, the rest of a bigger system cannot be landed on
+    public static final int MAX_SHOWN_PLANETS = 6;
     private List<Texture> currentSystemTextures;
     private List<Planet> currentSystemPlanets;
     private List<Float> planetAngles = new ArrayList<>();
@@ -100,7 +102,7 @@ public class RenderManager {
         if (system == lastSystem) return;
         lastSystem = system;
         Planet[] planets = system.getPlanets();
-        int displayCount = Math.min(planets.length - 1, 6);
+        int displayCount = Math.min(planets.length - 1, MAX_SHOWN_PLANETS);
         currentSystemTextures = new ArrayList<>();
         currentSystemPlanets = new ArrayList<>();
         currentSystemPlanets.add(planets[0]);
@@ -186,7 +188,7 @@ public class RenderManager {
             float angle = planetAngles.get(i);
             float radius = orbitStep * i;
             Planet planet = currentSystemPlanets.get(i);
-            float rawSize = sh * (planet.getSize() * planet.renderSize);
+            float rawSize = sh * (planet.getSize() * planet.getRenderSize());
             float planetSize = Math.max(minSize, Math.min(rawSize, maxSize));
             float px = cx + radius * (float)Math.cos(angle) - planetSize * 0.5f;
             float py = cy + radius * (float)Math.sin(angle) - planetSize * 0.5f;
@@ -12,39 +12,22 @@ import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.scenes.scene2d.utils.NinePatchDrawable;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
-import com.mygdx.events.story_events.StoryEvent1;
-import com.mygdx.events.story_events.StoryEvent2;
-import com.mygdx.events.story_events.StoryEvent3;
-import com.mygdx.events.story_events.StoryEvent4;
-import com.mygdx.events.random_events.AggressiveRobotsEvent;
-import com.mygdx.events.random_events.CosmicStormEvent;
-import com.mygdx.events.random_events.DerelictShipEvent;
-import com.mygdx.events.random_events.EngineFailureEvent;
-import com.mygdx.events.random_events.FriendlyTraderEvent;
-import com.mygdx.events.random_events.MeteorEvent;
-import com.mygdx.events.random_events.RadiantNebulaEvent;
-import com.mygdx.events.random_events.SpaceParasitesEvent;
-import com.mygdx.events.random_events.AbandonedStationEvent;
-import com.mygdx.events.random_events.SolarFlareEvent;
-import com.mygdx.events.random_events.PirateAmbushEvent;
-import com.mygdx.events.random_events.SpaceGardenEvent;
 import com.mygdx.helpers.ScreenType;
 import com.mygdx.objects.Inventory;
 import com.mygdx.objects.Player;
 import com.mygdx.objects.Universe;
 import com.mygdx.objects.Upgrades;
 import com.mygdx.game.SpaceGame;
+import com.mygdx.sim.EventScheduler;
+import com.mygdx.sim.GameRules;
+import com.mygdx.sim.Journal;
 import com.mygdx.screens.GameScreen;
 import com.mygdx.ui.InventoryUI;
 import com.mygdx.ui.ScannerUI;
 import com.mygdx.ui.UpgradesUI;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Random;
-import java.util.function.Supplier;
 import javax.swing.event.ChangeEvent;
-import java.util.Arrays;
-import java.util.List;
 import com.mygdx.objects.Event;
 
 public class UIManager {
@@ -58,9 +41,12 @@ public class UIManager {
     private Universe universe;
 
     private int systemJumpCount = 0;
+    private final EventScheduler scheduler = new EventScheduler();
     private UpgradesUI upgradesUI;
     private InventoryUI inventoryUI;
     private ScannerUI scannerUI;
+    // Line of text in the corner of the game screen, turbo travel says what it is doing there
+    private ShowStuff statusText;
     private Texture upgradesBackground;
     private NinePatchDrawable upgradesPanel;
     // UI components
@@ -74,23 +60,6 @@ public class UIManager {
     private TextureAtlas.AtlasRegion inventoryBackground;
 
 
-    //events stuff
-    private final Random rand = new Random();
-    private final List<Supplier<Event>> negativeEvents = Arrays.asList(
-            () -> new AggressiveRobotsEvent(upgradesUI),
-            () -> new MeteorEvent(upgradesUI),
-            () -> new CosmicStormEvent(upgradesUI),
-            () -> new DerelictShipEvent(upgradesUI),
-            () -> new EngineFailureEvent(upgradesUI),
-            () -> new FriendlyTraderEvent(upgradesUI),
-            () -> new RadiantNebulaEvent(upgradesUI),
-            () -> new SpaceParasitesEvent(upgradesUI),
-            () -> new AbandonedStationEvent(upgradesUI),
-            () -> new SolarFlareEvent(upgradesUI),
-            () -> new PirateAmbushEvent(upgradesUI),
-            () -> new SpaceGardenEvent(upgradesUI)
-    );
-
     public UIManager(Inventory inventory, Player player, GameScreen gameScreen, Universe universe) {
         this.inventory = inventory;
         this.player = player;
@@ -104,53 +73,20 @@ public class UIManager {
         this.inventoryUI = new InventoryUI(SpaceGame.getInstance(), player);
         this.upgradesUI = new UpgradesUI(player,player.getInventory(), universe, inventoryUI);
         this.scannerUI = new ScannerUI(player, universe);
+        Journal journal = gameScreen.getWorldManager().getJournal();
+        inventoryUI.setJournal(journal);
+        upgradesUI.setJournal(journal);
         scannerUI.setDestinationListener(idx -> {
-            //fuel cost logic for system
-            float cost = 25f;
-            if (player.getFuel() < cost) {
-                System.out.println("Not enough fuel!");
+            if (!jumpTo(idx)) {
                 return;
             }
-            player.setFuel(player.getFuel() - cost);
-
-            gameScreen.checkGameOver();
-
-            //actually change
-            gameScreen.getWorldManager().travelTo(idx);
-
-            systemJumpCount++;
-
-            Event e = null;
-            if (systemJumpCount == 20) {
-                e = new StoryEvent1();
-            }
-            else if (systemJumpCount == 40) {
-                e = new StoryEvent2();
-            }
-
-            else if (systemJumpCount == 60) {
-                e = new StoryEvent3();
-            }
-
-            else if (systemJumpCount == 80) {
-                e = new StoryEvent4();
-            }
 
-            else if (systemJumpCount % 3 == 0) {
-                //every 3d  jump
-                e = negativeEvents.get(rand.nextInt(negativeEvents.size())).get();
-            }
-            if (e != null) {
-                gameScreen.getEventManager().setCurrentEvent(e);
-                gameScreen.getEventManager().showCurrentEvent();
-                gameScreen.setPaused(true);
-                return;
+            //close scanner unless the jump brought up an event
+            if (!gameScreen.getEventManager().isEventActive()) {
+                scannerUI.setVisible(false);
+                scannerOpen = false;
+                Gdx.input.setInputProcessor(uiStage);
             }
-
-            //close scanner
-            scannerUI.setVisible(false);
-            scannerOpen = false;
-            Gdx.input.setInputProcessor(uiStage);
         });
         
         inventoryUI.setCloseButtonListener(new InventoryUI.CloseButtonListener() {
@@ -181,6 +117,35 @@ public class UIManager {
     }
         
     
+    // Jumps to one of the scanner's destinations and shows the event the jump triggers, if any
+    // Returns false when the tank could not pay for the jump
+    public boolean jumpTo(int idx) {
+        Journal journal = gameScreen.getWorldManager().getJournal();
+        journal.recordJump(idx);
+        //fuel cost logic for system
+        if (!GameRules.payJump(player)) {
+            System.out.println("Not enough fuel!");
+            return false;
+        }
+
+        gameScreen.checkGameOver();
+
+        //actually change
+        gameScreen.getWorldManager().travelTo(idx);
+
+        systemJumpCount++;
+
+        // The catalogue's schedule decides what the jump brings, story events, random ones or nothing
+        Event e = scheduler.eventAfterJump(systemJumpCount, gameScreen.getPlaySeconds(),
+                universe.getCurrentPosition().getTier(), player, upgradesUI, universe.getEventRandom());
+        if (e != null) {
+            gameScreen.getEventManager().setCurrentEvent(e);
+            gameScreen.getEventManager().showCurrentEvent();
+            gameScreen.setPaused(true);
+        }
+        return true;
+    }
+
     private void initializeUI() {
         this.uiBatch = new SpriteBatch();
         this.uiStage = new Stage(new ScreenViewport());
@@ -194,6 +159,7 @@ public class UIManager {
         createInventoryButton();
         createUpgradesButton();
         createScannerButton();
+        statusText = new ShowStuff(uiStage);
     }
     
 
@@ -325,6 +291,7 @@ public class UIManager {
         if (backgroundAtlas != null) backgroundAtlas.dispose();
         if (upgrades != null) upgrades.dispose();
         if (upgradesUI != null) upgradesUI.dispose();
+        if (scannerUI != null) scannerUI.dispose();
     }
     
     // Getters and state management
@@ -341,6 +308,23 @@ public class UIManager {
         return inventoryOpen || showUpgradesGUI || scannerOpen;
     }
     
+    // Called through the player's change listener
+    public void onPlayerChanged() {
+        inventoryUI.onPlayerChanged();
+    }
+
+    public InventoryUI getInventoryUI() {
+        return inventoryUI;
+    }
+
+    public void showStatus(String text) {
+        statusText.show(text, 10, uiStage.getHeight() - 50);
+    }
+
+    public void hideStatus() {
+        statusText.hide();
+    }
+
     public void toggleInventory() {
         inventoryOpen = !inventoryOpen;
         inventoryUI.setVisible(inventoryOpen);
@@ -10,11 +10,8 @@ import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.mygdx.audio.AudioManager;
-import com.mygdx.events.planet_events.AggressiveAlienEncounterEvent;
-import com.mygdx.events.planet_events.HumanoidAlienEncounterEvent;
-import com.mygdx.events.planet_events.PlanetLandingEvent;
-import com.mygdx.events.story_events.StoryEvent0;
 import com.mygdx.helpers.ScreenType;
+import com.mygdx.managers.AutoTravel;
 import com.mygdx.managers.EventManager;
 import com.mygdx.managers.GameWorldManager;
 import com.mygdx.managers.InputHandler;
@@ -28,11 +25,11 @@ import com.mygdx.objects.Player;
 import com.mygdx.objects.StarSystem;
 import com.mygdx.objects.Universe;
 import com.mygdx.game.SpaceGame;
+import com.mygdx.sim.DeathCause;
+import com.mygdx.sim.GameRules;
 import com.mygdx.ui.EventUI;
-import java.util.Random;
 
 import javax.swing.event.ChangeEvent;
-import com.mygdx.objects.Alien;
 
 
 public class GameScreen extends ScreenAdapter implements EventUI.EventCompletionListener {
@@ -43,13 +40,15 @@ public class GameScreen extends ScreenAdapter implements EventUI.EventCompletion
     private UIManager uiManager;
     private InputHandler inputHandler;
     private EventManager eventManager;
+    private AutoTravel autoTravel;
     private boolean paused = false;
     private boolean systemView = true;
+    // Seconds played while not paused, time triggers of the event schedule read it
+    private float playSeconds = 0;
 
 
     private int starJumpCount = 0;
     private Skin skin;
-    private static final Random rand = new Random();
 
     public GameScreen(OrthographicCamera camera) {
         this.camera = camera;
@@ -68,16 +67,24 @@ public class GameScreen extends ScreenAdapter implements EventUI.EventCompletion
         worldManager = new GameWorldManager(camera, this);
         Universe universe = worldManager.getUniverse();
         playerManager = new PlayerManager(player, inventory, worldManager.getWorld());
-        eventManager = new EventManager(player, this);
+        eventManager = new EventManager(player, this, universe.getEventRandom());
+        eventManager.setJournal(worldManager.getJournal());
         renderManager = new RenderManager(camera, playerManager, worldManager,eventManager);
         uiManager = new UIManager(inventory, player, this, universe);
         
+        autoTravel = new AutoTravel(this, uiManager, eventManager, player, universe);
         inputHandler = new InputHandler(this, uiManager, eventManager);
 
+        // Stats and inventory only redraw their text when the player actually changes
+        player.setChangeListener(p -> {
+            playerManager.onPlayerChanged();
+            uiManager.onPlayerChanged();
+        });
+
         skin = new Skin(Gdx.files.internal("uiskin.json"));
         
         // Call the first story event as soon as the game starts
-        Event startEvent = new StoryEvent0();
+        Event startEvent = GameRules.openingEvent();
         eventManager.setCurrentEvent(startEvent);
         eventManager.showCurrentEvent();
         setPaused(true);
@@ -87,6 +94,12 @@ public class GameScreen extends ScreenAdapter implements EventUI.EventCompletion
     public void update() {
         if (!eventManager.isEventActive()) {
             inputHandler.handleInput();
+        } else if (autoTravel.isEnabled()) {
+            // Turbo leaves events on screen between frames, it still has to be possible to turn it off
+            inputHandler.handleAutoTravelInput();
+        }
+        if (autoTravel.isEnabled()) {
+            autoTravel.update();
         }
         if (!paused) {
             checkGameOver();
@@ -107,6 +120,9 @@ public class GameScreen extends ScreenAdapter implements EventUI.EventCompletion
 
     @Override
     public void render(float delta) {
+        if (!paused) {
+            playSeconds += delta;
+        }
         update();
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
@@ -117,67 +133,11 @@ public class GameScreen extends ScreenAdapter implements EventUI.EventCompletion
                 camera.unproject(touch);
                 int idx = renderManager.getPlanetIndexAt(touch.x, touch.y);
                 if (idx >= 0) {
-                    Planet clicked = renderManager.getCurrentSystemPlanets().get(idx);
-                if (clicked.getType() == Planet.Type.Star) {
-                    System.out.println("This is a star planet!");
-                    System.out.println("Not enough fuel!");
-                    System.out.println("You were lost in space");
-
-                    SpaceGame.getInstance().changeScreen(this, ScreenType.DEAD_GAME);
-                    return;
-                }else if (!clicked.getHarvest()) {
-                    float cost = 10f; //cost of travel planet
-                    if (playerManager.getPlayer().getFuel() >= cost) {
-                        playerManager.getPlayer().setFuel(playerManager.getPlayer().getFuel() - cost);
-                        renderManager.setSelectedBackgroundType(clicked.getType());
-                        // (Commented out in order to fix events) worldManager.travelTo(idx);
-                        systemView = false;
-                        camera.position.set(
-                                SpaceGame.getInstance().getWindowWidth()/2f,
-                                SpaceGame.getInstance().getWindowHeight()/2f,
-                                0
-                        );
-                        camera.update();
-                        
-                        // Calls the planet landing event or alien encounter event when a planet is clicked on
-                        if (!eventManager.isEventActive()) {
-                            Event planetEvent;
-                            
-                            if (clicked.getHasAlien()) {
-                                // Create a random alien type
-                                String[] alienTypes = {"Humanoid", "Aggressive Xenomorph"};
-                                String alienType = alienTypes[rand.nextInt(alienTypes.length)];
-                                Alien alien = new Alien(alienType);
-                                
-                                // Create the appropriate alien event based on type
-                                if (alienType.equals("Humanoid")) {
-                                    planetEvent = new HumanoidAlienEncounterEvent(alien, clicked);
-                                } else {
-                                    planetEvent = new AggressiveAlienEncounterEvent(alien, clicked);
-                                }
-                            } else {
-                                // If the planet has no alien then trigger planet landing event
-                                planetEvent = new PlanetLandingEvent(clicked);
-                            }
-                            
-                            eventManager.setCurrentEvent(planetEvent);
-                            eventManager.showCurrentEvent();
-                            setPaused(true);
-                            uiManager.closeInventory();
-                            uiManager.closeUpgrades();
-                        }
-                    } else {
-                        System.out.println("Not enough fuel!");
-                        System.out.println("You were lost in space");
-
-                        SpaceGame.getInstance().changeScreen(this, ScreenType.DEAD_GAME);
+                    if (!landOn(idx)) {
                         return;
                     }
-                } else {
-                    System.out.println("This planet has already been visited and harvested!");
                 }
             }
-        }
 
             renderManager.renderSystemView();
             uiManager.render(delta);
@@ -201,6 +161,48 @@ public class GameScreen extends ScreenAdapter implements EventUI.EventCompletion
         }
     }
 
+    // Lands on a planet of the current system and shows what waits there, like clicking it does
+    // Returns false when the player died trying, the screen has already moved on to the death screen then
+    public boolean landOn(int idx) {
+        Planet clicked = worldManager.getUniverse().getCurrentPosition().getPlanets()[idx];
+        if (clicked.getHarvest()) {
+            System.out.println("This planet has already been visited and harvested!");
+            return true;
+        }
+        worldManager.getJournal().recordLanding(idx);
+        // Pays the landing fuel, or says why the player died trying
+        DeathCause death = GameRules.land(playerManager.getPlayer(), clicked);
+        if (death != null) {
+            System.out.println(death.getMessage());
+            worldManager.saveJournal();
+
+            SpaceGame.getInstance().changeScreen(this, ScreenType.DEAD_GAME);
+            return false;
+        }
+        renderManager.setSelectedBackgroundType(clicked.getType());
+        // (Commented out in order to fix events) worldManager.travelTo(idx);
+        systemView = false;
+        camera.position.set(
+                SpaceGame.getInstance().getWindowWidth()/2f,
+                SpaceGame.getInstance().getWindowHeight()/2f,
+                0
+        );
+        camera.update();
+
+        // Calls the planet landing event or alien encounter event when a planet is clicked on
+        if (!eventManager.isEventActive()) {
+            // Alien encounter if the planet has one, otherwise a plain landing
+            Event planetEvent = GameRules.landingEvent(clicked, worldManager.getUniverse().getEventRandom());
+
+            eventManager.setCurrentEvent(planetEvent);
+            eventManager.showCurrentEvent();
+            setPaused(true);
+            uiManager.closeInventory();
+            uiManager.closeUpgrades();
+        }
+        return true;
+    }
+
     @Override
     public void resize(int width, int height) {
         camera.setToOrtho(false, width, height);
@@ -260,6 +262,10 @@ public class GameScreen extends ScreenAdapter implements EventUI.EventCompletion
         return eventManager;
     }
 
+    public float getPlaySeconds() {
+        return playSeconds;
+    }
+
     public void setPaused(boolean paused) {
         this.paused = paused;
     }
@@ -268,29 +274,21 @@ public class GameScreen extends ScreenAdapter implements EventUI.EventCompletion
         this.paused = !this.paused;
     }
 
+    // Turbo mode for playtesters, see AutoTravel
+    public void toggleAutoTravel() {
+        autoTravel.toggle();
+    }
+
     public GameWorldManager getWorldManager() {
         return worldManager;
     }
 
     public void checkGameOver() {
-        Player player = playerManager.getPlayer();
-        
-        if (player.getHealth() <= 0) {
-            System.out.println("Hull integrity critical! Game over.");
+        DeathCause death = GameRules.checkDeath(playerManager.getPlayer());
+        if (death != null) {
+            System.out.println(death.getMessage());
+            worldManager.saveJournal();
             SpaceGame.getInstance().changeScreen(this, ScreenType.DEAD_GAME);
-            return;
-        }
-        
-        if (player.getFuel() <= 0) {
-            System.out.println("Out of fuel! Stranded in space.");
-            SpaceGame.getInstance().changeScreen(this, ScreenType.DEAD_GAME);
-            return;
-        }
-        
-        if (player.getOxygen() <= 0) {
-            System.out.println("Life support failure! Game over.");
-            SpaceGame.getInstance().changeScreen(this, ScreenType.DEAD_GAME);
-            return;
         }
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -25,6 +25,12 @@ import com.mygdx.helpers.FancyFontHelper;
 import com.mygdx.objects.Event;
 import com.mygdx.objects.Player;
 import com.mygdx.game.SpaceGame;
+import com.mygdx.sim.ChoicePreview;
+import com.mygdx.sim.Journal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 
 /**
@@ -41,7 +47,12 @@ public class EventUI {
     private Player player;
     private boolean isVisible = false;
     private EventCompletionListener completionListener;
+    private Journal journal;
     private ObjectMap<TextButton, Drawable> originalButtonBackgrounds = new ObjectMap<>();
+    // Expected outcome shown next to each choice, filled in from render once the preview is done
+    private ChoicePreview choicePreview;
+    private CompletableFuture<List<ChoicePreview.Outcome>> pendingPreview;
+    private List<Label> previewLabels = new ArrayList<>();
 
     // Colours for styling
     private final Color TITLE_COLOR = new Color(0.9f, 0.6f, 0.2f, 1f); // Gold/amber color
@@ -50,6 +61,7 @@ public class EventUI {
     private final Color BUTTON_HOVER_COLOR = new Color(0.3f, 0.5f, 0.9f, 1f); // Lighter blue
     private final Color SUCCESS_COLOR = new Color(0.2f, 0.8f, 0.2f, 1f); // Green
     private final Color FAILURE_COLOR = new Color(0.8f, 0.2f, 0.2f, 1f); // Red
+    private final Color PREVIEW_COLOR = new Color(0.6f, 0.7f, 0.9f, 1f); // Pale blue
 
      // Interface for notifying when an event is completed.     
     public interface EventCompletionListener {
@@ -116,6 +128,8 @@ public class EventUI {
         dialogBox.add(descLabel).width(windowWidth * 0.7f).pad(20).expandX().fillX().row();
 
         choicesTable = new Table();
+        previewLabels.clear();
+        pendingPreview = choicePreview != null ? choicePreview.preview(event, player) : null;
         for (int i = 0; i < event.getChoices().size(); i++) {
             final int choiceIndex = i;
             Event.Choice choice = event.getChoices().get(i);
@@ -156,7 +170,15 @@ public class EventUI {
                 }
             });
 
-            choicesTable.add(choiceButton).pad(10).expandX().fillX().row();
+            choicesTable.add(choiceButton).pad(10).expandX().fillX();
+            if (pendingPreview != null) {
+                BitmapFont previewFont = FancyFontHelper.getInstance().getFont(PREVIEW_COLOR, 16);
+                Label previewLabel = new Label("...", new Label.LabelStyle(previewFont, PREVIEW_COLOR));
+                previewLabel.setWrap(true);
+                previewLabels.add(previewLabel);
+                choicesTable.add(previewLabel).width(windowWidth * 0.25f).pad(10);
+            }
+            choicesTable.row();
         }
 
         dialogBox.add(choicesTable).pad(20).expandX().fillX();
@@ -209,11 +231,40 @@ public class EventUI {
         return style;
     }
 
+    public void setJournal(Journal journal) {
+        this.journal = journal;
+    }
+
+    // Shows the expected outcome of each choice next to its button, null turns it off
+    public void setChoicePreview(ChoicePreview choicePreview) {
+        this.choicePreview = choicePreview;
+    }
+
+    // Fills in the preview labels once the background work is done, never waits for it
+    private void updatePreview() {
+        if (pendingPreview == null || !pendingPreview.isDone()) return;
+        if (pendingPreview.isCompletedExceptionally()) {
+            System.out.println("Could not preview choices of " + (currentEvent != null ? currentEvent.getTitle() : "event"));
+            pendingPreview = null;
+            for (Label label : previewLabels) label.setText("");
+            return;
+        }
+        List<ChoicePreview.Outcome> outcomes = pendingPreview.getNow(null);
+        pendingPreview = null;
+        if (outcomes == null) return;
+        for (int i = 0; i < previewLabels.size() && i < outcomes.size(); i++) {
+            previewLabels.get(i).setText(outcomes.get(i).toString());
+        }
+    }
+
     private void handleChoice(int choiceIndex) {
         if (currentEvent == null || player == null) return; 
 
+        if (journal != null) {
+            journal.recordChoice(choiceIndex);
+        }
         Event.Choice choice = currentEvent.getChoices().get(choiceIndex);
-        boolean success = choice.execute(player);
+        boolean success = choice.execute(player, currentEvent.getRandom());
         String outcomeMessage = success ? currentEvent.getSuccessMessage() : currentEvent.getFailureMessage();
 
         clearChoiceUI();
@@ -223,6 +274,8 @@ public class EventUI {
     
      // Clears the choices table and resets stored button backgrounds.
     private void clearChoiceUI() {
+        pendingPreview = null;
+        previewLabels.clear();
         choicesTable.clear(); // Clear the table holding previous buttons
         originalButtonBackgrounds.clear(); // Clear stored backgrounds
     }
@@ -327,23 +380,33 @@ public class EventUI {
 
         mainTable.addAction(Actions.sequence(
                 Actions.fadeOut(0.3f),
-                Actions.run(() -> {
-                    mainTable.clearActions();
-                    if (choicesTable != null) {
-                        choicesTable.clear();
-                    }
-                    mainTable.clear();
-                    currentEvent = null;
-                    setVisible(false);
-                    originalButtonBackgrounds.clear(); // Clear stored backgrounds on hide
+                Actions.run(this::finishHide)
+        ));
+    }
 
-                    mainTable.getColor().a = 1f;
+    // Takes a choice and closes the window straight away, the way a click and Continue would without the fade
+    // Used by AutoTravel, which resolves several events in one frame
+    public void resolveNow(int choiceIndex) {
+        if (!isVisible || currentEvent == null) return;
+        handleChoice(choiceIndex);
+        finishHide();
+    }
 
-                    if (completionListener != null) {
-                        completionListener.onEventCompleted();
-                    }
-                })
-        ));
+    private void finishHide() {
+        mainTable.clearActions();
+        if (choicesTable != null) {
+            choicesTable.clear();
+        }
+        mainTable.clear();
+        currentEvent = null;
+        setVisible(false);
+        originalButtonBackgrounds.clear(); // Clear stored backgrounds on hide
+
+        mainTable.getColor().a = 1f;
+
+        if (completionListener != null) {
+            completionListener.onEventCompleted();
+        }
     }
 
     public boolean isVisible() {
@@ -363,6 +426,8 @@ public class EventUI {
 
     public void render() {
         if (isVisible) {
+             updatePreview();
+
              stage.getBatch().begin();
              stage.getBatch().setColor(1, 1, 1, mainTable.getColor().a);
              stage.getBatch().draw(backgroundTexture, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
@@ -27,6 +27,8 @@ import com.mygdx.helpers.FancyFontHelper;
 import com.mygdx.objects.Player;
 import com.mygdx.game.SpaceGame;
 import com.mygdx.managers.ShowStuff;
+import com.mygdx.sim.GameRules;
+import com.mygdx.sim.Journal;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -57,12 +59,15 @@ public class InventoryUI {
     private NinePatchDrawable panelBackground;
     
     private boolean isVisible = false;
+    // Set when the player changed while the grid was built, it is rebuilt on the next render
+    private boolean dirty = false;
     private String selectedItemName = null;
 
     private static final Color TITLE_COLOR = Color.WHITE;
     private static final Color TEXT_COLOR = Color.LIGHT_GRAY;
     private Map<String, TextureRegionDrawable> itemIcons = new HashMap<>();
     private int inventoryCapacity = 1;
+    private Journal journal;
 
 
     public InventoryUI(SpaceGame game, Player player) {
@@ -82,6 +87,11 @@ public class InventoryUI {
         createUI();
         loadItemIcons();
     }
+    // Items used or thrown away are written to the run's journal
+    public void setJournal(Journal journal) {
+        this.journal = journal;
+    }
+
     // Getter for inventoryCapacity
     public int getInventoryCapacity() {
         return inventoryCapacity;
@@ -205,31 +215,26 @@ public class InventoryUI {
 
     // Gets the status of the item based on its name
     private Player.Stats getStats(String itemName) {
-        if (itemName.contains("Fuel")) {
-            return Player.Stats.FUEL;
-        } else if (itemName.contains("Biomass")) {
-            return Player.Stats.OXYGEN;
-        } else if (itemName.contains("Building Materials")) {
-            return Player.Stats.HEALTH;
-        }
-        return null;
+        return GameRules.recoveryStat(itemName);
     }
 
     private int getRecoveryAmount(String itemName) {
-        // tier^2 is the recovery amount
-        // Common = 2, Uncommon = 4, Rare = 8, Legendary = 16
-        if (itemName.contains("Common")) {
-            return 2;
-        } else if (itemName.contains("Uncommon")) {
-            return 4;
-        } else if (itemName.contains("Rare")) {
-            return 8;
-        } else if (itemName.contains("Legendary")) {
-            return 16;
-        }
-        return 0;
+        return GameRules.recoveryAmount(itemName);
     }
     
+    // What the Recover button does: uses up to quantity of an item on its stat and writes it to the journal
+    // Returns how much was recovered, turbo travel tops up through here as well
+    public double recover(String itemName, int quantity) {
+        if (journal != null) {
+            journal.recordUseItem(itemName, quantity);
+        }
+        double recovered = GameRules.recover(player, itemName, quantity);
+        if (recovered > 0) {
+            System.out.println("Used " + quantity + " " + itemName + " to recover " + recovered + " of " + getStats(itemName));
+        }
+        return recovered;
+    }
+
     // Helper method to get current stat value
     private double getCurrentStatValue(Player.Stats stat) {
         if (stat == Player.Stats.FUEL) {
@@ -255,6 +260,7 @@ public class InventoryUI {
     }
     
     private void refreshInventoryGrid() {
+        dirty = false;
         inventoryTable.clear();
         Map<String, Integer> items = player.getInventory().getItems();
         System.out.println("DEBUG: Inventory items: " + items);
@@ -459,36 +465,7 @@ public class InventoryUI {
                         return;
                     }
 
-                    int totalPossibleRecovery = getRecoveryAmount(itemName) * quantity[0];
-                    double actualRecovery = Math.min(totalPossibleRecovery, maxCapacity - currentStat);
-
-                    if (actualRecovery > 0) {
-                        player.updateStat(stat, actualRecovery);
-                        System.out.println("Used " + quantity[0] + " " + itemName + " to recover " + actualRecovery + " of " + stat);
-                        System.out.println("DEBUG: Afterrecovery " + systemType + ": " + currentStat + " / " + maxCapacity + "=" + (currentStat / maxCapacity) * 100 + "%");
-                        try {
-                            if (player != null) {
-                                double newValue = 0;
-                                double maxValue = 0;
-                                // the variable differ from the one above because it is just to check the value after recovery
-                                if (stat == Player.Stats.FUEL) {
-                                    newValue = player.getFuel();
-                                    maxValue = player.getFuelLim();
-                                } else if (stat == Player.Stats.OXYGEN) {
-                                    newValue = player.getOxygen();
-                                    maxValue = player.getOxygenLim();
-                                } else if (stat == Player.Stats.HEALTH) {
-                                    newValue = player.getHealth();
-                                    maxValue = player.getHealthLim();
-                                }
-                                
-                                System.out.println("DEBUG: After recovery - " + systemType + ": " + newValue + " / " + maxValue + "=" + (newValue / maxValue) * 100 + "%");
-                            }
-                        } catch (Exception e) {
-                            System.out.println("Error in debug output: " + e.getMessage());
-                        }
-                        player.getInventory().removeItem(itemName, quantity[0]);
-                    }
+                    recover(itemName, quantity[0]);
 
                     dialog.hide();
                     selectedItemName = null;
@@ -521,6 +498,9 @@ public class InventoryUI {
             removeButton.addListener(new ClickListener() {
                 @Override
                 public void clicked(InputEvent event, float x, float y) {
+                    if (journal != null) {
+                        journal.recordRemoveItem(itemName, quantity[0]);
+                    }
                     player.getInventory().removeItem(itemName, quantity[0]);
                     dialog.hide();
                     selectedItemName = null;
@@ -564,8 +544,13 @@ public class InventoryUI {
         }
     }
     
+    public void onPlayerChanged() {
+        dirty = true;
+    }
+    
     public void render() {
         if (isVisible) {
+            if (dirty) refreshInventoryGrid();
             // Draw full-screen darkening background
             stage.getBatch().begin();
             stage.getBatch().setColor(1, 1, 1, mainTable.getColor().a);
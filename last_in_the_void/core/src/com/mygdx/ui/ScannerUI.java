@@ -16,6 +16,7 @@ import com.badlogic.gdx.scenes.scene2d.utils.NinePatchDrawable;
 import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.mygdx.objects.Player;
+import com.mygdx.objects.RoutePlanner;
 import com.mygdx.objects.StarSystem;
 import com.mygdx.objects.Universe;
 
@@ -41,6 +42,8 @@ public class ScannerUI {
     private Texture backgroundTexture;
     private NinePatchDrawable panelBackground;
     private ObjectMap<TextButton, Drawable> originalButtonBackgrounds = new ObjectMap<>();
+    // Shared by every rebuild of the destination table, disposed with the UI
+    private BitmapFont headerFont;
 
     private boolean isVisible = false; // Weather the scanner menu is active or not
 
@@ -48,6 +51,8 @@ public class ScannerUI {
     private static final Color TEXT_COLOR = Color.LIGHT_GRAY;
     private static final Color BUTTON_COLOR = new Color(0.2f, 0.4f, 0.6f, 1f);
     private static final Color BUTTON_HOVER_COLOR = new Color(0.3f, 0.6f, 0.9f, 1f);
+    // Landings a trip to a destination is planned with, one to harvest when the ship gets there
+    private static final int PLANNED_LANDINGS = 1;
 
     public ScannerUI(Player player, Universe universe) {
         this.player = player;
@@ -117,8 +122,7 @@ public class ScannerUI {
         scannerTable.defaults().pad(5).left();
 
         int fontSize = 13;
-        BitmapFont headerFont = new BitmapFont(); 
-        Label.LabelStyle headerStyle = new Label.LabelStyle(headerFont, TITLE_COLOR);
+        headerFont = new BitmapFont();
 
         float width = 400;
         
@@ -139,17 +143,27 @@ public class ScannerUI {
         scannerTable.clearChildren();
 
         float width = 400;
-        BitmapFont headerFont = new BitmapFont(); 
         Label.LabelStyle headerStyle = new Label.LabelStyle(headerFont, TITLE_COLOR);
 
-        scannerTable.add(new Label("Scanner", headerStyle)).width(width * 0.25f).padBottom(10).padLeft(10);
-        scannerTable.add(new Label("Location", headerStyle)).width(width * 0.25f).padBottom(10);
-        scannerTable.add(new Label("Details", headerStyle)).width(width * 0.25f).padBottom(10);
-        scannerTable.add(new Label("Action", headerStyle)).width(width * 0.25f).padBottom(10);
+        // Routes come from the planner's cache, they are only recomputed after a jump or a fuel upgrade
+        // A system only counts as reachable if there is fuel left to land on one of its planets
+        RoutePlanner planner = universe.getRoutePlanner();
+        int currentId = universe.getCurrentSystemId();
+        int rangeJumps = Math.max(0, RoutePlanner.maxJumps(player.getFuel(), PLANNED_LANDINGS));
+        int reachable = planner.countReachable(currentId, player.getFuel(), player.getFuelLim(), PLANNED_LANDINGS);
+        scannerTable.add(new Label("Fuel range: " + rangeJumps + " jumps, " + reachable + " known systems reachable", skin)).colspan(5).padLeft(10).padBottom(10);
+        scannerTable.row();
+
+        scannerTable.add(new Label("Scanner", headerStyle)).width(width * 0.2f).padBottom(10).padLeft(10);
+        scannerTable.add(new Label("Location", headerStyle)).width(width * 0.2f).padBottom(10);
+        scannerTable.add(new Label("Details", headerStyle)).width(width * 0.2f).padBottom(10);
+        scannerTable.add(new Label("Route", headerStyle)).width(width * 0.2f).padBottom(10);
+        scannerTable.add(new Label("Action", headerStyle)).width(width * 0.2f).padBottom(10);
         scannerTable.row();
 
         // Stores all possible star systems player can travel to
         StarSystem[] destinations = universe.getDestinations();
+        int[] destinationIds = universe.getDestinationIds();
 
         for (int i = 0; i < destinations.length; i++) {
             StarSystem system = destinations[i];
@@ -157,6 +171,11 @@ public class ScannerUI {
             Label systemName = new Label(system.getName(), skin);
             Label location = new Label("Tier " + system.getTier(), skin);
             Label details = new Label(system.getNumPlanets()-1 + " planets", skin);
+            int jumps = planner.jumpsTo(currentId, destinationIds[i], player.getFuelLim());
+            String routeText = !planner.canReach(currentId, destinationIds[i], player.getFuel(), player.getFuelLim(), PLANNED_LANDINGS)
+                    ? "Out of range"
+                    : "Reachable in " + jumps + (jumps == 1 ? " jump" : " jumps");
+            Label route = new Label(routeText, skin);
             TextButton chooseButton = new TextButton("Choose", skin);
 
             final int destinationIndex = i;
@@ -172,10 +191,11 @@ public class ScannerUI {
                 }
             });
 
-            scannerTable.add(systemName).width(width * 0.25f);
-            scannerTable.add(location).width(width * 0.25f);
-            scannerTable.add(details).width(width * 0.25f);
-            scannerTable.add(chooseButton).width(width * 0.25f);
+            scannerTable.add(systemName).width(width * 0.2f);
+            scannerTable.add(location).width(width * 0.2f);
+            scannerTable.add(details).width(width * 0.2f);
+            scannerTable.add(route).width(width * 0.2f);
+            scannerTable.add(chooseButton).width(width * 0.2f);
             scannerTable.row();
         }
     }
@@ -210,6 +230,8 @@ public class ScannerUI {
         mainTable.setVisible(visible);
 
         if (visible) {
+            // Fuel may have changed since the table was built, the routes themselves are cached
+            getAllDestinationsInTable();
             Gdx.input.setInputProcessor(stage);
         
         }
@@ -218,6 +240,7 @@ public class ScannerUI {
     public void dispose() {
         stage.dispose();
         backgroundTexture.dispose();
+        headerFont.dispose();
         if (panelBackground != null && panelBackground.getPatch() != null) {
             try {
                 panelBackground.getPatch().getTexture().dispose();
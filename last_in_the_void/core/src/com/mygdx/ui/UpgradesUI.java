@@ -20,8 +20,10 @@ import com.mygdx.managers.AssetManager;
 import com.mygdx.objects.Inventory;
 import com.mygdx.objects.Player;
 import com.mygdx.objects.Universe;
+import com.mygdx.objects.UpgradeLevels;
 import com.mygdx.objects.Upgrades;
-import java.util.HashMap;
+import com.mygdx.sim.Journal;
+import com.mygdx.sim.UpgradeChain;
 import java.util.Map;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 
@@ -29,7 +31,7 @@ import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 /**
  * Handles display of the upgrades menu
  */
-public class UpgradesUI {
+public class UpgradesUI implements UpgradeLevels {
 
     // UI Components 
     private Stage stage;
@@ -66,6 +68,7 @@ public class UpgradesUI {
     private static final Color BUTTON_HOVER_COLOR = new Color(0.3f, 0.6f, 0.9f, 1f);
 
     private InventoryUI inventoryUI;
+    private Journal journal;
     private final AssetManager assetManager;
 
     
@@ -153,7 +156,10 @@ public class UpgradesUI {
     }
     
     // Creates a series of upgrades, so when one upgrade is purchased the next level becomes available 
-    private void createUpgradeChain(String[] names, String[] resources, String[] effects, Runnable upgradeAction) {
+    private void createUpgradeChain(UpgradeChain chain, Runnable upgradeAction) {
+        String[] names = chain.getNames();
+        String[] resources = chain.getResources();
+        String[] effects = chain.getEffects();
         int fontSize = 8;
         BitmapFont font = FancyFontHelper.getInstance().getFont(TEXT_COLOR, fontSize);
         Label.LabelStyle labelStyle = new Label.LabelStyle(font, TEXT_COLOR);
@@ -178,11 +184,13 @@ public class UpgradesUI {
             @Override
             public void clicked(InputEvent event, float x, float y) {
                 String currentUpgradeName = names[levelToShow[0]];
-                String requiredResources = resources[levelToShow[0]];
-                Map<String, Integer> resourceMap = parseResourceString(requiredResources);
+                Map<String, Integer> resourceMap = chain.getCost(levelToShow[0]);
                 
                 Upgrades upgrade = new Upgrades(inventory, resourceMap, currentUpgradeName); 
                 if (upgrade.canAffordUpgrade()) {
+                    if (journal != null) {
+                        journal.recordBuy(chain);
+                    }
                     upgrade.applyUpgrade();
                     if (upgradeAction != null) {
                         upgradeAction.run();
@@ -281,19 +289,7 @@ public class UpgradesUI {
 
         // Fuel capacity
         createUpgradeChain(
-            new String[]{"Fuel Capacity I", "Fuel Capacity II", "Fuel Capacity III", "Fuel Capacity IV"},
-            new String[]{
-            "10 Common Building Materials, 20 Common Fuel",
-            "10 Uncommon Building Materials, 15 Uncommon Fuel",
-            "10 Rare Building Materials, 10 Rare Fuel",
-            "10 Legendary Building Materials, 10 Legendary Fuel"
-            },
-            new String[]{
-            "Double Fuel Capacity",
-            "Double Fuel Capacity",
-            "Double Fuel Capacity",
-            "Double Fuel Capacity"
-            },
+            UpgradeChain.FUEL,
             new Runnable() {
             @Override
             public void run() {
@@ -308,19 +304,7 @@ public class UpgradesUI {
         );
             // Hull integrity
             createUpgradeChain(
-                new String[]{"Health I", "Health II", "Health III", "Health IV"},
-                new String[]{
-                "20 Common Building Materials, 20 Common Biomass", 
-                "15 Uncommon Building Materials, 15 Uncommon Biomass",
-                "10 Rare Building Materials, 10 Rare Biomass",
-                "10 Legendary Building Materials, 10 Legendary Biomass"
-                },
-                new String[]{
-                "Double Health",
-                "Double Health",
-                "Double Health",
-                "Double Health"
-                },
+                UpgradeChain.HEALTH,
                 new Runnable() {
                 @Override
                 public void run() {
@@ -336,19 +320,7 @@ public class UpgradesUI {
 
         // Life support
         createUpgradeChain(
-                new String[]{"Oxygen I", "Oxygen II", "Oxygen III", "Oxygen IV"},
-                new String[]{
-                "10 Common Building Materials, 20 Common Biomass",
-                "10 Uncommon Building Materials, 15 Uncommon Biomass",
-                "10 Rare Building Materials, 10 Rare Biomass",
-                "10 Legendary Building Materials, 10 Legendary Biomass"
-                },
-                new String[]{
-                "Double Oxygen",
-                "Double Oxygen",
-                "Double Oxygen",
-                "Double Oxygen"
-                },
+                UpgradeChain.OXYGEN,
                 new Runnable() {
                 @Override
                 public void run() {
@@ -364,24 +336,7 @@ public class UpgradesUI {
 
         // System scanner
         createUpgradeChain(
-            new String[]{
-                "Destination Scanner I",
-                "Destination Scanner II",
-                "Advanced Navigation",
-                "Precision Landing System"
-            },
-            new String[]{
-                "20 Common Building Materials",
-                "15 Uncommon Building Materials",
-                "10 Rare Building Materials",
-                "10 Legendary Building Materials"
-            },
-            new String[]{
-                "Choose between 1 locations",
-                "Choose between 2 locations",
-                "Choose between 3 locations",
-                "Choose between 4 locations"
-            },
+            UpgradeChain.DESTINATION,
             new Runnable() {
                 @Override
                 public void run() {
@@ -396,24 +351,7 @@ public class UpgradesUI {
 );      
         // Inventory capacity
         createUpgradeChain(
-            new String[]{
-            "Inventory Capacity I",
-            "Inventory Capacity II",
-            "Inventory Capacity III",
-            "Inventory Capacity IV"
-            },
-            new String[]{
-            "60 Common Building Materials",
-            "50 Uncommon Building Materials",
-            "40 Rare Building Materials",
-            "30 Legendary Building Materials"
-            },
-            new String[]{
-            "More Inventory Space",
-            "More Inventory Space", 
-            "More Inventory Space",
-            "More Inventory Space"
-            },
+            UpgradeChain.INVENTORY,
             new Runnable() {
             @Override
             public void run() {
@@ -430,24 +368,7 @@ public class UpgradesUI {
 
         // Amount of resources that can be harvested
         createUpgradeChain(
-            new String[]{
-                "Resources Level I",
-                "Resources Level II",
-                "Resources Level III",
-                
-            },
-            new String[]{
-                "50 Common Building Materials",
-                "40 Uncommon Building Materials",
-                "30 Rare Building Materials",
-                
-            },
-            new String[]{
-                "+1 resource level",
-                "+1 resource level", 
-                "+1 resource level"
-                
-            },
+            UpgradeChain.RESOURCES,
             new Runnable() {
                 @Override
                 public void run() {
@@ -464,27 +385,6 @@ public class UpgradesUI {
 
         
     }
-    // Get the the amount and resources name from the string in possibleUpgrades
-    private Map<String, Integer> parseResourceString(String resourceString) {
-    Map<String, Integer> resources = new HashMap<>();
-    String[] parts = resourceString.split(", ");
-    for (String part : parts) {
-        String[] requirementFormat = part.split(" ", 2);
-        if (requirementFormat.length != 2) {
-            System.out.println("Invalid resource format: " + part);
-            continue;
-        }
-        try {
-            int quantity = Integer.parseInt(requirementFormat[0]);
-            String itemName = requirementFormat[1];
-            resources.put(itemName, quantity);
-        } catch (NumberFormatException e) {
-            System.out.println("Invalid quantity in resource: " + part);
-        }
-    }
-    return resources;
-}
-
     public void render() {
         if (isVisible) {
             stage.getBatch().begin();
@@ -500,30 +400,41 @@ public class UpgradesUI {
 
     // Getters and setters
 
+    @Override
     public int getDestinationLevel() {
         return destinationLevel;
     }
 
+    @Override
     public int getFuelLevel() {
         return fuelLevel;
     }
 
+    @Override
     public int getHealthLevel() {
         return healthLevel;
     }
 
+    @Override
     public int getInventoryLevel() {
         return inventoryLevel;
     }
 
+    @Override
     public int getResourcesLevel() {
         return resourcesLevel;
     }
 
+    @Override
     public int getOxygenLevel() {
         return oxygenLevel;
     }
     
+    // Purchases are written to the run's journal
+    public void setJournal(Journal journal) {
+        this.journal = journal;
+    }
+
     public void resize(int width, int height) {
         stage.getViewport().update(width, height, true);
     }
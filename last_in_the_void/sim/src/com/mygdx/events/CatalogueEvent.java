@@ -0,0 +1,69 @@
+package com.mygdx.events;
+
+import java.util.List;
+
+import com.mygdx.objects.EffectBatch;
+import com.mygdx.objects.Event;
+import com.mygdx.objects.Player;
+import com.mygdx.objects.UpgradeLevels;
+
+/**
+ * An event made from an EventTemplate. Holds nothing but the template and the upgrade levels its
+ * outcomes read, the choices are only built the first time somebody asks for them.
+ */
+public class CatalogueEvent extends Event {
+
+    private final EventTemplate template;
+    private final UpgradeLevels levels;
+
+    CatalogueEvent(EventTemplate template, UpgradeLevels levels) {
+        super(template.getTitle(), template.getDescription());
+        this.template = template;
+        this.levels = levels;
+    }
+
+    public EventTemplate getTemplate() {
+        return template;
+    }
+
+    @Override
+    public List<Choice> getChoices() {
+        if (choices.isEmpty()) {
+            for (int i = 0; i < template.getChoiceCount(); i++) {
+                choices.add(new Option(i));
+            }
+        }
+        return choices;
+    }
+
+    /**
+     * What one side of a choice would do, as a batch that is not applied yet. Rolls come from this
+     * event's stream and the outcome message is set, like taking the choice would.
+     */
+    public EffectBatch outcomeOf(int choice, boolean success) {
+        return template.run(this, choice, success, levels, random);
+    }
+
+    void setOutcomeMessage(boolean success, String message) {
+        if (success) {
+            setSuccessMessage(message);
+        } else {
+            setFailureMessage(message);
+        }
+    }
+
+    // A choice that runs the template's program for it and applies the batch in one go
+    private final class Option extends Choice {
+        private final int index;
+
+        Option(int index) {
+            super(template.textOf(index, levels), template.chanceOf(index, levels), null, null);
+            this.index = index;
+        }
+
+        @Override
+        public void apply(Player player, boolean success) {
+            outcomeOf(index, success).applyTo(player);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.mygdx.events;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.mygdx.helpers.MiniJson;
+import com.mygdx.objects.Player;
+
+/**
+ * Every random and story event of the game, read from data/events.json in the assets folder and
+ * compiled into EventTemplates once, so event text and numbers can change without recompiling.
+ * Random events keep the order of the file, GameRules picks them by index. The "storyline" section
+ * says which story event follows which, see StoryGraph, and the "schedule" section says when
+ * events are shown, see ScheduledEvent.
+ * Loaded from the classpath rather than Gdx.files so headless simulations can use it too.
+ * Other classes can get the shared instance via EventCatalogue.getInstance()
+ */
+public final class EventCatalogue {
+
+    public static final String DEFAULT_FILE = "/data/events.json";
+
+    private static EventCatalogue INSTANCE = null;
+
+    private final List<EventTemplate> randomEvents = new ArrayList<>();
+    private final Map<String, EventTemplate> byId = new LinkedHashMap<>();
+    private final Map<String, Integer> flagIds = new HashMap<>();
+    private final List<ScheduledEvent> schedule = new ArrayList<>();
+    private StoryGraph storyline = null;
+
+    // Synchronized since background threads can make events before the game does
+    public static synchronized EventCatalogue getInstance() {
+        if (INSTANCE == null)
+            INSTANCE = load(DEFAULT_FILE);
+
+        return INSTANCE;
+    }
+
+    // Reads a catalogue from the classpath, there is nothing to fall back on without one
+    public static EventCatalogue load(String resource) {
+        try (InputStream in = EventCatalogue.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Event catalogue " + resource + " not found");
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            in.transferTo(bytes);
+            return new EventCatalogue(bytes.toString(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read event catalogue " + resource + ": " + e.getMessage(), e);
+        }
+    }
+
+    public EventCatalogue(String json) {
+        Map<String, Object> root = EventTemplate.asMap(MiniJson.parse(json), "catalogue");
+        add(root, "random", EventTemplate.Kind.RANDOM);
+        add(root, "story", EventTemplate.Kind.STORY);
+        if (root.containsKey("storyline")) {
+            storyline = StoryGraph.compile(EventTemplate.asMap(root.get("storyline"), "storyline"), this);
+        }
+        if (root.containsKey("schedule")) addSchedule(EventTemplate.asList(root.get("schedule"), "schedule"));
+    }
+
+    private void add(Map<String, Object> root, String section, EventTemplate.Kind kind) {
+        if (!root.containsKey(section)) return;
+        for (Object entry : EventTemplate.asList(root.get(section), section)) {
+            EventTemplate template = EventTemplate.compile(EventTemplate.asMap(entry, "event"), kind, this::flagId);
+            if (byId.put(template.getId(), template) != null) {
+                throw new IllegalArgumentException("Event id " + template.getId() + " is used twice");
+            }
+            if (kind == EventTemplate.Kind.RANDOM) randomEvents.add(template);
+        }
+    }
+
+    // Ids are collected first so entries can require ones that come later
+    private void addSchedule(List<Object> entries) {
+        Map<String, Integer> entryIds = new HashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            String id = EventTemplate.string(EventTemplate.asMap(entries.get(i), "schedule entry"), "id");
+            if (entryIds.put(id, i) != null) {
+                throw new IllegalArgumentException("Schedule id " + id + " is used twice");
+            }
+        }
+        for (int i = 0; i < entries.size(); i++) {
+            schedule.add(ScheduledEvent.compile(i, EventTemplate.asMap(entries.get(i), "schedule entry"), entryIds, this));
+        }
+    }
+
+    public List<EventTemplate> getRandomEvents() {
+        return Collections.unmodifiableList(randomEvents);
+    }
+
+    public List<ScheduledEvent> getSchedule() {
+        return Collections.unmodifiableList(schedule);
+    }
+
+    // Null when the catalogue has no storyline
+    public StoryGraph getStoryline() {
+        return storyline;
+    }
+
+    // Template with the given id, null if there is none
+    public EventTemplate get(String id) {
+        return byId.get(id);
+    }
+
+    // Same, but a missing event is a broken catalogue
+    public EventTemplate require(String id) {
+        EventTemplate template = byId.get(id);
+        if (template == null) {
+            throw new IllegalStateException("Event catalogue has no event " + id);
+        }
+        return template;
+    }
+
+    // Id of a story flag, handed out the first time the name is seen
+    public int flagId(String flag) {
+        Integer id = flagIds.get(flag);
+        if (id != null) return id;
+        if (flagIds.size() >= Player.MAX_FLAGS) {
+            throw new IllegalArgumentException("More than " + Player.MAX_FLAGS + " story flags");
+        }
+        flagIds.put(flag, flagIds.size());
+        return flagIds.size() - 1;
+    }
+}
@@ -0,0 +1,571 @@
+package com.mygdx.events;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import com.mygdx.helpers.ResourceType;
+import com.mygdx.objects.EffectBatch;
+import com.mygdx.objects.Player;
+import com.mygdx.objects.UpgradeLevels;
+
+/**
+ * One event of the catalogue, compiled from its JSON entry once and never changed after.
+ * Every outcome is a flat int program of OP_WIDTH wide records, an opcode and up to three
+ * arguments, that point into the template's tables of amounts, item names and messages.
+ * Making an event from a template is one CatalogueEvent allocation, nothing is parsed or
+ * concatenated until a choice is shown or taken.
+ *
+ * Outcome entries in the JSON:
+ *   {"gain": "fuel", "amount": 20, "as": "fuel"}         stat up, "lose" for down
+ *   {"add": "Common Biomass", "amount": 20}             item in, "remove" for out
+ *   {"flag": "met-traders"}                             sets a story flag on the player
+ *   {"message": "Recovered {fuel} fuel"}                 {name} is an amount saved with "as"
+ *   {"coin": {"heads": [...], "tails": [...]}}          a fair coin from the event's stream
+ *   {"if": {"level": "health", "above": 2}, "then": [...], "else": [...]}
+ * Amounts are a number or an object, see Amount. Random events may also have a "weight", see Weight.
+ */
+public final class EventTemplate {
+
+    public enum Kind {
+        RANDOM,
+        STORY
+    }
+
+    // Upgrade levels outcomes can read, null levels read as the levels a new ship starts with
+    public enum Level {
+        DESTINATION(2),
+        FUEL(1),
+        HEALTH(1),
+        INVENTORY(1),
+        RESOURCES(1),
+        OXYGEN(1);
+
+        private final int start;
+
+        Level(int start) {
+            this.start = start;
+        }
+
+        public int of(UpgradeLevels levels) {
+            if (levels == null) return start;
+            switch (this) {
+                case DESTINATION: return levels.getDestinationLevel();
+                case FUEL: return levels.getFuelLevel();
+                case HEALTH: return levels.getHealthLevel();
+                case INVENTORY: return levels.getInventoryLevel();
+                case RESOURCES: return levels.getResourcesLevel();
+                default: return levels.getOxygenLevel();
+            }
+        }
+
+        static Level named(String name) {
+            return Level.valueOf(name.toUpperCase());
+        }
+    }
+
+    /**
+     * A number an outcome or a success chance works out when it is used:
+     *   15                                                  always 15
+     *   {"base": 60, "per": 5, "level": "resources"}        60 + 5 per resources level
+     *   {"base": 20, "per": -2, "level": "health", "min": 1} the same, never below 1
+     *   {"level": "health", "above": 2, "then": 3, "else": 5}
+     *   {"base": 35, "roll": 11}                            35 plus 0 to 10 from the event's stream
+     *   {"base": 20, "roll": 11, "scale": "fuel", "scalePer": 0.1}  times 1 + 0.1 per fuel level
+     */
+    static final class Amount {
+        private final double base;
+        private final double per;
+        private final Level level;
+        private final double min;
+        private final int above;
+        private final double then;
+        private final double otherwise;
+        private final boolean step;
+        private final int roll;
+        private final Level scale;
+        private final double scalePer;
+
+        private Amount(Object json) {
+            if (json instanceof Double) {
+                base = (Double) json;
+                per = 0;
+                level = null;
+                min = Double.NEGATIVE_INFINITY;
+                above = 0;
+                then = 0;
+                otherwise = 0;
+                step = false;
+                roll = 0;
+                scale = null;
+                scalePer = 0;
+                return;
+            }
+            Map<String, Object> map = asMap(json, "amount");
+            step = map.containsKey("above");
+            level = map.containsKey("level") ? Level.named(string(map, "level")) : null;
+            base = number(map, "base", 0);
+            per = number(map, "per", 0);
+            min = number(map, "min", Double.NEGATIVE_INFINITY);
+            above = (int) number(map, "above", 0);
+            then = number(map, "then", 0);
+            otherwise = number(map, "else", 0);
+            roll = (int) number(map, "roll", 0);
+            scale = map.containsKey("scale") ? Level.named(string(map, "scale")) : null;
+            scalePer = number(map, "scalePer", 0);
+            if ((step || per != 0) && level == null) {
+                throw new IllegalArgumentException("Amount " + map + " needs a level");
+            }
+        }
+
+        double eval(UpgradeLevels levels, SplittableRandom random) {
+            if (step) {
+                return level.of(levels) > above ? then : otherwise;
+            }
+            double value = base;
+            if (roll > 0) value += random.nextInt(roll);
+            if (level != null) value += per * level.of(levels);
+            if (scale != null) value *= 1 + scale.of(levels) * scalePer;
+            return Math.max(min, value);
+        }
+    }
+
+    /**
+     * How likely a random event is to be drawn against the others:
+     *   2                                                   always 2
+     *   {"base": 1, "tiers": [0.5, 1, 2], "low": {"fuel": 3}}
+     * "tiers" multiplies by the system tier starting at tier 1, the last entry also holds for higher
+     * tiers. "low" multiplies while that stat is low, see RandomEventPicker. All numbers must be above 0.
+     */
+    static final class Weight {
+        private final double base;
+        private final double[] tiers;
+        // Multiplier for each Player.Stats while it is low, 1 when the stat does not matter
+        private final double[] low = new double[Player.Stats.values().length];
+        private final int statsRead;
+
+        private Weight(Object json) {
+            Arrays.fill(low, 1);
+            if (json == null || json instanceof Double) {
+                base = json == null ? 1 : (Double) json;
+                tiers = new double[0];
+                statsRead = 0;
+            } else {
+                Map<String, Object> map = asMap(json, "weight");
+                base = number(map, "base", 1);
+                List<Object> tierList = map.containsKey("tiers") ? asList(map.get("tiers"), "tiers") : new ArrayList<>();
+                tiers = new double[tierList.size()];
+                for (int i = 0; i < tiers.length; i++) {
+                    if (!(tierList.get(i) instanceof Double)) throw new IllegalArgumentException("Expected numbers in tiers");
+                    tiers[i] = positive((Double) tierList.get(i));
+                }
+                int read = 0;
+                if (map.containsKey("low")) {
+                    for (Map.Entry<String, Object> entry : asMap(map.get("low"), "low").entrySet()) {
+                        Player.Stats stat = Player.Stats.valueOf(entry.getKey().toUpperCase());
+                        if (!(entry.getValue() instanceof Double)) throw new IllegalArgumentException("Expected a number for " + entry.getKey());
+                        low[stat.ordinal()] = positive((Double) entry.getValue());
+                        read |= 1 << stat.ordinal();
+                    }
+                }
+                statsRead = read;
+            }
+            positive(base);
+        }
+
+        double of(int tier, int lowStats) {
+            double value = base;
+            if (tiers.length > 0) value *= tiers[Math.max(0, Math.min(tier, tiers.length) - 1)];
+            for (int i = 0; i < low.length; i++) {
+                if ((lowStats & 1 << i) != 0) value *= low[i];
+            }
+            return value;
+        }
+
+        private static double positive(double value) {
+            if (value <= 0) throw new IllegalArgumentException("Weights must be above 0");
+            return value;
+        }
+    }
+
+    // Text with {name} holes filled from an outcome's saved amounts, cut up once at load
+    static final class Message {
+        private final String[] parts;
+        private final int[] slots;
+
+        private Message(String text, Map<String, Integer> names) {
+            List<String> partList = new ArrayList<>();
+            List<Integer> slotList = new ArrayList<>();
+            int from = 0;
+            int open;
+            while ((open = text.indexOf('{', from)) >= 0) {
+                int close = text.indexOf('}', open);
+                if (close < 0) break;
+                Integer slot = names.get(text.substring(open + 1, close));
+                if (slot == null) {
+                    throw new IllegalArgumentException("Message \"" + text + "\" uses an amount that was not saved before it");
+                }
+                partList.add(text.substring(from, open));
+                slotList.add(slot);
+                from = close + 1;
+            }
+            partList.add(text.substring(from));
+            parts = partList.toArray(new String[0]);
+            slots = slotList.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        String format(double[] saved) {
+            if (slots.length == 0) return parts[0];
+            StringBuilder out = new StringBuilder(parts[0]);
+            for (int i = 0; i < slots.length; i++) {
+                out.append((int) saved[slots[i]]).append(parts[i + 1]);
+            }
+            return out.toString();
+        }
+    }
+
+    // One choice: its button text, how likely it is to succeed and the program for each side
+    static final class ChoiceTemplate {
+        final String text;
+        final Amount chance;
+        final int[] success;
+        final int[] failure;
+        // Amounts each side saves for its messages
+        final int successSlots;
+        final int failureSlots;
+
+        private ChoiceTemplate(String text, Amount chance, int[] success, int successSlots, int[] failure, int failureSlots) {
+            this.text = text;
+            this.chance = chance;
+            this.success = success;
+            this.successSlots = successSlots;
+            this.failure = failure;
+            this.failureSlots = failureSlots;
+        }
+    }
+
+    static final int OP_WIDTH = 4;
+    // stat ordinal, amount, slot
+    static final int OP_GAIN = 0;
+    static final int OP_LOSE = 1;
+    // item, amount, slot
+    static final int OP_ADD_ITEM = 2;
+    static final int OP_REMOVE_ITEM = 3;
+    // flag id
+    static final int OP_FLAG = 4;
+    // message, 1 for the failure message
+    static final int OP_MESSAGE = 5;
+    // records to skip when the coin lands tails
+    static final int OP_COIN = 6;
+    // level ordinal, threshold, records to skip when the level is not above it
+    static final int OP_IF_LEVEL = 7;
+    // records to skip
+    static final int OP_JUMP = 8;
+
+    private static final int NO_SLOT = -1;
+
+    private final String id;
+    private final Kind kind;
+    private final String title;
+    private final String description;
+    private final ChoiceTemplate[] choices;
+    private final Amount[] amounts;
+    // Item types, null for names that are no resource
+    private final ResourceType[] items;
+    private final Message[] messages;
+    private final Weight weight;
+
+    private EventTemplate(String id, Kind kind, String title, String description, ChoiceTemplate[] choices,
+                          Amount[] amounts, ResourceType[] items, Message[] messages, Weight weight) {
+        this.id = id;
+        this.kind = kind;
+        this.title = title;
+        this.description = description;
+        this.choices = choices;
+        this.amounts = amounts;
+        this.items = items;
+        this.messages = messages;
+        this.weight = weight;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public int getChoiceCount() {
+        return choices.length;
+    }
+
+    // Draw weight in a system of the given tier, lowStats has bit n set while Player.Stats n is low
+    public double getWeight(int tier, int lowStats) {
+        return weight.of(tier, lowStats);
+    }
+
+    public boolean isWeightedByTier() {
+        return weight.tiers.length > 1;
+    }
+
+    // Bits of the Player.Stats the weight reads
+    public int getWeightStats() {
+        return weight.statsRead;
+    }
+
+    // A new event of this kind, outcomes read the given levels when they run
+    public CatalogueEvent create(UpgradeLevels levels) {
+        return new CatalogueEvent(this, levels);
+    }
+
+    ChoiceTemplate choice(int index) {
+        return choices[index];
+    }
+
+    // Success chance of a choice with the given levels, in percent
+    int chanceOf(int choice, UpgradeLevels levels) {
+        return (int) choices[choice].chance.eval(levels, null);
+    }
+
+    // Button text of a choice, "{chance}" is replaced with its success chance
+    String textOf(int choice, UpgradeLevels levels) {
+        String text = choices[choice].text;
+        int hole = text.indexOf("{chance}");
+        if (hole < 0) return text;
+        return text.substring(0, hole) + chanceOf(choice, levels) + text.substring(hole + "{chance}".length());
+    }
+
+    /**
+     * Runs one side of a choice into a batch that is not applied yet. Messages are handed to the
+     * event, the rolls come from the given stream.
+     */
+    EffectBatch run(CatalogueEvent event, int choice, boolean success, UpgradeLevels levels, SplittableRandom random) {
+        EffectBatch batch = new EffectBatch();
+        ChoiceTemplate template = choices[choice];
+        int[] program = success ? template.success : template.failure;
+        int slots = success ? template.successSlots : template.failureSlots;
+        double[] saved = slots == 0 ? null : new double[slots];
+
+        int pc = 0;
+        while (pc < program.length) {
+            int op = program[pc];
+            int a = program[pc + 1];
+            int b = program[pc + 2];
+            int c = program[pc + 3];
+            pc += OP_WIDTH;
+            double value;
+            switch (op) {
+                case OP_GAIN:
+                case OP_LOSE:
+                    value = amounts[b].eval(levels, random);
+                    batch.changeStat(Player.Stats.values()[a], op == OP_GAIN ? value : -value);
+                    if (c != NO_SLOT) saved[c] = value;
+                    break;
+                case OP_ADD_ITEM:
+                    value = amounts[b].eval(levels, random);
+                    if (items[a] != null) batch.changeItem(items[a], (int) value);
+                    if (c != NO_SLOT) saved[c] = value;
+                    break;
+                case OP_REMOVE_ITEM:
+                    value = amounts[b].eval(levels, random);
+                    if (items[a] != null) batch.changeItem(items[a], -(int) value);
+                    if (c != NO_SLOT) saved[c] = value;
+                    break;
+                case OP_FLAG:
+                    batch.setFlag(a);
+                    break;
+                case OP_MESSAGE:
+                    event.setOutcomeMessage(b == 0, messages[a].format(saved));
+                    break;
+                case OP_COIN:
+                    if (!random.nextBoolean()) pc += a * OP_WIDTH;
+                    break;
+                case OP_IF_LEVEL:
+                    if (Level.values()[a].of(levels) <= b) pc += c * OP_WIDTH;
+                    break;
+                case OP_JUMP:
+                    pc += a * OP_WIDTH;
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown opcode " + op + " in " + id);
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * Compiles one entry of the catalogue. Flags are shared by every event, the catalogue hands out their ids.
+     */
+    static EventTemplate compile(Map<String, Object> json, Kind kind, FlagIds flags) {
+        String id = string(json, "id");
+        try {
+            Compiler compiler = new Compiler(id, flags);
+            List<Object> choiceList = asList(json.get("choices"), "choices");
+            ChoiceTemplate[] choices = new ChoiceTemplate[choiceList.size()];
+            for (int i = 0; i < choices.length; i++) {
+                Map<String, Object> choice = asMap(choiceList.get(i), "choice");
+                Amount chance = new Amount(choice.get("chance"));
+                // Chances are shown on the buttons before anything is rolled
+                if (chance.roll > 0) {
+                    throw new IllegalArgumentException("A chance can not roll");
+                }
+                Map<String, Integer> successNames = new HashMap<>();
+                int[] success = compiler.program(optionalList(choice, "success"), false, successNames);
+                Map<String, Integer> failureNames = new HashMap<>();
+                int[] failure = compiler.program(optionalList(choice, "failure"), true, failureNames);
+                choices[i] = new ChoiceTemplate(string(choice, "text"), chance,
+                        success, successNames.size(), failure, failureNames.size());
+            }
+            return new EventTemplate(id, kind, string(json, "title"), string(json, "description"), choices,
+                    compiler.amounts.toArray(new Amount[0]), compiler.items.toArray(new ResourceType[0]),
+                    compiler.messages.toArray(new Message[0]), new Weight(json.get("weight")));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Event " + id + ": " + e.getMessage(), e);
+        }
+    }
+
+    // Hands out flag ids, one per distinct name across the catalogue
+    interface FlagIds {
+        int idOf(String flag);
+    }
+
+    private static final class Compiler {
+        private final FlagIds flags;
+        private final List<Amount> amounts = new ArrayList<>();
+        private final String event;
+        private final List<String> itemNames = new ArrayList<>();
+        private final List<ResourceType> items = new ArrayList<>();
+        private final List<Message> messages = new ArrayList<>();
+
+        Compiler(String event, FlagIds flags) {
+            this.event = event;
+            this.flags = flags;
+        }
+
+        int[] program(List<Object> effects, boolean failure, Map<String, Integer> names) {
+            List<Integer> out = new ArrayList<>();
+            emitAll(effects, failure, names, out);
+            return out.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        private void emitAll(List<Object> effects, boolean failure, Map<String, Integer> names, List<Integer> out) {
+            for (Object effect : effects) {
+                emit(asMap(effect, "effect"), failure, names, out);
+            }
+        }
+
+        private void emit(Map<String, Object> effect, boolean failure, Map<String, Integer> names, List<Integer> out) {
+            if (effect.containsKey("gain") || effect.containsKey("lose")) {
+                boolean gain = effect.containsKey("gain");
+                Player.Stats stat = Player.Stats.valueOf(string(effect, gain ? "gain" : "lose").toUpperCase());
+                record(out, gain ? OP_GAIN : OP_LOSE, stat.ordinal(), amount(effect), slot(effect, names));
+            } else if (effect.containsKey("add") || effect.containsKey("remove")) {
+                boolean add = effect.containsKey("add");
+                record(out, add ? OP_ADD_ITEM : OP_REMOVE_ITEM, item(string(effect, add ? "add" : "remove")),
+                        amount(effect), slot(effect, names));
+            } else if (effect.containsKey("flag")) {
+                record(out, OP_FLAG, flags.idOf(string(effect, "flag")), 0, 0);
+            } else if (effect.containsKey("message")) {
+                messages.add(new Message(string(effect, "message"), names));
+                record(out, OP_MESSAGE, messages.size() - 1, failure ? 1 : 0, 0);
+            } else if (effect.containsKey("coin")) {
+                Map<String, Object> coin = asMap(effect.get("coin"), "coin");
+                branch(out, OP_COIN, 0, 0, optionalList(coin, "heads"), optionalList(coin, "tails"), failure, names);
+            } else if (effect.containsKey("if")) {
+                Map<String, Object> condition = asMap(effect.get("if"), "if");
+                Level level = Level.named(string(condition, "level"));
+                int above = (int) number(condition, "above", 0);
+                branch(out, OP_IF_LEVEL, level.ordinal(), above, optionalList(effect, "then"),
+                        optionalList(effect, "else"), failure, names);
+            } else {
+                throw new IllegalArgumentException("Unknown effect " + effect);
+            }
+        }
+
+        // Branch record, the taken side, a jump over the other side, then the other side
+        private void branch(List<Integer> out, int op, int a, int b, List<Object> taken, List<Object> other,
+                            boolean failure, Map<String, Integer> names) {
+            int at = out.size();
+            record(out, op, a, b, 0);
+            emitAll(taken, failure, names, out);
+            int jumpAt = out.size();
+            record(out, OP_JUMP, 0, 0, 0);
+            int skipTaken = (out.size() - at - OP_WIDTH) / OP_WIDTH;
+            // The record to patch holds the skip in its first argument for coins and its last for levels
+            out.set(at + (op == OP_COIN ? 1 : 3), skipTaken);
+            emitAll(other, failure, names, out);
+            out.set(jumpAt + 1, (out.size() - jumpAt - OP_WIDTH) / OP_WIDTH);
+        }
+
+        private int amount(Map<String, Object> effect) {
+            amounts.add(new Amount(effect.get("amount")));
+            return amounts.size() - 1;
+        }
+
+        // Looked up once here, outcomes that name no resource skip it like the inventory would
+        private int item(String name) {
+            int index = itemNames.indexOf(name);
+            if (index >= 0) return index;
+            ResourceType type = ResourceType.find(name);
+            if (type == null) {
+                System.out.println("Event " + event + ": " + name + " is not a resource, outcomes will skip it");
+            }
+            itemNames.add(name);
+            items.add(type);
+            return items.size() - 1;
+        }
+
+        private static int slot(Map<String, Object> effect, Map<String, Integer> names) {
+            if (!effect.containsKey("as")) return NO_SLOT;
+            return names.computeIfAbsent(string(effect, "as"), name -> names.size());
+        }
+
+        private static void record(List<Integer> out, int op, int a, int b, int c) {
+            out.add(op);
+            out.add(a);
+            out.add(b);
+            out.add(c);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> asMap(Object json, String what) {
+        if (!(json instanceof Map)) throw new IllegalArgumentException("Expected an object for " + what);
+        return (Map<String, Object>) json;
+    }
+
+    @SuppressWarnings("unchecked")
+    static List<Object> asList(Object json, String what) {
+        if (!(json instanceof List)) throw new IllegalArgumentException("Expected an array for " + what);
+        return (List<Object>) json;
+    }
+
+    private static List<Object> optionalList(Map<String, Object> map, String key) {
+        return map.containsKey(key) ? asList(map.get(key), key) : new ArrayList<>();
+    }
+
+    static String string(Map<String, Object> map, String key) {
+        Object value = map.get(key);
+        if (!(value instanceof String)) throw new IllegalArgumentException("Expected text for " + key);
+        return (String) value;
+    }
+
+    private static double number(Map<String, Object> map, String key, double fallback) {
+        Object value = map.get(key);
+        if (value == null) return fallback;
+        if (!(value instanceof Double)) throw new IllegalArgumentException("Expected a number for " + key);
+        return (Double) value;
+    }
+}
@@ -0,0 +1,229 @@
+package com.mygdx.events;
+
+import java.util.List;
+import java.util.Map;
+
+import com.mygdx.objects.Player;
+
+/**
+ * One entry of the catalogue's schedule: which event to show and when. Compiled once from JSON and
+ * never changed, the per-run state (what fired, what is due next) lives in the sim's EventScheduler.
+ *
+ * Entries in the JSON:
+ *   {"id": "story-1", "event": "mysterious-ship", "atJump": 20, "priority": 10}
+ *   {"id": "random", "pool": "random", "everyJumps": 3}
+ *   {"id": "story", "pool": "story", "everyJumps": 20, "priority": 10}
+ *   {"id": "traders", "event": "friendly-traders", "everySeconds": 300, "fromSecond": 600,
+ *    "requires": ["story-1"], "flags": ["met-traders"], "cooldown": 5, "weight": 2}
+ * Exactly one trigger: atJump, everyJumps, atSecond or everySeconds. Repeating triggers start at
+ * fromJump / fromSecond, which default to one period. "event" names a catalogue event, "pool":
+ * "random" picks one of the random events instead and "pool": "story" shows the storyline's next
+ * beat, see StoryGraph. A story entry only fires while the storyline has a beat the flags allow.
+ */
+public final class ScheduledEvent {
+
+    public static final String RANDOM_POOL = "random";
+    public static final String STORY_POOL = "story";
+
+    public enum Trigger {
+        AT_JUMP,
+        EVERY_JUMPS,
+        AT_SECOND,
+        EVERY_SECONDS
+    }
+
+    private final int index;
+    private final String id;
+    private final String eventId;
+    // "random" or "story" for entries that pick their event, null for a fixed one
+    private final String pool;
+    private final Trigger trigger;
+    // Jump or second the entry is first due at, and the period for repeating triggers
+    private final double first;
+    private final double period;
+    private final int priority;
+    private final double weight;
+    private final int cooldown;
+    // Schedule entries that must have fired before, by index
+    private final int[] requires;
+    // Story flags the player must have
+    private final int[] flags;
+
+    private ScheduledEvent(int index, String id, String eventId, String pool, Trigger trigger, double first, double period,
+                           int priority, double weight, int cooldown, int[] requires, int[] flags) {
+        this.index = index;
+        this.id = id;
+        this.eventId = eventId;
+        this.pool = pool;
+        this.trigger = trigger;
+        this.first = first;
+        this.period = period;
+        this.priority = priority;
+        this.weight = weight;
+        this.cooldown = cooldown;
+        this.requires = requires;
+        this.flags = flags;
+    }
+
+    // Position in the schedule, schedulers keep their state in arrays indexed by it
+    public int getIndex() {
+        return index;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    // Catalogue event to show, null when the entry picks from a pool
+    public String getEventId() {
+        return eventId;
+    }
+
+    public boolean isRandomPool() {
+        return RANDOM_POOL.equals(pool);
+    }
+
+    public boolean isStoryPool() {
+        return STORY_POOL.equals(pool);
+    }
+
+    public Trigger getTrigger() {
+        return trigger;
+    }
+
+    public boolean isJumpTriggered() {
+        return trigger == Trigger.AT_JUMP || trigger == Trigger.EVERY_JUMPS;
+    }
+
+    public boolean repeats() {
+        return trigger == Trigger.EVERY_JUMPS || trigger == Trigger.EVERY_SECONDS;
+    }
+
+    public double getFirst() {
+        return first;
+    }
+
+    public double getPeriod() {
+        return period;
+    }
+
+    // Higher wins when several entries are due at once
+    public int getPriority() {
+        return priority;
+    }
+
+    // Odds against other due entries of the same priority
+    public double getWeight() {
+        return weight;
+    }
+
+    // Jumps after firing before the entry may fire again
+    public int getCooldown() {
+        return cooldown;
+    }
+
+    public int[] getRequires() {
+        return requires.clone();
+    }
+
+    public int[] getFlags() {
+        return flags.clone();
+    }
+
+    // True when the entry has no prerequisites or flags, so it only depends on the clock
+    public boolean isUnconditional() {
+        return requires.length == 0 && flags.length == 0 && !isStoryPool();
+    }
+
+    // Whether the prerequisites hold, fired is indexed like the schedule
+    public boolean requirementsMet(boolean[] fired, Player player) {
+        for (int r : requires) {
+            if (!fired[r]) return false;
+        }
+        for (int f : flags) {
+            if (!player.hasFlag(f)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Compiles one schedule entry. Ids of the other entries are resolved through the given map,
+     * so entries may require ones further down the list.
+     */
+    static ScheduledEvent compile(int index, Map<String, Object> json, Map<String, Integer> entryIds,
+                                  EventCatalogue catalogue) {
+        String id = EventTemplate.string(json, "id");
+        try {
+            String eventId = null;
+            String pool = null;
+            if (json.containsKey("event")) {
+                eventId = EventTemplate.string(json, "event");
+                catalogue.require(eventId);
+            } else if (RANDOM_POOL.equals(json.get("pool"))) {
+                pool = RANDOM_POOL;
+            } else if (STORY_POOL.equals(json.get("pool"))) {
+                if (catalogue.getStoryline() == null) throw new IllegalArgumentException("No storyline to pick from");
+                pool = STORY_POOL;
+            } else {
+                throw new IllegalArgumentException("Needs an event or a \"pool\" of random or story");
+            }
+
+            Trigger trigger = null;
+            double first = 0;
+            double period = 0;
+            for (Trigger t : Trigger.values()) {
+                String key = keyOf(t);
+                if (!json.containsKey(key)) continue;
+                if (trigger != null) throw new IllegalArgumentException("More than one trigger");
+                trigger = t;
+                double value = number(json, key, 0);
+                if (value <= 0) throw new IllegalArgumentException(key + " must be above 0");
+                if (t == Trigger.EVERY_JUMPS || t == Trigger.EVERY_SECONDS) {
+                    period = value;
+                    first = number(json, t == Trigger.EVERY_JUMPS ? "fromJump" : "fromSecond", value);
+                } else {
+                    first = value;
+                }
+            }
+            if (trigger == null) throw new IllegalArgumentException("No trigger");
+
+            List<Object> requireList = json.containsKey("requires")
+                    ? EventTemplate.asList(json.get("requires"), "requires") : List.of();
+            int[] requires = new int[requireList.size()];
+            for (int i = 0; i < requires.length; i++) {
+                Integer other = entryIds.get((String) requireList.get(i));
+                if (other == null) throw new IllegalArgumentException("Requires unknown entry " + requireList.get(i));
+                requires[i] = other;
+            }
+            List<Object> flagList = json.containsKey("flags")
+                    ? EventTemplate.asList(json.get("flags"), "flags") : List.of();
+            int[] flags = new int[flagList.size()];
+            for (int i = 0; i < flags.length; i++) {
+                flags[i] = catalogue.flagId((String) flagList.get(i));
+            }
+
+            double weight = number(json, "weight", 1);
+            if (weight <= 0) throw new IllegalArgumentException("weight must be above 0");
+            return new ScheduledEvent(index, id, eventId, pool, trigger, first, period, (int) number(json, "priority", 0),
+                    weight, (int) number(json, "cooldown", 0), requires, flags);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Schedule entry " + id + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static String keyOf(Trigger trigger) {
+        switch (trigger) {
+            case AT_JUMP: return "atJump";
+            case EVERY_JUMPS: return "everyJumps";
+            case AT_SECOND: return "atSecond";
+            default: return "everySeconds";
+        }
+    }
+
+    private static double number(Map<String, Object> json, String key, double fallback) {
+        Object value = json.get(key);
+        if (value == null) return fallback;
+        if (!(value instanceof Double)) throw new IllegalArgumentException("Expected a number for " + key);
+        return (Double) value;
+    }
+}
@@ -0,0 +1,134 @@
+package com.mygdx.events;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The storyline as a graph: each node shows one story event, and edges guarded by story flags say
+ * which node comes next. Compiled once from the catalogue's "storyline" section into int indexed
+ * arrays and never changed, where a run is in the story lives in the sim's EventScheduler.
+ *
+ * The storyline in the JSON:
+ *   {"start": [{"to": "derelict"}],
+ *    "nodes": [{"id": "derelict", "event": "mysterious-ship",
+ *               "next": [{"to": "station", "flags": ["boarded-derelict"]},
+ *                        {"to": "energy", "unless": ["boarded-derelict"]}]}, ...]}
+ * An edge can be taken when the player has every flag in "flags" and none in "unless". The first
+ * edge that can be taken wins, in the order of the file. "start" holds the edges into the first
+ * beat, a node without "next" ends the story.
+ *
+ * Edges are stored per node in one array, node n's edges sit between edgeStart[n] and
+ * edgeStart[n + 1], and their guards are flag masks. Finding the next beat only looks at the
+ * current node's own edges, so it costs the same however long the storyline is.
+ */
+public final class StoryGraph {
+
+    // Node before the first beat, and what next returns when no edge can be taken
+    public static final int START = -1;
+    public static final int END = -1;
+
+    private final String[] nodeIds;
+    private final String[] eventIds;
+    // Node n's edges are edgeStart[n] until edgeStart[n + 1], the start edges come after the last node
+    private final int[] edgeStart;
+    private final int[] edgeTo;
+    private final long[] edgeNeeds;
+    private final long[] edgeForbids;
+
+    private StoryGraph(String[] nodeIds, String[] eventIds, int[] edgeStart, int[] edgeTo, long[] edgeNeeds,
+                       long[] edgeForbids) {
+        this.nodeIds = nodeIds;
+        this.eventIds = eventIds;
+        this.edgeStart = edgeStart;
+        this.edgeTo = edgeTo;
+        this.edgeNeeds = edgeNeeds;
+        this.edgeForbids = edgeForbids;
+    }
+
+    public int size() {
+        return nodeIds.length;
+    }
+
+    public String getNodeId(int node) {
+        return nodeIds[node];
+    }
+
+    // Catalogue event the node shows
+    public String getEventId(int node) {
+        return eventIds[node];
+    }
+
+    // Node after the given one with these story flags, see Player.getFlags, or END
+    public int next(int node, long flags) {
+        int from = node == START ? nodeIds.length : node;
+        for (int e = edgeStart[from]; e < edgeStart[from + 1]; e++) {
+            if ((flags & edgeNeeds[e]) == edgeNeeds[e] && (flags & edgeForbids[e]) == 0) return edgeTo[e];
+        }
+        return END;
+    }
+
+    /**
+     * Compiles the storyline. Node ids are collected first so edges may point further down the
+     * list, and every event is looked up in the catalogue, which must hold the story events already.
+     */
+    static StoryGraph compile(Map<String, Object> json, EventCatalogue catalogue) {
+        List<Object> nodes = EventTemplate.asList(json.get("nodes"), "storyline nodes");
+        Map<String, Integer> nodeIndex = new HashMap<>();
+        String[] nodeIds = new String[nodes.size()];
+        String[] eventIds = new String[nodes.size()];
+        int edgeCount = EventTemplate.asList(json.get("start"), "storyline start").size();
+        for (int i = 0; i < nodes.size(); i++) {
+            Map<String, Object> node = EventTemplate.asMap(nodes.get(i), "storyline node");
+            nodeIds[i] = EventTemplate.string(node, "id");
+            if (nodeIndex.put(nodeIds[i], i) != null) {
+                throw new IllegalArgumentException("Storyline node " + nodeIds[i] + " is used twice");
+            }
+            eventIds[i] = EventTemplate.string(node, "event");
+            catalogue.require(eventIds[i]);
+            if (node.containsKey("next")) edgeCount += EventTemplate.asList(node.get("next"), "next").size();
+        }
+
+        int[] edgeStart = new int[nodes.size() + 2];
+        int[] edgeTo = new int[edgeCount];
+        long[] edgeNeeds = new long[edgeCount];
+        long[] edgeForbids = new long[edgeCount];
+        int e = 0;
+        for (int i = 0; i <= nodes.size(); i++) {
+            edgeStart[i] = e;
+            Object edges;
+            String from;
+            if (i < nodes.size()) {
+                from = nodeIds[i];
+                edges = EventTemplate.asMap(nodes.get(i), "storyline node").get("next");
+            } else {
+                from = "start";
+                edges = json.get("start");
+            }
+            if (edges == null) continue;
+            for (Object entry : EventTemplate.asList(edges, "next")) {
+                Map<String, Object> edge = EventTemplate.asMap(entry, "storyline edge");
+                String to = EventTemplate.string(edge, "to");
+                Integer target = nodeIndex.get(to);
+                if (target == null) {
+                    throw new IllegalArgumentException("Storyline edge from " + from + " goes to unknown node " + to);
+                }
+                edgeTo[e] = target;
+                edgeNeeds[e] = maskOf(edge, "flags", catalogue);
+                edgeForbids[e] = maskOf(edge, "unless", catalogue);
+                e++;
+            }
+        }
+        edgeStart[nodes.size() + 1] = e;
+        return new StoryGraph(nodeIds, eventIds, edgeStart, edgeTo, edgeNeeds, edgeForbids);
+    }
+
+    private static long maskOf(Map<String, Object> edge, String key, EventCatalogue catalogue) {
+        if (!edge.containsKey(key)) return 0;
+        long mask = 0;
+        for (Object flag : EventTemplate.asList(edge.get(key), key)) {
+            mask |= 1L << catalogue.flagId((String) flag);
+        }
+        return mask;
+    }
+}
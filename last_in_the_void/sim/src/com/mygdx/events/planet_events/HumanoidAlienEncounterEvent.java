@@ -1,17 +1,14 @@
 package com.mygdx.events.planet_events;
 
-import java.util.Random;
 import com.mygdx.objects.Event;
 import com.mygdx.objects.Alien;
 import com.mygdx.objects.Planet;
 import com.mygdx.objects.Player;
 
-
 public class HumanoidAlienEncounterEvent extends Event {
     
     private Alien alien;
     private Planet planet;
-    private Random random = new Random();
     
     // Resource types based on planet type
     private static final String ORGANIC_RESOURCE = "Biomass";
@@ -5,7 +5,6 @@ import com.mygdx.objects.Planet;
 import com.mygdx.objects.Player;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Random;
 
 /**
  * Event that occurs when landing on a planet.
@@ -14,7 +13,6 @@ import java.util.Random;
 public class PlanetLandingEvent extends Event {
     
     private Planet planet;
-    private Random random = new Random();
     private Map<String, Integer> harvestedResources = new HashMap<>();
     private String harvestResultMessage = "";
     
@@ -31,10 +29,21 @@ public class PlanetLandingEvent extends Event {
         "Legendary"
     };
     
+    // Hull, oxygen or fuel lost to harvesting, indexed by planet tier
+    private static final int[] HARVEST_COSTS = {0, 10, 12, 14, 18};
+
+    private final int[] harvestCosts;
+
     public PlanetLandingEvent(Planet planet) {
+        this(planet, HARVEST_COSTS);
+    }
+
+    // harvestCosts replaces the costs by tier, so balance tools can try other numbers
+    public PlanetLandingEvent(Planet planet, int[] harvestCosts) {
         super("Planet Landing", "You've landed on " + planet.getName() + ", a " + planet.getType().toString().toLowerCase() + 
               " planet of size " + planet.getSize() + " (Tier " + planet.getTier() + "). What would you like to do?");
         this.planet = planet;
+        this.harvestCosts = harvestCosts;
         
         addChoice("Harvest resources", 100, player -> {
             // Calculate and give resources
@@ -80,31 +89,14 @@ public class PlanetLandingEvent extends Event {
     
         // Calculate base resource amount based *only* on planet size (and randomness)
         int baseAmount = calculateResourceAmount();
-        int baseCost = 10;
-        int additionalCost = 0;
-
-        // Determines how much additional cost the player should face for harvesting based on planet tier
-        switch (planet.getTier()) {
-            case 1:
-                additionalCost = 0;
-                break;
-            case 2:
-                additionalCost = 2;
-                break;
-            case 3:
-                additionalCost =4;
-                break;
-            case 4:
-                additionalCost = 8;
-                break;
-            default:
-                System.out.println("Invalid Tier");; // Won't be called
-                break;
-
+        // Higher tiers cost more to harvest, see HARVEST_COSTS
+        int totalCost = 0;
+        if (planet.getTier() >= 1 && planet.getTier() < harvestCosts.length) {
+            totalCost = harvestCosts[planet.getTier()];
+        } else {
+            System.out.println("Invalid Tier"); // Won't be called
         }
 
-        int totalCost = baseCost + additionalCost;
-
         StringBuilder costMessage = new StringBuilder("\n\nHarvesting cost:\n"); // Displays the cost of harvesting to the player
         switch (planet.getType()) {
             case Gas:
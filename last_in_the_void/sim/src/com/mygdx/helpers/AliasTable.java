@@ -0,0 +1,75 @@
+package com.mygdx.helpers;
+
+import java.util.SplittableRandom;
+
+/**
+ * Vose alias table: samples an index with the given relative weights in O(1) from a single roll.
+ * Building is O(n) and happens once, so it suits distributions that are read often and changed rarely.
+ */
+public final class AliasTable {
+
+    private final double[] prob;
+    private final int[] alias;
+
+    public AliasTable(double[] weights) {
+        int n = weights.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("Alias table needs at least one weight");
+        }
+        double total = 0;
+        for (double w : weights) {
+            if (w < 0) throw new IllegalArgumentException("Negative weight " + w);
+            total += w;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("Alias table weights add up to 0");
+        }
+
+        this.prob = new double[n];
+        this.alias = new int[n];
+
+        // Scale so the average bucket is exactly 1, then pair every small bucket with a large one
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1.0) small[smallCount++] = i;
+            else large[largeCount++] = i;
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            prob[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) small[smallCount++] = more;
+            else large[largeCount++] = more;
+        }
+        // Whatever is left is 1 up to rounding
+        while (largeCount > 0) {
+            int i = large[--largeCount];
+            prob[i] = 1.0;
+            alias[i] = i;
+        }
+        while (smallCount > 0) {
+            int i = small[--smallCount];
+            prob[i] = 1.0;
+            alias[i] = i;
+        }
+    }
+
+    public int size() {
+        return prob.length;
+    }
+
+    // Whole part of the roll picks the bucket, the fraction decides between it and its alias
+    public int sample(SplittableRandom rand) {
+        double u = rand.nextDouble() * prob.length;
+        int i = (int) u;
+        return (u - i) < prob[i] ? i : alias[i];
+    }
+}
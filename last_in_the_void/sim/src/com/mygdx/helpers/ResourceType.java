@@ -1,5 +1,8 @@
 package com.mygdx.helpers;
 
+import java.util.HashMap;
+import java.util.Map;
+
 public enum ResourceType {
     COMMON_BIOMASS("Common Biomass"),
     UNCOMMON_BIOMASS("Uncommon Biomass"),
@@ -17,6 +20,14 @@ public enum ResourceType {
     LEGENDARY_BUILDING_MATERIALS("Legendary Building Materials");
     
     private final String displayName;
+
+    private static final Map<String, ResourceType> BY_NAME = new HashMap<>();
+
+    static {
+        for (ResourceType type : values()) {
+            BY_NAME.put(type.displayName, type);
+        }
+    }
     
     ResourceType(String displayName) {
         this.displayName = displayName;
@@ -27,13 +38,16 @@ public enum ResourceType {
     }
     
     public static ResourceType fromDisplayName(String displayName) {
-        for (ResourceType type : ResourceType.values()) {
-            if (type.displayName.equals(displayName)) {
-                return type;
-            }
+        ResourceType type = find(displayName);
+        if (type == null) {
+            System.out.println("Invalid resource type: " + displayName);
         }
-        System.out.println("Invalid resource type: " + displayName);
-        return null;
+        return type;
+    }
+
+    // Same lookup without complaining, null for names that are not resources
+    public static ResourceType find(String displayName) {
+        return BY_NAME.get(displayName);
     }
 
     public static boolean isValidResource(String displayName) {
@@ -0,0 +1,68 @@
+package com.mygdx.helpers;
+
+import java.util.SplittableRandom;
+
+/**
+ * Derives every random stream of a run from one run seed.
+ * A stream is a pure function of (seed, stream tag, keys), so a star system always
+ * comes out the same no matter which thread builds it or in which order.
+ */
+public final class SeedTree {
+
+    // Tags keep the different kinds of rolls on separate sequences
+    private static final long DEPTH_STREAM = 0x44455054L;  // "DEPT"
+    private static final long SYSTEM_STREAM = 0x53595354L; // "SYST"
+    private static final long POSITION_STREAM = 0x504f534eL; // "POSN"
+    private static final long EVENT_STREAM = 0x45564e54L;  // "EVNT"
+    private static final long NAME_STREAM = 0x4e414d45L;   // "NAME"
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final long seed;
+
+    public SeedTree(long seed) {
+        this.seed = seed;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    // Rolls that belong to a whole depth, e.g. how many destinations the scanner finds
+    public SplittableRandom depth(int depth) {
+        return new SplittableRandom(key(DEPTH_STREAM, depth, 0));
+    }
+
+    // Everything about a single star system: name, star size, planets, aliens
+    public SplittableRandom system(int depth, int index) {
+        return new SplittableRandom(key(SYSTEM_STREAM, depth, index));
+    }
+
+    // Where a system sits on the galaxy map, kept apart so positions can be worked out without the rest of the system
+    public SplittableRandom position(int depth, int index) {
+        return new SplittableRandom(key(POSITION_STREAM, depth, index));
+    }
+
+    // Event rolls (choice success, random event picks) live on their own stream
+    public SplittableRandom events() {
+        return new SplittableRandom(key(EVENT_STREAM, 0, 0));
+    }
+
+    // Key for the system name bijection, see SystemKeys
+    public long names() {
+        return key(NAME_STREAM, 0, 0);
+    }
+
+    private long key(long stream, long a, long b) {
+        long h = mix(seed + GOLDEN_GAMMA * stream);
+        h = mix(h + GOLDEN_GAMMA * (a + 1));
+        return mix(h + GOLDEN_GAMMA * (b + 1));
+    }
+
+    // SplitMix64 finaliser, same avalanche step SplittableRandom uses internally
+    public static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,99 @@
+package com.mygdx.helpers;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Uniform grid over a horizontal band of the galaxy.
+ * Items are int ids chained through primitive arrays, so there is no boxing and no object per entry.
+ * A radius query only walks the cells the circle touches, which keeps it independent of
+ * how many systems have been generated in total.
+ */
+public class SpatialGrid {
+
+    private static final int EMPTY = -1;
+
+    private final float cellSize;
+    private final float minX;
+    private final float minY;
+    private final int rows;
+
+    // Head of each cell's chain (column major) and the next link for every id
+    private int[] cellHead;
+    private int[] next;
+    private float[] xs;
+    private float[] ys;
+    private int columns;
+
+    public SpatialGrid(float cellSize, float minX, float minY, float maxY) {
+        this.cellSize = cellSize;
+        this.minX = minX;
+        this.minY = minY;
+        this.rows = Math.max(1, (int) Math.ceil((maxY - minY) / cellSize));
+        this.columns = 16;
+        this.cellHead = new int[columns * rows];
+        Arrays.fill(cellHead, EMPTY);
+        this.next = new int[64];
+        this.xs = new float[64];
+        this.ys = new float[64];
+    }
+
+    // Adds an id at a position, x is expected to be >= minX and grows as the galaxy does
+    public void insert(int id, float x, float y) {
+        ensureIdCapacity(id + 1);
+        int col = column(x);
+        ensureColumns(col + 1);
+        int cell = col * rows + row(y);
+        xs[id] = x;
+        ys[id] = y;
+        next[id] = cellHead[cell];
+        cellHead[cell] = id;
+    }
+
+    // Calls out for every id within radius of (x, y)
+    public void query(float x, float y, float radius, IntConsumer out) {
+        int minCol = column(x - radius);
+        int maxCol = Math.min(column(x + radius), columns - 1);
+        int minRow = row(y - radius);
+        int maxRow = row(y + radius);
+        float r2 = radius * radius;
+
+        for (int col = minCol; col <= maxCol; col++) {
+            for (int row = minRow; row <= maxRow; row++) {
+                for (int id = cellHead[col * rows + row]; id != EMPTY; id = next[id]) {
+                    float dx = xs[id] - x;
+                    float dy = ys[id] - y;
+                    if (dx * dx + dy * dy <= r2) {
+                        out.accept(id);
+                    }
+                }
+            }
+        }
+    }
+
+    private int column(float x) {
+        return Math.max(0, (int) ((x - minX) / cellSize));
+    }
+
+    private int row(float y) {
+        int r = (int) ((y - minY) / cellSize);
+        return Math.max(0, Math.min(rows - 1, r));
+    }
+
+    private void ensureColumns(int needed) {
+        if (needed <= columns) return;
+        int newColumns = Math.max(needed, columns * 2);
+        int[] grown = Arrays.copyOf(cellHead, newColumns * rows);
+        Arrays.fill(grown, columns * rows, grown.length, EMPTY);
+        cellHead = grown;
+        columns = newColumns;
+    }
+
+    private void ensureIdCapacity(int needed) {
+        if (needed <= next.length) return;
+        int size = Math.max(needed, next.length * 2);
+        next = Arrays.copyOf(next, size);
+        xs = Arrays.copyOf(xs, size);
+        ys = Arrays.copyOf(ys, size);
+    }
+}
@@ -1,16 +1,6 @@
 package com.mygdx.objects;
 
-import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.graphics.Pixmap.Blending;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.physics.box2d.Body;
-import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
-import com.mygdx.game.SpaceGame;
-import com.mygdx.screens.GameScreen;
-import com.mygdx.game.SpaceGame;
+
 public class Alien {
 
     private String type;
@@ -0,0 +1,138 @@
+package com.mygdx.objects;
+
+import java.util.Arrays;
+
+import com.mygdx.helpers.ResourceType;
+
+/**
+ * Everything one outcome does to the ship, stat changes, item changes and story flags, gathered
+ * first and then applied in one go. Items are ResourceTypes already, so nothing is looked up or
+ * printed while applying, and the player's listener hears about the batch once.
+ *
+ * Applying remembers what it replaced, so revert puts the ship back exactly, e.g. to try an
+ * outcome on the real player for a preview. Changes to the same stat or item are added up and
+ * applied once, with the same limits as Player.updateStat and Player.addItemToInventory. The
+ * gathering bonus is still added once per added change, like one addItemToInventory call each.
+ * The limits are only checked on the totals, so changes that would each have been clipped can
+ * cancel out: +20 fuel on a full tank followed by -10 leaves it full rather than 10 short.
+ */
+public final class EffectBatch {
+
+    private static final Player.Stats[] STATS = Player.Stats.values();
+    private static final ResourceType[] TYPES = ResourceType.values();
+
+    private final double[] stats = new double[STATS.length];
+    private final int[] items = new int[TYPES.length];
+    // Changes that added to each item, each one gets the gathering bonus
+    private final int[] adds = new int[TYPES.length];
+    private long flags = 0;
+    private boolean hasStats = false;
+    private boolean hasItems = false;
+
+    // What the last applyTo replaced
+    private final double[] statsBefore = new double[STATS.length];
+    private final int[] itemsBefore = new int[TYPES.length];
+    private long flagsBefore;
+    private Player appliedTo;
+
+    public EffectBatch changeStat(Player.Stats stat, double delta) {
+        stats[stat.ordinal()] += delta;
+        hasStats = true;
+        return this;
+    }
+
+    // Negative quantities take items away
+    public EffectBatch changeItem(ResourceType type, int quantity) {
+        items[type.ordinal()] += quantity;
+        if (quantity > 0) adds[type.ordinal()]++;
+        hasItems = true;
+        return this;
+    }
+
+    public EffectBatch setFlag(int flag) {
+        flags |= 1L << flag;
+        return this;
+    }
+
+    public double getStat(Player.Stats stat) {
+        return stats[stat.ordinal()];
+    }
+
+    public int getItem(ResourceType type) {
+        return items[type.ordinal()];
+    }
+
+    public boolean isEmpty() {
+        return !hasStats && !hasItems && flags == 0;
+    }
+
+    /**
+     * Applies the whole batch. Every added change gets the ship's gathering bonus like
+     * addItemToInventory, and new types only go in while a slot is free.
+     */
+    public void applyTo(Player player) {
+        if (hasStats) {
+            for (Player.Stats stat : STATS) {
+                int i = stat.ordinal();
+                statsBefore[i] = player.getStat(stat);
+                if (stats[i] != 0) player.putStat(stat, statsBefore[i] + stats[i]);
+            }
+        }
+        if (hasItems) {
+            Inventory inventory = player.getInventory();
+            // Removals first, so a trade into a full inventory frees its slot before the new type needs one
+            for (ResourceType type : TYPES) {
+                int i = type.ordinal();
+                int held = inventory.getQuantity(type);
+                itemsBefore[i] = held;
+                int change = items[i] + adds[i] * player.getAddingFactor();
+                if (change < 0 && held > 0) inventory.set(type, Math.max(0, held + change));
+            }
+            for (ResourceType type : TYPES) {
+                int i = type.ordinal();
+                int held = inventory.getQuantity(type);
+                int change = items[i] + adds[i] * player.getAddingFactor();
+                if (change <= 0) continue;
+                if (held == 0 && inventory.getDistinct() >= inventory.getMaxSize()) continue;
+                inventory.set(type, Math.min(inventory.getMaxItemsPerSlot(), held + change));
+            }
+        }
+        flagsBefore = player.getFlags();
+        player.putFlags(flagsBefore | flags);
+        appliedTo = player;
+        player.changed();
+    }
+
+    // Undoes the last applyTo, on the same player
+    public void revert(Player player) {
+        if (appliedTo != player) {
+            throw new IllegalStateException("Batch was not applied to this player");
+        }
+        if (hasStats) {
+            for (Player.Stats stat : STATS) {
+                player.putStat(stat, statsBefore[stat.ordinal()]);
+            }
+        }
+        if (hasItems) {
+            Inventory inventory = player.getInventory();
+            for (ResourceType type : TYPES) {
+                int i = type.ordinal();
+                if (inventory.getQuantity(type) != itemsBefore[i]) inventory.set(type, itemsBefore[i]);
+            }
+        }
+        player.putFlags(flagsBefore);
+        appliedTo = null;
+        player.changed();
+    }
+
+    // Forgets the changes and what was replaced, for reuse
+    public void clear() {
+        Arrays.fill(stats, 0);
+        Arrays.fill(items, 0);
+        Arrays.fill(adds, 0);
+        flags = 0;
+        hasStats = false;
+        hasItems = false;
+        appliedTo = null;
+    }
+}
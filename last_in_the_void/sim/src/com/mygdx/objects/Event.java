@@ -2,7 +2,9 @@ package com.mygdx.objects;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Base abstract class for all in-game events that require player interaction.
@@ -16,6 +18,12 @@ public abstract class Event {
     protected String successMessage = "";
     protected String failureMessage = "";
     protected boolean resturnToSolarSystem = false;
+    // Rolls made inside outcomes, replaced with a stream from the run seed when the event is shown
+    protected SplittableRandom random = new SplittableRandom();
+    // Builds a twin of this event with its own state, set by whoever made the event, may be null
+    private Supplier<Event> template;
+    // What the twin's outcomes depend on, e.g. the event type and the upgrade levels it was made with
+    private String templateKey;
 
     
     // Represents a single choice in an event with its description and consequences.
@@ -46,10 +54,17 @@ public abstract class Event {
         /**
          * Executes this choice's outcome on the player based on success chance.
          * @param player The player to apply the outcome to
+         * @param rand The stream the success roll is drawn from
          * @return True if the choice was successful based on chance, false otherwise
          */
-        public boolean execute(Player player) {
-            boolean success = Math.random() * 100 < successChance;
+        public boolean execute(Player player, SplittableRandom rand) {
+            boolean success = rand.nextDouble() * 100 < successChance;
+            apply(player, success);
+            return success;
+        }
+
+        // Runs one side of the outcome without rolling for it, lets tools look at both sides
+        public void apply(Player player, boolean success) {
             if (success) {
                 if (successOutcome != null) {
                     successOutcome.accept(player);
@@ -59,7 +74,6 @@ public abstract class Event {
                     failureOutcome.accept(player);
                 }
             }
-            return success;
         }
 
     }
@@ -102,6 +116,28 @@ public abstract class Event {
         return failureMessage;
     }
 
+    public SplittableRandom getRandom() {
+        return random;
+    }
+
+    public void setRandom(SplittableRandom random) {
+        this.random = random;
+    }
+
+    public void setTemplate(String key, Supplier<Event> template) {
+        this.templateKey = key;
+        this.template = template;
+    }
+
+    public String getTemplateKey() {
+        return templateKey;
+    }
+
+    // A fresh event that plays out like this one without touching it, or null if nobody said how to make one
+    public Event copy() {
+        return template == null ? null : template.get();
+    }
+
     public boolean shouldReturnToSolarSystem() {
         return resturnToSolarSystem;
     }
@@ -0,0 +1,503 @@
+package com.mygdx.objects;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import com.mygdx.helpers.SeedTree;
+import com.mygdx.helpers.SpatialGrid;
+
+/**
+ * Every star system of a run, generated in sectors as the player gets near them.
+ * The galaxy is built in layers, one per depth, of LAYER_SIZE systems each. A system's id is
+ * depth * LAYER_SIZE + index and all of its data lives in primitive arrays inside its sector.
+ * Jump edges only join neighbouring layers and are stored as a bitmask of linked systems in the next layer.
+ * Only MAX_LOADED_SECTORS sectors stay in memory, the least recently used one is dropped and rebuilt
+ * from the seed if the player ever comes back, so memory stays flat however deep a run goes.
+ * The only thing a sector cannot rebuild is what the player did there, so visited systems keep their
+ * harvested planets in a small map outside the sectors, one bitmask per system.
+ * Sectors can also be built ahead of time on a ForkJoinPool, see pregenerate. Everything else is
+ * meant to be called from one thread only.
+ */
+public class Galaxy {
+
+    // Most destinations the scanner can ever show, so each depth holds this many systems
+    public static final int LAYER_SIZE = 4;
+    // Furthest a single jump can reach. Always covers the same row of the next layer, at most
+    // LAYER_SPACING + JITTER_X across and 2 * JITTER_Y off, so no system is a dead end, while rows
+    // further over are often out of reach
+    public static final float JUMP_RANGE = 150f;
+    // A system can only link to the layers either side of it
+    public static final int MAX_NEIGHBOURS = 2 * LAYER_SIZE;
+    // Layers generated and evicted together
+    public static final int SECTOR_DEPTH = 32;
+    // Sectors kept in memory at once
+    public static final int MAX_LOADED_SECTORS = 8;
+    // Highest tier anything in the galaxy can have
+    public static final int MAX_TIER = 4;
+
+    private static final float LAYER_SPACING = 100f;
+    private static final float ROW_SPACING = 45f;
+    private static final float JITTER_X = 20f;
+    private static final float JITTER_Y = 12f;
+    private static final float BAND = ROW_SPACING * (LAYER_SIZE - 1) / 2f + JITTER_Y;
+
+    private final SeedTree seeds;
+    private final SystemKeys keys;
+    private final int universeLength;
+    // Precomputed layers, read instead of generated where the file covers them, may be null
+    private final UniverseFile source;
+    // Depths the player has revealed so far, sectors may hold deeper layers that stay hidden until then
+    private int layers = 0;
+    private int sectorsBuilt = 0;
+    // Name codes handed out to revealed systems, only ever hits once the galaxy is deeper than the names go round
+    // Only allocated once a system past the start is revealed, searches that never reveal skip the 220KB
+    private BitSet namesUsed = null;
+    private int namedSystems = 1;
+    private int duplicateNames = 0;
+
+    // Sectors built by background tasks, picked up by the main thread the first time it needs them
+    private final Map<Integer, Sector> ready = new ConcurrentHashMap<>();
+    // Sectors the main thread has loaded at least once, background tasks skip them and drop late copies
+    private final Set<Integer> taken = ConcurrentHashMap.newKeySet();
+
+    // Harvested planets of every visited system by id, bit n for planet n, outlives the system's sector
+    private final Map<Integer, Long> visited = new HashMap<>();
+
+    private final Map<Integer, Sector> sectors = new LinkedHashMap<Integer, Sector>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Sector> eldest) {
+            if (size() <= MAX_LOADED_SECTORS) return false;
+            saveVisited(eldest.getValue());
+            return true;
+        }
+    };
+
+    // All the data for SECTOR_DEPTH layers, indexed by id - baseId
+    private static final class Sector {
+        final int number;
+        final int baseId;
+        final float[] xs = new float[SECTOR_DEPTH * LAYER_SIZE];
+        final float[] ys = new float[SECTOR_DEPTH * LAYER_SIZE];
+        final byte[] tiers = new byte[SECTOR_DEPTH * LAYER_SIZE];
+        final byte[] planetCounts = new byte[SECTOR_DEPTH * LAYER_SIZE];
+        final short[] starSizes = new short[SECTOR_DEPTH * LAYER_SIZE];
+        final long[] planetSeeds = new long[SECTOR_DEPTH * LAYER_SIZE];
+        final byte[] links = new byte[SECTOR_DEPTH * LAYER_SIZE];
+        final SpatialGrid grid;
+        // Systems already built, either visited by the player or generated ahead of time, dropped with the sector
+        final Map<Integer, StarSystem> systems = new HashMap<>();
+
+        Sector(int number) {
+            this.number = number;
+            this.baseId = number * SECTOR_DEPTH * LAYER_SIZE;
+            float minX = number * SECTOR_DEPTH * LAYER_SPACING - JITTER_X;
+            this.grid = new SpatialGrid(JUMP_RANGE, minX, -BAND, BAND);
+        }
+    }
+
+    public Galaxy(SeedTree seeds, int universeLength) {
+        this(seeds, universeLength, null);
+    }
+
+    public Galaxy(SeedTree seeds, int universeLength, UniverseFile source) {
+        this.seeds = seeds;
+        this.keys = new SystemKeys(seeds.names());
+        this.universeLength = universeLength;
+        this.source = source;
+        ensureDepth(0);
+    }
+
+    public static int idOf(int depth, int index) {
+        return depth * LAYER_SIZE + index;
+    }
+
+    public static int depthOf(int id) {
+        return id / LAYER_SIZE;
+    }
+
+    public static int indexOf(int id) {
+        return id % LAYER_SIZE;
+    }
+
+    // Number of depths revealed so far
+    public int getLayers() {
+        return layers;
+    }
+
+    public int getSystemCount() {
+        return layers * LAYER_SIZE;
+    }
+
+    public int getLoadedSectors() {
+        return sectors.size();
+    }
+
+    // Sectors the main thread had to build itself, including ones rebuilt after being evicted
+    public int getSectorsBuilt() {
+        return sectorsBuilt;
+    }
+
+    // Sectors built in the background that the main thread has not picked up yet
+    public int getReadySectors() {
+        return ready.size();
+    }
+
+    // Only the single Deep Space start system exists at depth 0
+    public boolean exists(int id) {
+        if (id < 0 || id >= getSystemCount()) return false;
+        Sector sector = sectorFor(id);
+        return sector.planetCounts[id - sector.baseId] > 0;
+    }
+
+    public float getX(int id) {
+        Sector sector = sectorFor(id);
+        return sector.xs[id - sector.baseId];
+    }
+
+    public float getY(int id) {
+        Sector sector = sectorFor(id);
+        return sector.ys[id - sector.baseId];
+    }
+
+    public int getTier(int id) {
+        Sector sector = sectorFor(id);
+        return sector.tiers[id - sector.baseId];
+    }
+
+    public int getPlanetCount(int id) {
+        Sector sector = sectorFor(id);
+        return sector.planetCounts[id - sector.baseId];
+    }
+
+    // Builds the display string, use getKey where only identity matters
+    public String getName(int id) {
+        if (id == 0) return "Deep Space";
+        return SystemKeys.nameOf(getKey(id));
+    }
+
+    // Packed id and name code, see SystemKeys
+    public long getKey(int id) {
+        return keys.keyOf(id);
+    }
+
+    // Systems revealed so far whose name was already taken, 0 unless the run is hundreds of thousands of layers deep
+    public int getDuplicateNames() {
+        return duplicateNames;
+    }
+
+    public int getStarSize(int id) {
+        Sector sector = sectorFor(id);
+        return sector.starSizes[id - sector.baseId];
+    }
+
+    // Bitmask of the systems in the next layer this one links to
+    public int getLinks(int id) {
+        return linksOf(id) & 0xff;
+    }
+
+    // Tier goes up every quarter of the universe length and stops at MAX_TIER
+    public int tierFor(int depth) {
+        return tierFor(depth, universeLength);
+    }
+
+    public static int tierFor(int depth, int universeLength) {
+        if (depth <= 1) return 1;
+        return Math.min(MAX_TIER, ((depth - 1) / (universeLength / 4)) + 1);
+    }
+
+    // The system already built if there is one, otherwise a fresh header whose planets are built when first needed
+    // A visited system whose sector was dropped comes back with the same planets harvested
+    public StarSystem getSystem(int id) {
+        Sector sector = sectorFor(id);
+        StarSystem known = sector.systems.get(id);
+        if (known != null) {
+            return known;
+        }
+        StarSystem system = newSystem(sector, id);
+        Long harvested = visited.get(id);
+        if (harvested != null) {
+            Planet[] planets = system.getPlanets();
+            for (int i = 0; i < planets.length; i++) {
+                if ((harvested & (1L << i)) != 0) planets[i].setHarvested(true);
+            }
+            sector.systems.put(id, system);
+        }
+        return system;
+    }
+
+    // Keeps a visited system (and its harvested planets), in its sector while loaded and as a bitmask after that
+    public void markVisited(int id, StarSystem system) {
+        sectorFor(id).systems.put(id, system);
+        visited.put(id, harvestedOf(system));
+    }
+
+    // Called as a sector is dropped, harvests made since the visit are only held by its systems until then
+    private void saveVisited(Sector sector) {
+        for (Map.Entry<Integer, StarSystem> entry : sector.systems.entrySet()) {
+            if (visited.containsKey(entry.getKey())) {
+                visited.put(entry.getKey(), harvestedOf(entry.getValue()));
+            }
+        }
+    }
+
+    private static long harvestedOf(StarSystem system) {
+        if (!system.hasGeneratedPlanets()) return 0;
+        Planet[] planets = system.getPlanets();
+        long harvested = 0;
+        for (int i = 0; i < planets.length; i++) {
+            if (planets[i].getHarvest()) harvested |= 1L << i;
+        }
+        return harvested;
+    }
+
+    /**
+     * Builds every sector down to maxDepth on the pool, one task per sector, planets included.
+     * Sectors are a pure function of the seed, so the result is the same whichever thread builds what.
+     * Finished sectors are handed over through a concurrent map and only touched by the main thread
+     * once it asks for them, so the game never waits on the pool. Sectors the main thread already
+     * loaded are skipped, and a copy that finishes after the main thread built its own is dropped.
+     */
+    public ForkJoinTask<Void> pregenerate(ForkJoinPool pool, int maxDepth) {
+        int lastSector = Math.max(0, maxDepth) / SECTOR_DEPTH;
+        return pool.submit(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                RecursiveAction[] bands = new RecursiveAction[lastSector + 1];
+                for (int s = 0; s <= lastSector; s++) {
+                    final int number = s;
+                    bands[s] = new RecursiveAction() {
+                        @Override
+                        protected void compute() {
+                            if (taken.contains(number)) return;
+                            ready.put(number, buildSector(number, true));
+                            // The main thread may have built it meanwhile, then this copy would never be picked up
+                            if (taken.contains(number)) ready.remove(number);
+                        }
+                    };
+                }
+                invokeAll(bands);
+            }
+        });
+    }
+
+    // Whether a jump edge joins two systems
+    public boolean isLinked(int from, int to) {
+        int fromDepth = depthOf(from);
+        int toDepth = depthOf(to);
+        if (toDepth == fromDepth + 1) {
+            return (linksOf(from) & (1 << indexOf(to))) != 0;
+        }
+        if (fromDepth == toDepth + 1) {
+            return (linksOf(to) & (1 << indexOf(from))) != 0;
+        }
+        return false;
+    }
+
+    // Writes every system one jump away, backwards and forwards, into out and returns how many there are
+    // out needs room for MAX_NEIGHBOURS ids
+    public int getNeighbours(int id, int[] out) {
+        int found = 0;
+        int depth = depthOf(id);
+        if (depth > 0) {
+            int bit = 1 << indexOf(id);
+            for (int i = 0; i < LAYER_SIZE; i++) {
+                int prev = idOf(depth - 1, i);
+                if ((linksOf(prev) & bit) != 0) out[found++] = prev;
+            }
+        }
+        if (depth + 1 < layers) {
+            int mask = linksOf(id);
+            for (int i = 0; i < LAYER_SIZE; i++) {
+                if ((mask & (1 << i)) != 0) out[found++] = idOf(depth + 1, i);
+            }
+        }
+        return found;
+    }
+
+    // Visits every revealed system within radius of another system, only the sectors the circle touches are searched
+    public void forEachWithin(int id, float radius, IntConsumer out) {
+        float x = getX(id);
+        float y = getY(id);
+        int minDepth = Math.max(0, (int) Math.floor((x - radius - JITTER_X) / LAYER_SPACING));
+        int maxDepth = Math.min(layers - 1, (int) Math.ceil((x + radius + JITTER_X) / LAYER_SPACING));
+        for (int s = minDepth / SECTOR_DEPTH; s <= maxDepth / SECTOR_DEPTH; s++) {
+            Sector sector = sector(s);
+            sector.grid.query(x, y, radius, i -> {
+                int found = sector.baseId + i;
+                if (depthOf(found) < layers) out.accept(found);
+            });
+        }
+    }
+
+    // Reveals every layer up to and including depth
+    public void ensureDepth(int depth) {
+        if (depth >= layers) {
+            if (depth > 0) {
+                if (namesUsed == null) namesUsed = new BitSet(SystemKeys.NAME_CODES);
+                for (int id = namedSystems; id < idOf(depth + 1, 0); id++) {
+                    int code = keys.nameCode(id);
+                    if (namesUsed.get(code)) duplicateNames++;
+                    namesUsed.set(code);
+                }
+                namedSystems = idOf(depth + 1, 0);
+            }
+            layers = depth + 1;
+        }
+    }
+
+    private byte linksOf(int id) {
+        Sector sector = sectorFor(id);
+        return sector.links[id - sector.baseId];
+    }
+
+    private Sector sectorFor(int id) {
+        return sector(depthOf(id) / SECTOR_DEPTH);
+    }
+
+    // Loaded sector, one built in the background, or a freshly generated one, the same seed always gives the same sector
+    private Sector sector(int number) {
+        Sector sector = sectors.get(number);
+        if (sector == null) {
+            // Taken before looking in ready, so a background copy finished after this is dropped by its task
+            taken.add(number);
+            sector = ready.remove(number);
+            if (sector == null) {
+                sector = buildSector(number, false);
+                sectorsBuilt++;
+            }
+            sectors.put(number, sector);
+        }
+        return sector;
+    }
+
+    private StarSystem newSystem(Sector sector, int id) {
+        if (id == 0) {
+            return new StarSystem();
+        }
+        if (source != null && source.covers(id)) {
+            return source.readSystem(id, getKey(id));
+        }
+        int i = id - sector.baseId;
+        return new StarSystem(getKey(id), sector.starSizes[i], sector.tiers[i], sector.planetCounts[i], sector.planetSeeds[i]);
+    }
+
+    // Only reads the seed and final fields, so it is safe to run on any thread
+    private Sector buildSector(int number, boolean withPlanets) {
+        Sector sector = generateSector(number);
+        if (withPlanets) {
+            for (int i = 0; i < sector.planetCounts.length; i++) {
+                if (sector.planetCounts[i] == 0) continue;
+                StarSystem system = newSystem(sector, sector.baseId + i);
+                system.genrateStarPlanets();
+                sector.systems.put(sector.baseId + i, system);
+            }
+        }
+        return sector;
+    }
+
+    private Sector generateSector(int number) {
+        Sector sector = new Sector(number);
+        int firstDepth = number * SECTOR_DEPTH;
+        float[] nextX = new float[LAYER_SIZE];
+        float[] nextY = new float[LAYER_SIZE];
+
+        for (int d = firstDepth; d < firstDepth + SECTOR_DEPTH; d++) {
+            generateLayer(sector, d);
+        }
+
+        // Forward links need the positions of the next layer, which may sit in the next sector
+        // Layers read from a universe file come with their links already, the hand made start does not
+        for (int d = firstDepth; d < firstDepth + SECTOR_DEPTH; d++) {
+            if (d > 0 && source != null && source.covers(idOf(d, 0))) continue;
+            for (int j = 0; j < LAYER_SIZE; j++) {
+                if (d + 1 < firstDepth + SECTOR_DEPTH) {
+                    int next = idOf(d + 1, j) - sector.baseId;
+                    nextX[j] = sector.xs[next];
+                    nextY[j] = sector.ys[next];
+                } else {
+                    SplittableRandom pos = seeds.position(d + 1, j);
+                    nextX[j] = positionX(d + 1, pos);
+                    nextY[j] = positionY(j, pos);
+                }
+            }
+            for (int i = 0; i < LAYER_SIZE; i++) {
+                int from = idOf(d, i) - sector.baseId;
+                if (sector.planetCounts[from] == 0) continue;
+                int mask = 0;
+                for (int j = 0; j < LAYER_SIZE; j++) {
+                    float dx = nextX[j] - sector.xs[from];
+                    float dy = nextY[j] - sector.ys[from];
+                    if (dx * dx + dy * dy <= JUMP_RANGE * JUMP_RANGE) {
+                        mask |= 1 << j;
+                    }
+                }
+                sector.links[from] = (byte) mask;
+            }
+        }
+        return sector;
+    }
+
+    private void generateLayer(Sector sector, int depth) {
+        if (depth == 0) {
+            // Hand made start system, the other slots of layer 0 stay empty
+            sector.tiers[0] = 1;
+            sector.planetCounts[0] = 4;
+            sector.starSizes[0] = 2000;
+            sector.grid.insert(0, 0, 0);
+            return;
+        }
+
+        if (source != null && source.covers(idOf(depth, 0))) {
+            readLayer(sector, depth);
+            return;
+        }
+
+        int tier = tierFor(depth);
+        for (int i = 0; i < LAYER_SIZE; i++) {
+            int id = idOf(depth, i) - sector.baseId;
+            SplittableRandom rand = seeds.system(depth, i);
+
+            sector.starSizes[id] = (short) (rand.nextInt(2000-200)+200);
+            sector.planetCounts[id] = (byte) (rand.nextInt(4)+4);
+            sector.planetSeeds[id] = rand.nextLong();
+            sector.tiers[id] = (byte) tier;
+
+            SplittableRandom pos = seeds.position(depth, i);
+            sector.xs[id] = positionX(depth, pos);
+            sector.ys[id] = positionY(i, pos);
+            sector.grid.insert(id, sector.xs[id], sector.ys[id]);
+        }
+    }
+
+    // Same headers generateLayer would roll, copied from the universe file
+    private void readLayer(Sector sector, int depth) {
+        for (int i = 0; i < LAYER_SIZE; i++) {
+            int fileId = idOf(depth, i);
+            int id = fileId - sector.baseId;
+            sector.starSizes[id] = (short) source.getStarSize(fileId);
+            sector.planetCounts[id] = (byte) source.getPlanetCount(fileId);
+            sector.tiers[id] = (byte) source.getTier(fileId);
+            sector.xs[id] = source.getX(fileId);
+            sector.ys[id] = source.getY(fileId);
+            sector.links[id] = (byte) source.getLinks(fileId);
+            sector.grid.insert(id, sector.xs[id], sector.ys[id]);
+        }
+    }
+
+    // Position rolls, x must be drawn before y
+    private static float positionX(int depth, SplittableRandom pos) {
+        return depth * LAYER_SPACING + (float) (pos.nextDouble() * 2 - 1) * JITTER_X;
+    }
+
+    private static float positionY(int index, SplittableRandom pos) {
+        return (index - (LAYER_SIZE - 1) / 2f) * ROW_SPACING + (float) (pos.nextDouble() * 2 - 1) * JITTER_Y;
+    }
+}
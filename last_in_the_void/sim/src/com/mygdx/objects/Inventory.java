@@ -1,21 +1,69 @@
 package com.mygdx.objects;
 
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import com.mygdx.helpers.ResourceType;
 
+/**
+ * Item counts indexed by ResourceType ordinal. Forks share the counts until one side changes
+ * them, so forking a ship to try something out costs two small objects and no copying.
+ */
 public class Inventory {
-    private Map<String, Integer> items;
+    private int[] counts;
+    // Set when the counts array may be seen by another inventory, the next write copies it first
+    private boolean shared = false;
+    // Number of item types held, the slots in use
+    private int distinct = 0;
     private int maxSize;
     private boolean avoidInfiniteInventoryEmpty = false;
     private boolean hasPrintedInventory = false;
+    // Read only map view of the counts, built on demand and dropped on every change
+    private Map<String, Integer> view;
     private static final int MAX_ITEMS_PER_SLOT = 300; // Maximum number of items per slot
-    
+    private static final ResourceType[] TYPES = ResourceType.values();
+
     public Inventory(int maxSize) {
-        this.items = new HashMap<>();
+        this.counts = new int[TYPES.length];
         this.maxSize = maxSize;
     }
 
+    private Inventory(Inventory source) {
+        this.counts = source.counts;
+        this.shared = true;
+        this.distinct = source.distinct;
+        this.maxSize = source.maxSize;
+    }
+
+    // Same items and size in O(1), changes on either side stay on that side
+    public Inventory fork() {
+        shared = true;
+        return new Inventory(this);
+    }
+
+    // Called before every change of the counts
+    private void beforeWrite() {
+        if (shared) {
+            counts = counts.clone();
+            shared = false;
+        }
+        view = null;
+        hasPrintedInventory = false;
+    }
+
+    // Package private for EffectBatch, which checks the slot rules itself
+    void set(ResourceType type, int quantity) {
+        beforeWrite();
+        int old = counts[type.ordinal()];
+        if (old == 0 && quantity > 0) distinct++;
+        if (old > 0 && quantity == 0) distinct--;
+        counts[type.ordinal()] = quantity;
+    }
+
+    public int getQuantity(ResourceType type) {
+        return counts[type.ordinal()];
+    }
+
     // Add items
     public boolean addItem(String item) {
         // Validate the resource type first
@@ -23,22 +71,22 @@ public class Inventory {
             System.out.println("Invalid resource : " + item);
             return false;
         }
+        ResourceType type = ResourceType.find(item);
 
-        if (!items.containsKey(item) && items.size() >= maxSize) {
+        if (counts[type.ordinal()] == 0 && distinct >= maxSize) {
             System.out.println("Inventory is full. Cannot add " + item);
             return false;
         }
         
-        int currentQuantity = items.getOrDefault(item, 0);
+        int currentQuantity = counts[type.ordinal()];
         if (currentQuantity >= MAX_ITEMS_PER_SLOT) {
             System.out.println("Slot for " + item + " is full (max " + MAX_ITEMS_PER_SLOT + "). Item discarded.");
             return false;
         }
         
         // Increment the quantity if the item is already in the inventory
-        items.put(item, currentQuantity + 1);
+        set(type, currentQuantity + 1);
         System.out.println(item + " added to inventory.");
-        hasPrintedInventory = false; 
         return true;
     }
 
@@ -49,19 +97,20 @@ public class Inventory {
             System.out.println("Invalid resource : " + item);
             return false;
         }
+        ResourceType type = ResourceType.find(item);
         
         if (quantity <= 0) {
             System.out.println("Cannot add zero or negative quantity of " + item);
             return false; 
         }
     
-        if (!items.containsKey(item) && items.size() >= maxSize) {
+        if (counts[type.ordinal()] == 0 && distinct >= maxSize) {
              System.out.println("Inventory is full (max distinct item types reached). Cannot add new item " + item);
              return false;
         }
     
         // Check current quantity and apply slot limit
-        int currentQuantity = items.getOrDefault(item, 0);
+        int currentQuantity = counts[type.ordinal()];
         int availableSpace = MAX_ITEMS_PER_SLOT - currentQuantity;
         
         if (availableSpace <= 0) {
@@ -82,22 +131,21 @@ public class Inventory {
         }
         
         // Update the inventory
-        items.put(item, currentQuantity + actualQuantityToAdd);
-        hasPrintedInventory = false;
+        set(type, currentQuantity + actualQuantityToAdd);
         return true;
     }
 
     // Remove items
     public boolean removeItem(String item, int quant) {
-        if (items.containsKey(item)) {
-            int quantity = items.get(item);
+        ResourceType type = ResourceType.find(item);
+        if (type != null && counts[type.ordinal()] > 0) {
+            int quantity = counts[type.ordinal()];
             if (quantity - quant < 1) {
-                items.remove(item); 
+                set(type, 0);
             } else {
-                items.put(item, quantity - quant);  
+                set(type, quantity - quant);
             }
             System.out.println(item + " removed from inventory.");
-            hasPrintedInventory = false;
             return true;
         } else {
             System.out.println(item + " not found in inventory.");
@@ -107,7 +155,7 @@ public class Inventory {
 
     // Display contents
     public void showInventory() {
-        if (items.isEmpty()) {
+        if (distinct == 0) {
             if (!avoidInfiniteInventoryEmpty) {
                 System.out.println("Inventory is empty.");
                 avoidInfiniteInventoryEmpty = true;
@@ -116,7 +164,7 @@ public class Inventory {
             // Only print the inventory once until it's modified
             if (!hasPrintedInventory) {
                 System.out.println("Inventory: ");
-                for (Map.Entry<String, Integer> entry : items.entrySet()) {
+                for (Map.Entry<String, Integer> entry : getItems().entrySet()) {
                     System.out.println(entry.getKey() + " x" + entry.getValue());
                 }
                 hasPrintedInventory = true; 
@@ -126,21 +174,36 @@ public class Inventory {
     
     // Check if inventory contains an item
     public boolean hasItem(String item) {
-        return items.containsKey(item);
+        return checkItemQuantity(item) > 0;
     }
 
     // Check quantity of a specific item
     public Integer checkItemQuantity(String item) {
-        return items.getOrDefault(item, 0); // Returns 0 if the item is not found
+        ResourceType type = ResourceType.find(item);
+        return type == null ? 0 : counts[type.ordinal()]; // Returns 0 if the item is not found
     }
 
+    // Items held and their counts in ResourceType order, read only
     public Map<String, Integer> getItems() {
-        if (items == null) {
-            items = new HashMap<>();
+        if (view == null) {
+            Map<String, Integer> items = new LinkedHashMap<>();
+            for (ResourceType type : TYPES) {
+                if (counts[type.ordinal()] > 0) items.put(type.getDisplayName(), counts[type.ordinal()]);
+            }
+            view = Collections.unmodifiableMap(items);
         }
-        return items;
+        return view;
     }
     
+    // Number of item types held, the slots in use
+    public int getDistinct() {
+        return distinct;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
     // Get the maximum number of items per slot
     public int getMaxItemsPerSlot() {
         return MAX_ITEMS_PER_SLOT;
@@ -0,0 +1,108 @@
+package com.mygdx.objects;
+
+//import com.mygdx.assets.Texture;
+import java.util.SplittableRandom;
+
+public class Planet {
+    // Fuel spent on every landing
+    public static final float LANDING_FUEL_COST = 10f;
+
+    // The planet's data lives in a PlanetStore, this is only a view of one row of it
+    private final PlanetStore store;
+    private final int index;
+
+    // Generated planets are named "<system> <pos>", the string is only built when asked for
+    private String name;
+    private final StarSystem system;
+    private final int pos;
+    //private Texture texture;
+
+
+    public enum Type {
+        Gas,
+        Mineral,
+        Organic,
+        Star,
+        Event
+    }
+
+    public boolean getHarvest() {
+        return store.isHarvested(index);
+    }
+
+    public void setHarvested(boolean harvested) {
+        store.setHarvested(index, harvested);
+    }
+
+    public String getName() {
+        if (this.name == null) {
+            this.name = this.system.getName() + " " + this.pos;
+        }
+        return this.name;
+    }
+    
+    public Type getType() {
+        return store.getType(index);
+    }
+
+    public int getTier() {
+        return store.getTier(index);
+    }
+
+    public int getSize() {
+        return store.getSize(index);
+    }
+
+    public String getPlayerSize() {
+        return store.getPlayerSize(index);
+    }
+
+    public float getRenderSize() {
+        return store.getRenderSize(index);
+    }
+
+    public boolean getHasAlien(){
+        return store.hasAlien(index);
+    }
+
+    // View of a planet already in a store, named after its system and position
+    public Planet(PlanetStore store, int index, StarSystem system, int pos) {
+        this.store = store;
+        this.index = index;
+        this.system = system;
+        this.pos = pos;
+    }
+
+    //Manual planet maker, pass through generate to add more data
+    public Planet(String name, Type type, int size, int tier) {
+        this.store = new PlanetStore(1);
+        this.index = store.add(type, size, tier, false);
+        this.name = name;
+        this.system = null;
+        this.pos = 0;
+    }
+
+    //Empty constructor
+    public Planet(){
+        this("test", null, 0, 0);
+    }
+
+    //Method for printing planets for debugging purposes
+    public void printPlanet(){
+        System.out.println("Name: " + getName());
+        System.out.println("Type: " + getType());
+        System.out.println("Size: " + getSize());
+        System.out.println("Player Size: " + getPlayerSize());
+        System.out.println("Tier: " + getTier());
+    }
+
+    //Basic planet consructor for fully random planet with the exception of name and tier which is to be inherited from Star System
+    //Systems write straight into their own store instead, this is for one off planets
+    public static Planet generatePlanet(String name, int systemTier, int pos, SplittableRandom rand) {
+        PlanetStore store = new PlanetStore(1);
+        Planet planet = new Planet(store, store.generate(systemTier, rand), null, pos);
+        planet.name = name + " " + pos;
+        return planet;
+    }
+
+}
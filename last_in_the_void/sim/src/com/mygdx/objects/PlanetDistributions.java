@@ -0,0 +1,150 @@
+package com.mygdx.objects;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+import java.util.SplittableRandom;
+
+import com.mygdx.helpers.AliasTable;
+
+/**
+ * Odds for every planet roll, precomputed per system tier into alias tables so each draw is O(1).
+ * The weights come from data/planet_rolls.properties in the assets folder, so they can be retuned without
+ * touching code. Missing keys fall back to the defaults below, which match the original hard coded rolls.
+ * Loaded from the classpath rather than Gdx.files so headless simulations can use it too.
+ * Other classes can get the shared instance via PlanetDistributions.getInstance()
+ */
+public final class PlanetDistributions {
+
+    public static final String DEFAULT_FILE = "/data/planet_rolls.properties";
+
+    // Size classes, the label of a planet follows from the class its size falls in
+    private static final int[] SIZE_CLASS_MIN = {1, 20, 40, 60, 80};
+    private static final int[] SIZE_CLASS_MAX = {19, 39, 59, 79, 99};
+    private static final String[] SIZE_CLASS_LABELS = {
+        "Dwarf Planet", "Small Planet", "Midplanet", "Giant Planet", "Gargantuant Planet"
+    };
+    private static final String[] SIZE_LABELS = new String[SIZE_CLASS_MAX[SIZE_CLASS_MAX.length - 1] + 1];
+
+    static {
+        for (int c = 0; c < SIZE_CLASS_MIN.length; c++) {
+            for (int size = SIZE_CLASS_MIN[c]; size <= SIZE_CLASS_MAX[c]; size++) {
+                SIZE_LABELS[size] = SIZE_CLASS_LABELS[c];
+            }
+        }
+        SIZE_LABELS[0] = SIZE_CLASS_LABELS[0];
+    }
+
+    // Planet types that can be rolled, in the order of the type weights
+    private static final Planet.Type[] ROLLED_TYPES = {Planet.Type.Gas, Planet.Type.Mineral, Planet.Type.Organic};
+
+    private static final int MAX_TIER = Galaxy.MAX_TIER;
+
+    private static PlanetDistributions INSTANCE = null;
+
+    // Indexed by system tier, slot 0 unused
+    private final AliasTable[] typeTables = new AliasTable[MAX_TIER + 1];
+    private final AliasTable[] sizeTables = new AliasTable[MAX_TIER + 1];
+    private final AliasTable[] tierTables = new AliasTable[MAX_TIER + 1];
+    // Chance of an alien, indexed by planet tier
+    private final double[] alienChance = new double[MAX_TIER + 1];
+    // Whether a planet tier can be rolled at all, indexed by system tier then planet tier
+    private final boolean[][] tierPossible = new boolean[MAX_TIER + 1][MAX_TIER + 1];
+
+    // Synchronized since background tasks can build planets before the game does
+    public static synchronized PlanetDistributions getInstance() {
+        if (INSTANCE == null)
+            INSTANCE = load(DEFAULT_FILE);
+
+        return INSTANCE;
+    }
+
+    // Reads a properties file from the classpath, falls back to the defaults if it cannot be found
+    public static PlanetDistributions load(String resource) {
+        Properties props = new Properties();
+        try (InputStream in = PlanetDistributions.class.getResourceAsStream(resource)) {
+            if (in != null) {
+                props.load(in);
+            } else {
+                System.out.println("Planet roll data " + resource + " not found, using defaults");
+            }
+        } catch (IOException e) {
+            System.out.println("Could not read planet roll data " + resource + ": " + e.getMessage());
+        }
+        return new PlanetDistributions(props);
+    }
+
+    public PlanetDistributions(Properties props) {
+        for (int systemTier = 1; systemTier <= MAX_TIER; systemTier++) {
+            typeTables[systemTier] = new AliasTable(weights(props, "type", systemTier, "1,1,1", ROLLED_TYPES.length));
+            sizeTables[systemTier] = new AliasTable(weights(props, "size", systemTier, "19,20,20,20,20", SIZE_CLASS_MIN.length));
+            double[] tierWeights = weights(props, "tier", systemTier, defaultTierWeights(systemTier), systemTier);
+            tierTables[systemTier] = new AliasTable(tierWeights);
+            for (int t = 0; t < tierWeights.length; t++) {
+                tierPossible[systemTier][t + 1] = tierWeights[t] > 0;
+            }
+            alienChance[systemTier] = Double.parseDouble(props.getProperty("alien." + systemTier, systemTier > 1 ? "0.2" : "0").trim());
+        }
+    }
+
+    public Planet.Type rollType(int systemTier, SplittableRandom rand) {
+        return ROLLED_TYPES[typeTables[clampTier(systemTier)].sample(rand)];
+    }
+
+    // Picks a size class from the table, then a size inside it
+    public int rollSize(int systemTier, SplittableRandom rand) {
+        int c = sizeTables[clampTier(systemTier)].sample(rand);
+        return SIZE_CLASS_MIN[c] + rand.nextInt(SIZE_CLASS_MAX[c] - SIZE_CLASS_MIN[c] + 1);
+    }
+
+    public int rollTier(int systemTier, SplittableRandom rand) {
+        return tierTables[clampTier(systemTier)].sample(rand) + 1;
+    }
+
+    public boolean rollAlien(int planetTier, SplittableRandom rand) {
+        double chance = alienChance[clampTier(planetTier)];
+        return chance > 0 && rand.nextDouble() < chance;
+    }
+
+    public boolean canRollTier(int systemTier, int planetTier) {
+        return planetTier >= 1 && planetTier <= MAX_TIER && tierPossible[clampTier(systemTier)][planetTier];
+    }
+
+    // Chance a planet of the given tier has an alien on it
+    public double getAlienChance(int planetTier) {
+        return alienChance[clampTier(planetTier)];
+    }
+
+    public static String sizeLabel(int size) {
+        return SIZE_LABELS[Math.max(0, Math.min(SIZE_LABELS.length - 1, size))];
+    }
+
+    private static int clampTier(int tier) {
+        return Math.max(1, Math.min(MAX_TIER, tier));
+    }
+
+    // Same odds the old branching gave: tiers 1 to n up to tier 3, tiers 2 to 4 from tier 4 on
+    private static String defaultTierWeights(int systemTier) {
+        StringBuilder sb = new StringBuilder();
+        for (int t = 1; t <= systemTier; t++) {
+            if (t > 1) sb.append(',');
+            sb.append(systemTier > 3 && t == 1 ? "0" : "1");
+        }
+        return sb.toString();
+    }
+
+    // Looks up "<key>.<tier>", then "<key>", then the default, and checks the number of weights
+    private static double[] weights(Properties props, String key, int systemTier, String fallback, int expected) {
+        String value = props.getProperty(key + "." + systemTier, props.getProperty(key, fallback));
+        String[] parts = value.split(",");
+        if (parts.length != expected) {
+            System.out.println("Planet roll data: " + key + " for tier " + systemTier + " needs " + expected + " weights, using defaults");
+            parts = fallback.split(",");
+        }
+        double[] weights = new double[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            weights[i] = Double.parseDouble(parts[i].trim());
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,149 @@
+package com.mygdx.objects;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Column store for planets: one primitive array per field instead of one object per planet.
+ * A planet is just an index into the store, Planet is a thin view over it for the game and UI.
+ * Batch simulations can append millions of planets here without ever creating a Planet.
+ */
+public final class PlanetStore {
+
+    private static final byte NO_TYPE = -1;
+    private static final Planet.Type[] TYPES = Planet.Type.values();
+
+    // Bits of the flags column
+    private static final byte HARVESTED = 1;
+    private static final byte HAS_ALIEN = 2;
+    private static final byte SCALED = 4;
+
+    private byte[] types;
+    private byte[] tiers;
+    private short[] sizes;
+    private byte[] flags;
+    private int count;
+
+    public PlanetStore() {
+        this(16);
+    }
+
+    public PlanetStore(int capacity) {
+        capacity = Math.max(1, capacity);
+        this.types = new byte[capacity];
+        this.tiers = new byte[capacity];
+        this.sizes = new short[capacity];
+        this.flags = new byte[capacity];
+    }
+
+    public int getCount() {
+        return this.count;
+    }
+
+    // Appends a planet and returns its index
+    public int add(Planet.Type type, int size, int tier, boolean hasAlien) {
+        if (count == types.length) {
+            grow(count * 2);
+        }
+        int i = count++;
+        types[i] = type == null ? NO_TYPE : (byte) type.ordinal();
+        sizes[i] = (short) size;
+        tiers[i] = (byte) tier;
+        flags[i] = hasAlien ? HAS_ALIEN : 0;
+        return i;
+    }
+
+    // Raw row as stored in a universe file
+    int addRow(byte type, int tier, int size, byte rowFlags) {
+        int i = add(null, size, tier, false);
+        types[i] = type;
+        flags[i] = rowFlags;
+        return i;
+    }
+
+    byte getTypeCode(int i) {
+        return types[i];
+    }
+
+    byte getFlags(int i) {
+        return flags[i];
+    }
+
+    // Rolls a random planet for a system of the given tier, the odds come from PlanetDistributions
+    public int generate(int systemTier, SplittableRandom rand) {
+        return generate(systemTier, rand, PlanetDistributions.getInstance());
+    }
+
+    public int generate(int systemTier, SplittableRandom rand, PlanetDistributions odds) {
+        Planet.Type type = odds.rollType(systemTier, rand);
+        int size = odds.rollSize(systemTier, rand);
+        int tier = odds.rollTier(systemTier, rand);
+        boolean hasAlien = odds.rollAlien(tier, rand);
+
+        int i = add(type, size, tier, hasAlien);
+        flags[i] |= SCALED;
+        return i;
+    }
+
+    public Planet.Type getType(int i) {
+        return types[i] == NO_TYPE ? null : TYPES[types[i]];
+    }
+
+    public int getTier(int i) {
+        return tiers[i];
+    }
+
+    public int getSize(int i) {
+        return sizes[i];
+    }
+
+    public boolean isHarvested(int i) {
+        return (flags[i] & HARVESTED) != 0;
+    }
+
+    public void setHarvested(int i, boolean harvested) {
+        if (harvested) flags[i] |= HARVESTED;
+        else flags[i] &= ~HARVESTED;
+    }
+
+    public boolean hasAlien(int i) {
+        return (flags[i] & HAS_ALIEN) != 0;
+    }
+
+    // Scale the renderer multiplies the size by, hand made planets are left at 0 and drawn at the minimum size
+    public float getRenderSize(int i) {
+        if ((flags[i] & SCALED) == 0) return 0f;
+        return renderScale(getType(i));
+    }
+
+    // Size label shown to the player, shared strings instead of one per planet
+    public String getPlayerSize(int i) {
+        return playerSizeFor(getType(i), sizes[i]);
+    }
+
+    static float renderScale(Planet.Type type) {
+        float typeMod;
+        if (type == Planet.Type.Gas) typeMod = 1.5f;
+        else if (type == Planet.Type.Mineral) typeMod = 0.8f;
+        else if (type == Planet.Type.Organic) typeMod = 1.0f;
+        else typeMod = 0.1f;
+        return typeMod * 0.0015f;
+    }
+
+    static String playerSizeFor(Planet.Type type, int size) {
+        if (type == Planet.Type.Star) return "Star";
+        return PlanetDistributions.sizeLabel(size);
+    }
+
+    // Drops every planet but keeps the arrays, for reusing one store across simulated runs
+    public void clear() {
+        this.count = 0;
+    }
+
+    private void grow(int capacity) {
+        types = Arrays.copyOf(types, capacity);
+        tiers = Arrays.copyOf(tiers, capacity);
+        sizes = Arrays.copyOf(sizes, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+    }
+}
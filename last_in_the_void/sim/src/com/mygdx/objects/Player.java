@@ -15,21 +15,33 @@ public class Player{
     private Inventory inventory;
     private int addingFactor = 0;
     private int resourcePermissionLevel = 1; 
+    // Story flags set by event outcomes, one bit per flag id from the EventCatalogue
+    public static final int MAX_FLAGS = 64;
+    private long flags = 0;
+    // Told about changes to the stats and, through EffectBatch, the inventory; forks start without one
+    private ChangeListener changeListener;
+
+    public interface ChangeListener {
+        void onPlayerChanged(Player player);
+    }
 
 
     public double getFuelCapacity() {
         fuel *= 2;
         this.fuelLim *= 2;
+        changed();
         return fuel;
     }
     public double getHealthCapacity() {
         health *= 2;
         this.healthLim *= 2;
+        changed();
         return health;
     }
     public double getOxygenCapacity() {
         oxygen *= 2;
         this.oxygenLim *= 2;
+        changed();
         return oxygen;
     }
     public void upgradeFuel() {
@@ -57,12 +69,36 @@ public class Player{
         }
     }
 
+    // A separate ship in the same state, for trying things out without touching this one
+    // O(1): the inventory is shared until either ship changes it
+    public Player fork() {
+        Player fork = new Player(inventory.fork());
+        fork.name = name;
+        fork.health = health;
+        fork.healthLim = healthLim;
+        fork.healthUpgradeLevel = healthUpgradeLevel;
+        fork.fuel = fuel;
+        fork.fuelLim = fuelLim;
+        fork.fuelUpgradeLevel = fuelUpgradeLevel;
+        fork.oxygen = oxygen;
+        fork.oxygenLim = oxygenLim;
+        fork.oxygenUpgradeLevel = oxygenUpgradeLevel;
+        fork.addingFactor = addingFactor;
+        fork.resourcePermissionLevel = resourcePermissionLevel;
+        fork.flags = flags;
+        return fork;
+    }
+
     public enum Stats {
         HEALTH, FUEL, OXYGEN;
     }
 
     public Player() {
-        this.inventory = new Inventory(6);
+        this(new Inventory(6));
+    }
+
+    private Player(Inventory inventory) {
+        this.inventory = inventory;
     }
 
     public void setHealth(double val) {
@@ -73,6 +109,7 @@ public class Player{
     } else {
         this.health = val;
     }
+    changed();
 }
 
     public double getHealth() {
@@ -91,6 +128,7 @@ public class Player{
     } else {
         this.fuel = val;
     }
+    changed();
 }
 
     public double getFuel() {
@@ -109,6 +147,7 @@ public class Player{
     } else {
         this.oxygen = val;
     }
+    changed();
 }
 
     public double getOxygen() {
@@ -154,9 +193,61 @@ public class Player{
         this.addingFactor = addingFactor;
     }
 
+    public void setChangeListener(ChangeListener listener) {
+        this.changeListener = listener;
+    }
+
+    void changed() {
+        if (changeListener != null) changeListener.onPlayerChanged(this);
+    }
+
+    public double getStat(Stats stat) {
+        switch (stat) {
+            case HEALTH: return health;
+            case FUEL: return fuel;
+            default: return oxygen;
+        }
+    }
+
+    public double getStatLim(Stats stat) {
+        switch (stat) {
+            case HEALTH: return healthLim;
+            case FUEL: return fuelLim;
+            default: return oxygenLim;
+        }
+    }
+
+    // Sets a stat within its limits without telling the listener, EffectBatch tells it once for the whole batch
+    void putStat(Stats stat, double val) {
+        double clamped = Math.max(0, Math.min(getStatLim(stat), val));
+        switch (stat) {
+            case HEALTH: health = clamped; break;
+            case FUEL: fuel = clamped; break;
+            default: oxygen = clamped;
+        }
+    }
+
+    // Every story flag at once, bit n is flag id n
+    public long getFlags() {
+        return flags;
+    }
+
+    void putFlags(long flags) {
+        this.flags = flags;
+    }
+
+    public void setFlag(int flag) {
+        flags |= 1L << flag;
+    }
+
+    public boolean hasFlag(int flag) {
+        return (flags & (1L << flag)) != 0;
+    }
+
     //add items
     public void addItemToInventory(String item) {
         inventory.addItem(item);
+        changed();
     }
 
     
@@ -164,6 +255,7 @@ public class Player{
         if (inventory != null) { 
             int upgradedResourceGathering =quantity + addingFactor;
            inventory.addItem(item, upgradedResourceGathering);
+           changed();
         } else {
             System.err.println("Player inventory not initialized, cannot add item: " + item);
         }
@@ -171,6 +263,7 @@ public class Player{
 
     public void removeItemFromInventory(String item, int quantity) {
         inventory.removeItem(item, quantity);
+        changed();
     }
 
     public void showInventory() {
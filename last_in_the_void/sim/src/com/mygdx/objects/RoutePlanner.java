@@ -0,0 +1,177 @@
+package com.mygdx.objects;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Plans routes over the galaxy's jump graph using the game's fuel rules:
+ * Universe.JUMP_FUEL_COST for every jump and Planet.LANDING_FUEL_COST for every landing planned on the way.
+ * A trip has to leave some fuel in the tank, the player dies the moment it runs dry.
+ * Every jump costs the same fuel, so Dijkstra reduces to a breadth first search bounded by the
+ * number of jumps a full tank allows, and the planned landings only add a fixed cost on top of the
+ * fewest jumps. A jump moves exactly one layer, so the search only needs arrays for the layers within
+ * that many jumps of the start. Search trees are cached per start system and thrown away when the fuel
+ * capacity changes. Revealing a layer only makes a tree stale if the tree was cut off at the last
+ * revealed layer, so trees further back survive the player's jumps forward.
+ */
+public class RoutePlanner {
+
+    public static final int UNREACHABLE = -1;
+
+    private static final int MAX_CACHED_TREES = 8;
+
+    private final Galaxy galaxy;
+
+    // Search trees by start system, oldest used is dropped first
+    private final Map<Integer, Tree> trees = new LinkedHashMap<Integer, Tree>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Tree> eldest) {
+            return size() > MAX_CACHED_TREES;
+        }
+    };
+
+    // Jumps and previous system for every system in the searched window, indexed by id - baseId
+    private static final class Tree {
+        final int baseId;
+        final int[] hops;
+        final int[] prev;
+        // Revealed layers when the tree was built, only matters if the window was cut off by them
+        final int layers;
+        final boolean cutOff;
+
+        Tree(int baseId, int size, int layers, boolean cutOff) {
+            this.baseId = baseId;
+            this.layers = layers;
+            this.cutOff = cutOff;
+            this.hops = new int[size];
+            this.prev = new int[size];
+            Arrays.fill(hops, UNREACHABLE);
+            Arrays.fill(prev, UNREACHABLE);
+        }
+
+        int hops(int id) {
+            int i = id - baseId;
+            return i >= 0 && i < hops.length ? hops[i] : UNREACHABLE;
+        }
+    }
+
+    private double cachedCapacity = -1;
+    private int treesBuilt = 0;
+
+    public RoutePlanner(Galaxy galaxy) {
+        this.galaxy = galaxy;
+    }
+
+    // Fuel a trip costs with the given number of jumps and planet landings
+    public static float fuelCost(int jumps, int landings) {
+        return jumps * Universe.JUMP_FUEL_COST + landings * Planet.LANDING_FUEL_COST;
+    }
+
+    // Most jumps possible on the given amount of fuel without emptying the tank
+    public static int maxJumps(double fuel) {
+        return maxJumps(fuel, 0);
+    }
+
+    // Most jumps possible while keeping enough fuel for the planned landings, UNREACHABLE if the landings alone do not fit
+    public static int maxJumps(double fuel, int landings) {
+        double left = fuel - landings * Planet.LANDING_FUEL_COST;
+        if (left <= 0) return UNREACHABLE;
+        // Jumps that cost strictly less than what is left
+        return (int) Math.ceil(left / Universe.JUMP_FUEL_COST) - 1;
+    }
+
+    // Search trees built so far, every cache miss builds one
+    public int getTreesBuilt() {
+        return treesBuilt;
+    }
+
+    // Fewest jumps from one system to another on a full tank, UNREACHABLE if a full tank cannot get there
+    public int jumpsTo(int from, int to, double fuelCapacity) {
+        return tree(from, fuelCapacity).hops(to);
+    }
+
+    // Whether the fuel in the tank pays for the fewest jumps to a system plus the planned landings, with some left over
+    public boolean canReach(int from, int to, double fuel, double fuelCapacity, int landings) {
+        int jumps = jumpsTo(from, to, fuelCapacity);
+        return jumps != UNREACHABLE && fuelCost(jumps, landings) < fuel;
+    }
+
+    // System ids from start to destination inclusive, or null if there is no route on a full tank
+    public int[] route(int from, int to, double fuelCapacity) {
+        Tree tree = tree(from, fuelCapacity);
+        int jumps = tree.hops(to);
+        if (jumps == UNREACHABLE) {
+            return null;
+        }
+        int[] path = new int[jumps + 1];
+        int at = to;
+        for (int i = path.length - 1; i >= 0; i--) {
+            path[i] = at;
+            at = tree.prev[at - tree.baseId];
+        }
+        return path;
+    }
+
+    // How many other systems can be reached with the fuel in the tank right now, with fuel left for the planned landings
+    public int countReachable(int from, double fuel, double fuelCapacity, int landings) {
+        int limit = maxJumps(fuel, landings);
+        int[] hops = tree(from, fuelCapacity).hops;
+        int count = 0;
+        for (int i = 0; i < hops.length; i++) {
+            if (hops[i] > 0 && hops[i] <= limit) count++;
+        }
+        return count;
+    }
+
+    // Search tree for a start system, built only on a cache miss
+    private Tree tree(int from, double fuelCapacity) {
+        if (cachedCapacity != fuelCapacity) {
+            trees.clear();
+            cachedCapacity = fuelCapacity;
+        }
+        Tree tree = trees.get(from);
+        if (tree == null || (tree.cutOff && tree.layers != galaxy.getLayers())) {
+            tree = search(from, maxJumps(fuelCapacity));
+            trees.put(from, tree);
+            treesBuilt++;
+        }
+        return tree;
+    }
+
+    private Tree search(int from, int maxJumps) {
+        int depth = Galaxy.depthOf(from);
+        int firstDepth = Math.max(0, depth - maxJumps);
+        int layers = galaxy.getLayers();
+        int lastDepth = Math.min(layers - 1, depth + maxJumps);
+        int baseId = Galaxy.idOf(firstDepth, 0);
+        Tree tree = new Tree(baseId, (lastDepth - firstDepth + 1) * Galaxy.LAYER_SIZE, layers,
+                lastDepth < depth + maxJumps);
+        int[] hops = tree.hops;
+        int[] prev = tree.prev;
+
+        int[] queue = new int[hops.length];
+        int[] neighbours = new int[Galaxy.MAX_NEIGHBOURS];
+        int head = 0;
+        int tail = 0;
+        hops[from - baseId] = 0;
+        queue[tail++] = from;
+
+        while (head < tail) {
+            int at = queue[head++];
+            int nextHops = hops[at - baseId] + 1;
+            if (nextHops > maxJumps) continue;
+
+            int found = galaxy.getNeighbours(at, neighbours);
+            for (int i = 0; i < found; i++) {
+                int next = neighbours[i] - baseId;
+                if (hops[next] == UNREACHABLE) {
+                    hops[next] = nextHops;
+                    prev[next] = at;
+                    queue[tail++] = neighbours[i];
+                }
+            }
+        }
+        return tree;
+    }
+}
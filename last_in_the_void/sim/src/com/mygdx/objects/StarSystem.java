@@ -0,0 +1,124 @@
+package com.mygdx.objects;
+import java.util.SplittableRandom;
+import com.mygdx.objects.Planet.Type;
+
+public class StarSystem{
+    // Built from key the first time it is shown, hand made systems set it directly
+    private String name;
+    private long key;
+    private int size;
+    private int tier;
+    private int maxPlanets;
+    // Built on first use, destinations stay as a lightweight header until then
+    private Planet[] planets;
+    private PlanetStore planetStore;
+    private long planetSeed;
+
+    com.mygdx.objects.Planet.Type star = Type.Star;
+
+    public Planet[] getPlanets() {
+        if (this.planets == null) {
+            genrateStarPlanets();
+        }
+        return this.planets;
+    }
+
+    // Header value, does not build the planets
+    public int getNumPlanets() {
+        return this.maxPlanets;
+    }
+
+    public boolean hasGeneratedPlanets() {
+        return this.planets != null;
+    }
+
+    public int getTier() {
+        return this.tier;
+    }
+
+    public String getName() {
+        if (this.name == null) {
+            this.name = SystemKeys.nameOf(this.key);
+        }
+        return this.name;
+    }
+
+    public long getKey() {
+        return this.key;
+    }
+
+
+    // Header only, the planets are generated from planetSeed when first needed
+    public StarSystem(long key, int starSize, int tier, int maxPlanets, long planetSeed){
+        this.key = key;
+        this.tier = tier;
+        this.size = starSize;
+        this.maxPlanets = maxPlanets;
+        this.planetSeed = planetSeed;
+    }
+
+
+
+    // Planets already in a store, e.g. read from a universe file
+    public StarSystem(long key, int starSize, int tier, PlanetStore store, int first, int count){
+        this.key = key;
+        this.tier = tier;
+        this.size = starSize;
+        this.maxPlanets = count;
+        this.planetStore = store;
+        this.planets = new Planet[count];
+        for (int i = 0; i < count; i++) {
+            this.planets[i] = new Planet(store, first + i, this, i+1);
+        }
+    }
+
+    public StarSystem(String name, int tier){
+        this.name = name;
+        this.tier = tier;
+        this.size = 2000;
+        this.maxPlanets = 6;
+        this.planets = new Planet[6];
+    }
+
+    public StarSystem(){
+        this.name = "Deep Space";
+        this.tier = 1;
+        this.size = 2000;
+        this.maxPlanets = 4;
+        this.planets = new Planet[4];
+
+        this.planets[0] = new Planet("Deep Space Star", Type.Star, 2000, 1);
+        this.planets[1] = new Planet("Deep Space Mineral Planet", Type.Mineral, 50, 1);
+        this.planets[2] = new Planet("Deep Space Organic Planet", Type.Organic, 50, 1);
+        this.planets[3] = new Planet("Deep Space Gas Planet", Type.Gas, 50, 1);
+
+    }
+
+    // Planets come from the system's own seed, so the same system always gets the same planets however late they are built
+    public void genrateStarPlanets(){
+        if (this.planets != null) {
+            return;
+        }
+        this.planetStore = new PlanetStore(this.maxPlanets);
+        int first = writePlanets(this.planetStore);
+        this.planets = new Planet[this.maxPlanets];
+        for (int i = 0; i < this.maxPlanets; i++) {
+            this.planets[i] = new Planet(this.planetStore, first + i, this, i+1);
+        }
+    }
+
+    // Appends this system's planets to a store without making Planet objects, returns the index of the star
+    // Batch simulations share one store across many systems this way
+    public int writePlanets(PlanetStore store) {
+        SplittableRandom rand = new SplittableRandom(this.planetSeed);
+        // A header size of exactly 200 used to make this bound 0 and throw
+        int starSize = rand.nextInt(Math.max(1, this.size-200)) + 200;
+
+        int first = store.add(star, starSize, this.tier, false);
+        for (int i = 1; i < this.maxPlanets; i++) {
+            store.generate(this.tier, rand);
+        }
+        return first;
+    }
+
+}
\ No newline at end of file
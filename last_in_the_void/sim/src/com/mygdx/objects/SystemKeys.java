@@ -0,0 +1,85 @@
+package com.mygdx.objects;
+
+import com.mygdx.helpers.SeedTree;
+
+/**
+ * Packed 64 bit identifiers for star systems: the galaxy id in the high bits, the name code in the low 21.
+ * A name code stands for three letters and a number from 0 to 99, e.g. "QJG39". The code of a system is a
+ * seeded bijection of its id, so no two systems share a name until the galaxy runs past NAME_CODES systems,
+ * and nothing needs to remember which names are taken. The string is only built when something displays it.
+ */
+public final class SystemKeys {
+
+    private static final int LETTER_CODES = 26 * 26 * 26;
+    private static final int NUMBER_CODES = 100;
+    // Every possible name
+    public static final int NAME_CODES = LETTER_CODES * NUMBER_CODES;
+
+    private static final int NAME_BITS = 21;
+    private static final long NAME_MASK = (1L << NAME_BITS) - 1;
+    private static final int ROUNDS = 3;
+
+    private final long nameSeed;
+    private final long multiplier;
+    private final long offset;
+
+    public SystemKeys(long nameSeed) {
+        this.nameSeed = nameSeed;
+        // NAME_CODES = 2^5 * 5^2 * 13^3, a multiplier sharing none of those factors makes id -> code one to one
+        long m = (SeedTree.mix(nameSeed) & Long.MAX_VALUE) % NAME_CODES;
+        while (m % 2 == 0 || m % 5 == 0 || m % 13 == 0) {
+            m++;
+        }
+        this.multiplier = m;
+        this.offset = (SeedTree.mix(nameSeed + 1) & Long.MAX_VALUE) % NAME_CODES;
+    }
+
+    public long keyOf(int id) {
+        return ((long) id << NAME_BITS) | nameCode(id);
+    }
+
+    public static int idOf(long key) {
+        return (int) (key >>> NAME_BITS);
+    }
+
+    public static int nameCodeOf(long key) {
+        return (int) (key & NAME_MASK);
+    }
+
+    public static String nameOf(long key) {
+        return formatName(nameCodeOf(key));
+    }
+
+    // Affine step to spread ids out, then a few Feistel rounds over (letters, number) so neighbours look unrelated
+    // Each step can be undone, so the whole thing stays one to one
+    public int nameCode(int id) {
+        long x = (multiplier * (id % NAME_CODES) + offset) % NAME_CODES;
+        int letters = (int) (x / NUMBER_CODES);
+        int number = (int) (x % NUMBER_CODES);
+        for (int round = 0; round < ROUNDS; round++) {
+            letters = (int) ((letters + round(round, number) % LETTER_CODES) % LETTER_CODES);
+            number = (int) ((number + round(round + ROUNDS, letters) % NUMBER_CODES) % NUMBER_CODES);
+        }
+        return letters * NUMBER_CODES + number;
+    }
+
+    // Three letters from A to Z, then the number without padding
+    public static String formatName(int code) {
+        int letters = code / NUMBER_CODES;
+        int number = code % NUMBER_CODES;
+        char[] chars = new char[5];
+        chars[0] = (char) ('A' + letters / (26 * 26));
+        chars[1] = (char) ('A' + (letters / 26) % 26);
+        chars[2] = (char) ('A' + letters % 26);
+        int length = 3;
+        if (number >= 10) {
+            chars[length++] = (char) ('0' + number / 10);
+        }
+        chars[length++] = (char) ('0' + number % 10);
+        return new String(chars, 0, length);
+    }
+
+    private long round(int round, int value) {
+        return SeedTree.mix(nameSeed + 0x9e3779b97f4a7c15L * (round + 1) + value) & Long.MAX_VALUE;
+    }
+}
@@ -0,0 +1,176 @@
+package com.mygdx.objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntConsumer;
+import com.mygdx.helpers.SeedTree;
+
+
+public class Universe {
+    // Fuel spent on every jump between systems
+    public static final float JUMP_FUEL_COST = 25f;
+    public static final int DEFAULT_LENGTH = 100;
+
+    private int maxDest;
+    // Depth over which tiers ramp up, runs can now go deeper than this
+    private final int universeLength;
+    private int depth;
+    private StarSystem[] destinations;
+    private int[] destinationIds;
+
+    //Player's current universe they're explporing, all on screen events take place here
+    private StarSystem currentPosition;
+    private int currentId;
+
+    // Every system of the run, streamed in sectors as the player moves
+    private final Galaxy galaxy;
+    private final RoutePlanner routePlanner;
+
+    // Every random roll of the run comes from this seed
+    private final SeedTree seeds;
+    private final SplittableRandom eventRandom;
+
+    public StarSystem[] getDestinations(){
+        return this.destinations;
+    }
+
+    public int getDepth() {
+        return this.depth;
+    }
+
+    public StarSystem getCurrentPosition() {
+        return this.currentPosition;
+    }
+
+    public int getCurrentSystemId() {
+        return this.currentId;
+    }
+
+    public int[] getDestinationIds() {
+        return this.destinationIds;
+    }
+
+    public Galaxy getGalaxy() {
+        return this.galaxy;
+    }
+
+    public RoutePlanner getRoutePlanner() {
+        return this.routePlanner;
+    }
+
+    public long getSeed() {
+        return this.seeds.getSeed();
+    }
+
+    public SeedTree getSeeds() {
+        return this.seeds;
+    }
+
+    // Shared stream for event rolls so a whole run can be reproduced from its seed
+    public SplittableRandom getEventRandom() {
+        return this.eventRandom;
+    }
+
+    
+    //Getters and setters for upgrade functionality
+    public int getMaxDest() {
+        return this.maxDest;
+    }
+
+    public void setMaxDest(int newMax) {
+        this.maxDest = newMax;
+    }
+
+    //Main constructor to build an empty universe with the starting universe as current destination and generate the first set of choices for travel
+    public Universe(){
+        this(new SplittableRandom().nextLong());
+    }
+
+    //Builds the same universe every time for a given seed
+    public Universe(long seed){
+        this(seed, DEFAULT_LENGTH, null);
+    }
+
+    //Opens a universe generated ahead of time, layers past the end of the file carry on from its seed
+    public Universe(UniverseFile file){
+        this(file.getSeed(), file.getUniverseLength(), file);
+    }
+
+    private Universe(long seed, int universeLength, UniverseFile file){
+        this.universeLength = universeLength;
+        this.seeds = new SeedTree(seed);
+        this.eventRandom = seeds.events();
+        this.galaxy = new Galaxy(seeds, universeLength, file);
+        this.routePlanner = new RoutePlanner(galaxy);
+        this.maxDest = 2;
+        this.depth = 0;
+        this.currentId = 0;
+        this.currentPosition = galaxy.getSystem(0);
+        this.galaxy.markVisited(0, this.currentPosition);
+        this.generateDestinations();
+    }
+
+    // Picks which systems of the next layer the scanner shows, only linked systems count
+    // The count depends only on (seed, depth) and the scanner level, like before
+    private void generateDestinations() {
+        int destDepth = this.depth + 1;
+        galaxy.ensureDepth(destDepth);
+
+        int systemsNum = seeds.depth(destDepth).nextInt(maxDest)+1;
+        int[] ids = new int[systemsNum];
+        int found = 0;
+        for (int i = 0; i < Galaxy.LAYER_SIZE && found < systemsNum; i++) {
+            int id = Galaxy.idOf(destDepth, i);
+            if (galaxy.isLinked(currentId, id)) {
+                ids[found++] = id;
+            }
+        }
+
+        // Only headers are built here, planets wait until the system is picked
+        StarSystem[] newDestinations = new StarSystem[found];
+        this.destinationIds = new int[found];
+        for (int i = 0; i < found; i++) {
+            this.destinationIds[i] = ids[i];
+            newDestinations[i] = galaxy.getSystem(ids[i]);
+        }
+        this.destinations = newDestinations;
+    }
+
+    // Method for selecting a destination universe and generating new choices for the player right away
+    // There is no depth cap any more, the galaxy streams sectors in and out as the player goes
+    // Returns false if the scanner has no such destination
+    public boolean chooseDestination(int destination) {
+        if (destination < 0 || destination >= this.destinationIds.length) {
+            return false;
+        }
+        return jumpTo(this.destinationIds[destination]);
+    }
+
+    // Moves to any system one jump away from the current one, including systems already visited
+    // Returns false and stays put if the system is out of jump range, the caller reports it
+    public boolean jumpTo(int systemId) {
+        if (!galaxy.isLinked(currentId, systemId)) {
+            return false;
+        }
+        //Update current position
+        this.currentId = systemId;
+        this.depth = Galaxy.depthOf(systemId);
+        this.currentPosition = galaxy.getSystem(systemId);
+        this.currentPosition.genrateStarPlanets();
+        this.galaxy.markVisited(systemId, this.currentPosition);
+        this.generateDestinations();
+        return true;
+    }
+
+    // Builds every system down to universeLength in the background, so jumps only pick up systems that are already there
+    public ForkJoinTask<Void> pregenerate(ForkJoinPool pool) {
+        return galaxy.pregenerate(pool, universeLength);
+    }
+
+    // Visits every generated system within reach of the given amount of fuel
+    public void forEachSystemInFuelRange(double fuel, IntConsumer out) {
+        int jumps = (int) (fuel / JUMP_FUEL_COST);
+        galaxy.forEachWithin(currentId, jumps * Galaxy.JUMP_RANGE, out);
+    }
+
+}
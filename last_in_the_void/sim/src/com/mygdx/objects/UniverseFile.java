@@ -0,0 +1,223 @@
+package com.mygdx.objects;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import com.mygdx.helpers.SeedTree;
+
+/**
+ * A whole seeded universe written out ahead of time, read back through a memory mapped buffer.
+ * Opening one only checks the header and the system table, every process that maps the same file shares the OS page cache copy.
+ *
+ * Layout, all little endian:
+ *   header   32 bytes: magic, format version, seed, layers, universe length, planet count, unused
+ *   systems  SYSTEM_BYTES per id, in id order, so any system is found without an index
+ *            names are not stored, they follow from the seed through SystemKeys
+ *   planets  PLANET_BYTES per planet, each system's planets next to each other
+ */
+public final class UniverseFile {
+
+    private static final int MAGIC = 0x5654494c; // "LITV"
+    private static final int FORMAT_VERSION = 3;
+    private static final int HEADER_BYTES = 32;
+
+    // x, y, first planet, star size, tier, planet count, links, padding
+    private static final int SYSTEM_BYTES = 20;
+    // type, tier, size, flags
+    private static final int PLANET_BYTES = 5;
+    private static final int NO_PLANETS = -1;
+
+    private final ByteBuffer data;
+    private final long seed;
+    private final int layers;
+    private final int universeLength;
+    private final int planetCount;
+    private final int planetsStart;
+
+    private UniverseFile(ByteBuffer data) throws IOException {
+        this.data = data.order(ByteOrder.LITTLE_ENDIAN);
+        if (data.capacity() < HEADER_BYTES || data.getInt(0) != MAGIC) {
+            throw new IOException("Not a universe file");
+        }
+        if (data.getInt(4) != FORMAT_VERSION) {
+            throw new IOException("Unsupported universe file version " + data.getInt(4));
+        }
+        this.seed = data.getLong(8);
+        this.layers = data.getInt(16);
+        this.universeLength = data.getInt(20);
+        this.planetCount = data.getInt(24);
+        if (layers < 0 || planetCount < 0) {
+            throw new IOException("Universe file header is corrupt");
+        }
+        long start = HEADER_BYTES + (long) layers * Galaxy.LAYER_SIZE * SYSTEM_BYTES;
+        if (data.capacity() < start + (long) planetCount * PLANET_BYTES) {
+            throw new IOException("Universe file is truncated");
+        }
+        this.planetsStart = (int) start;
+
+        // Every system has to point inside the planet table, so readSystem never reads past it
+        int systems = layers * Galaxy.LAYER_SIZE;
+        for (int id = 0; id < systems; id++) {
+            int first = data.getInt(system(id) + 8);
+            if (first == NO_PLANETS) continue;
+            int count = getPlanetCount(id);
+            if (first < 0 || count < 0 || first + (long) count > planetCount) {
+                throw new IOException("System " + id + " points outside the planet table");
+            }
+        }
+    }
+
+    // Maps a file read only, the mapping stays valid after the channel is closed
+    public static UniverseFile open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new UniverseFile(map);
+        }
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    // Depths stored in the file, deeper ones are generated from the seed as usual
+    public int getLayers() {
+        return layers;
+    }
+
+    public int getUniverseLength() {
+        return universeLength;
+    }
+
+    public int getPlanetCount() {
+        return planetCount;
+    }
+
+    public boolean covers(int id) {
+        return id >= 0 && Galaxy.depthOf(id) < layers;
+    }
+
+    public float getX(int id) {
+        return data.getFloat(system(id));
+    }
+
+    public float getY(int id) {
+        return data.getFloat(system(id) + 4);
+    }
+
+    public int getStarSize(int id) {
+        return data.getShort(system(id) + 12);
+    }
+
+    public int getTier(int id) {
+        return data.get(system(id) + 14);
+    }
+
+    public int getPlanetCount(int id) {
+        return data.get(system(id) + 15);
+    }
+
+    public int getLinks(int id) {
+        return data.get(system(id) + 16) & 0xff;
+    }
+
+    // A system with its planets copied out of the file, ready to visit
+    public StarSystem readSystem(int id, long key) {
+        int at = system(id);
+        int count = getPlanetCount(id);
+        int first = data.getInt(at + 8);
+        PlanetStore store = new PlanetStore(count);
+        for (int i = 0; i < count; i++) {
+            int p = planetsStart + (first + i) * PLANET_BYTES;
+            store.addRow(data.get(p), data.get(p + 1), data.getShort(p + 2), data.get(p + 4));
+        }
+        return new StarSystem(key, getStarSize(id), getTier(id), store, 0, count);
+    }
+
+    private int system(int id) {
+        if (!covers(id)) {
+            throw new IndexOutOfBoundsException("System " + id + " is not in this universe file");
+        }
+        return HEADER_BYTES + id * SYSTEM_BYTES;
+    }
+
+    // Generates layers depths of the universe for a seed and writes it to path
+    public static void write(long seed, int layers, int universeLength, Path path) throws IOException {
+        Galaxy galaxy = new Galaxy(new SeedTree(seed), universeLength);
+        galaxy.ensureDepth(layers - 1);
+        int systems = layers * Galaxy.LAYER_SIZE;
+
+        // Planets first, so the file size is known before mapping it
+        PlanetStore planets = new PlanetStore(systems * 6);
+        int[] firstPlanet = new int[systems];
+        for (int id = 0; id < systems; id++) {
+            // Deep Space is hand made and rebuilt on load, empty slots of layer 0 have nothing
+            if (id == 0 || !galaxy.exists(id)) {
+                firstPlanet[id] = NO_PLANETS;
+                continue;
+            }
+            firstPlanet[id] = galaxy.getSystem(id).writePlanets(planets);
+        }
+
+        int planetsStart = HEADER_BYTES + systems * SYSTEM_BYTES;
+        long size = planetsStart + (long) planets.getCount() * PLANET_BYTES;
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Universe of " + layers + " layers is too big for one file");
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer out = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            out.order(ByteOrder.LITTLE_ENDIAN);
+            out.putInt(0, MAGIC);
+            out.putInt(4, FORMAT_VERSION);
+            out.putLong(8, seed);
+            out.putInt(16, layers);
+            out.putInt(20, universeLength);
+            out.putInt(24, planets.getCount());
+
+            for (int id = 0; id < systems; id++) {
+                int at = HEADER_BYTES + id * SYSTEM_BYTES;
+                if (!galaxy.exists(id)) continue;
+                out.putFloat(at, galaxy.getX(id));
+                out.putFloat(at + 4, galaxy.getY(id));
+                out.putInt(at + 8, firstPlanet[id]);
+                out.putShort(at + 12, (short) galaxy.getStarSize(id));
+                out.put(at + 14, (byte) galaxy.getTier(id));
+                out.put(at + 15, (byte) galaxy.getPlanetCount(id));
+                out.put(at + 16, (byte) galaxy.getLinks(id));
+            }
+
+            for (int p = 0; p < planets.getCount(); p++) {
+                int at = planetsStart + p * PLANET_BYTES;
+                out.put(at, planets.getTypeCode(p));
+                out.put(at + 1, (byte) planets.getTier(p));
+                out.putShort(at + 2, (short) planets.getSize(p));
+                out.put(at + 4, planets.getFlags(p));
+            }
+            out.force();
+        }
+    }
+
+    // Offline generator: <seed> <layers> <output file> [universe length]
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.out.println("Usage: UniverseFile <seed> <layers> <output file> [universe length]");
+            return;
+        }
+        long seed = Long.parseLong(args[0]);
+        int layers = Integer.parseInt(args[1]);
+        Path path = Paths.get(args[2]);
+        int universeLength = args.length > 3 ? Integer.parseInt(args[3]) : Universe.DEFAULT_LENGTH;
+
+        long start = System.nanoTime();
+        write(seed, layers, universeLength, path);
+        System.out.println("Wrote " + layers + " layers of seed " + seed + " to " + path
+            + " in " + (System.nanoTime() - start) / 1000000 + " ms");
+    }
+}
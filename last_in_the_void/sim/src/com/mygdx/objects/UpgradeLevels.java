@@ -0,0 +1,35 @@
+package com.mygdx.objects;
+
+/**
+ * Read only view of the ship's upgrade levels, all that events need to scale their outcomes.
+ * UpgradesUI implements it in the game, headless runs can use NONE or their own implementation.
+ */
+public interface UpgradeLevels {
+
+    // A ship with no upgrades bought
+    UpgradeLevels NONE = new UpgradeLevels() {};
+
+    default int getDestinationLevel() {
+        return 0;
+    }
+
+    default int getFuelLevel() {
+        return 0;
+    }
+
+    default int getHealthLevel() {
+        return 0;
+    }
+
+    default int getInventoryLevel() {
+        return 0;
+    }
+
+    default int getResourcesLevel() {
+        return 0;
+    }
+
+    default int getOxygenLevel() {
+        return 0;
+    }
+}
@@ -0,0 +1,183 @@
+package com.mygdx.sim;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.mygdx.objects.Galaxy;
+import com.mygdx.objects.Planet;
+import com.mygdx.objects.Universe;
+
+/**
+ * The balance constants a headless run can be played with, as a vector of whole numbers so
+ * BalanceTuner can cross and mutate them: the fuel for a jump and a landing, what harvesting
+ * costs per planet tier, and how much each upgrade chain costs relative to UpgradeChain.
+ * DEFAULT holds the values the game ships with. Equal vectors are equal params, so they can
+ * key a cache.
+ */
+public final class BalanceParams {
+
+    public enum Gene {
+        JUMP_FUEL(10, 40, 1),
+        LANDING_FUEL(2, 20, 1),
+        HARVEST_BASE(2, 30, 1),
+        // Extra harvest cost on top of the base for tiers 2, 3 and 4, tier 1 pays the base
+        SURCHARGE_2(0, 20, 1),
+        SURCHARGE_3(0, 30, 1),
+        SURCHARGE_4(0, 40, 1),
+        // Percent of the UpgradeChain amounts, one per chain in UpgradeChain order
+        FUEL_UPGRADES(25, 200, 5),
+        HEALTH_UPGRADES(25, 200, 5),
+        OXYGEN_UPGRADES(25, 200, 5),
+        DESTINATION_UPGRADES(25, 200, 5),
+        INVENTORY_UPGRADES(25, 200, 5),
+        RESOURCES_UPGRADES(25, 200, 5);
+
+        private final int min;
+        private final int max;
+        private final int step;
+
+        Gene(int min, int max, int step) {
+            this.min = min;
+            this.max = max;
+            this.step = step;
+        }
+
+        public int getMin() {
+            return min;
+        }
+
+        public int getMax() {
+            return max;
+        }
+
+        // Smallest change worth trying, upgrade percentages move in fives
+        public int getStep() {
+            return step;
+        }
+
+        // Nearest allowed value
+        public int clamp(int value) {
+            return Math.max(min, Math.min(max, value));
+        }
+    }
+
+    private static final Gene[] GENES = Gene.values();
+
+    public static final BalanceParams DEFAULT = new BalanceParams(new int[]{
+            (int) Universe.JUMP_FUEL_COST,
+            (int) Planet.LANDING_FUEL_COST,
+            10, 2, 4, 8,
+            100, 100, 100, 100, 100, 100
+    });
+
+    private final int[] genes;
+    private final int hash;
+    // Worked out once, every landing and purchase of a run reads them
+    private final int[] harvestCosts;
+    private final Map<UpgradeChain, List<Map<String, Integer>>> upgradeCosts;
+
+    private BalanceParams(int[] genes) {
+        this.genes = genes;
+        this.hash = Arrays.hashCode(genes);
+
+        harvestCosts = new int[Galaxy.MAX_TIER + 1];
+        int base = get(Gene.HARVEST_BASE);
+        harvestCosts[1] = base;
+        harvestCosts[2] = base + get(Gene.SURCHARGE_2);
+        harvestCosts[3] = base + get(Gene.SURCHARGE_3);
+        harvestCosts[4] = base + get(Gene.SURCHARGE_4);
+
+        upgradeCosts = new EnumMap<>(UpgradeChain.class);
+        for (UpgradeChain chain : UpgradeChain.values()) {
+            int percent = genes[Gene.FUEL_UPGRADES.ordinal() + chain.ordinal()];
+            List<Map<String, Integer>> steps = new ArrayList<>(chain.getLevels());
+            for (int step = 0; step < chain.getLevels(); step++) {
+                Map<String, Integer> scaled = new LinkedHashMap<>();
+                for (Map.Entry<String, Integer> entry : chain.getCost(step).entrySet()) {
+                    // Never free, a chain that costs nothing is not a balance anyone wants
+                    scaled.put(entry.getKey(), Math.max(1, Math.round(entry.getValue() * percent / 100f)));
+                }
+                steps.add(Collections.unmodifiableMap(scaled));
+            }
+            upgradeCosts.put(chain, steps);
+        }
+    }
+
+    public int get(Gene gene) {
+        return genes[gene.ordinal()];
+    }
+
+    // Same params with one gene changed, clamped to the gene's range
+    public BalanceParams with(Gene gene, int value) {
+        int[] changed = genes.clone();
+        changed[gene.ordinal()] = gene.clamp(value);
+        return new BalanceParams(changed);
+    }
+
+    // Builds params from a full vector in Gene order, each value clamped to its range
+    public static BalanceParams of(int[] values) {
+        if (values.length != GENES.length) {
+            throw new IllegalArgumentException("Expected " + GENES.length + " genes, got " + values.length);
+        }
+        int[] genes = new int[GENES.length];
+        for (Gene gene : GENES) {
+            genes[gene.ordinal()] = gene.clamp(values[gene.ordinal()]);
+        }
+        return new BalanceParams(genes);
+    }
+
+    public int[] toArray() {
+        return genes.clone();
+    }
+
+    public float getJumpFuelCost() {
+        return get(Gene.JUMP_FUEL);
+    }
+
+    public float getLandingFuelCost() {
+        return get(Gene.LANDING_FUEL);
+    }
+
+    // What harvesting costs, indexed by planet tier, see PlanetLandingEvent
+    public int[] getHarvestCosts() {
+        return harvestCosts;
+    }
+
+    // What the given step of the chain costs with this chain's percentage applied
+    public Map<String, Integer> getCost(UpgradeChain chain, int step) {
+        return upgradeCosts.get(chain).get(step);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof BalanceParams && Arrays.equals(genes, ((BalanceParams) o).genes);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    // e.g. "jump 25, landing 10, harvest 10+0/2/4/8, upgrades 100/100/100/100/100/100%"
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        text.append("jump ").append(get(Gene.JUMP_FUEL))
+                .append(", landing ").append(get(Gene.LANDING_FUEL))
+                .append(", harvest ").append(get(Gene.HARVEST_BASE)).append("+0/")
+                .append(get(Gene.SURCHARGE_2)).append('/')
+                .append(get(Gene.SURCHARGE_3)).append('/')
+                .append(get(Gene.SURCHARGE_4))
+                .append(", upgrades ");
+        for (UpgradeChain chain : UpgradeChain.values()) {
+            if (chain.ordinal() > 0) text.append('/');
+            text.append(genes[Gene.FUEL_UPGRADES.ordinal() + chain.ordinal()]);
+        }
+        return text.append('%').toString();
+    }
+}
@@ -0,0 +1,257 @@
+package com.mygdx.sim;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+import java.util.stream.IntStream;
+
+import com.mygdx.helpers.SeedTree;
+import com.mygdx.objects.Universe;
+
+/**
+ * Searches for BalanceParams whose survival curve, the share of runs still alive at each depth,
+ * comes closest to a target curve. A genetic search: the best few params carry over, the rest
+ * of each generation is bred from tournament winners by uniform crossover and small mutations.
+ *
+ * Every candidate plays the same seeds, so two candidates only differ by their params and not by
+ * their luck. The runs of a candidate are played in parallel, and fitness is cached by params,
+ * so survivors and repeated children cost nothing after their first generation.
+ *
+ * Run with e.g. gradlew :sim:tuneBalance --args="30 24 200 42 greedy 10:0.9,40:0.5,100:0.05"
+ * (generations, population, runs per candidate, seed, policy, target depth:survival points).
+ */
+public class BalanceTuner {
+
+    // Best candidates copied into the next generation unchanged
+    private static final int ELITES = 2;
+    private static final int TOURNAMENT = 3;
+    // Chance that a gene of a child is nudged
+    private static final double MUTATION_RATE = 0.2;
+    // Mutations move a gene by up to this many steps either way
+    private static final int MUTATION_STEPS = 3;
+
+    private final int runs;
+    private final long baseSeed;
+    private final LongFunction<Policy> policies;
+    private final double[] target;
+    private final ForkJoinPool pool;
+    private final Map<BalanceParams, Double> fitnessCache = new ConcurrentHashMap<>();
+    private final AtomicInteger cacheHits = new AtomicInteger();
+
+    public BalanceTuner(int runs, long baseSeed, LongFunction<Policy> policies, double[] target, ForkJoinPool pool) {
+        this.runs = runs;
+        this.baseSeed = baseSeed;
+        this.policies = policies;
+        this.target = target;
+        this.pool = pool;
+    }
+
+    // Candidates played so far, each once
+    public int getEvaluated() {
+        return fitnessCache.size();
+    }
+
+    public int getCacheHits() {
+        return cacheHits.get();
+    }
+
+    /**
+     * Share of runs that reached each depth, index 0 is the start and always 1.
+     * Runs that got stuck count as ending where they got stuck.
+     */
+    public double[] survivalCurve(BalanceParams params) {
+        int[] reached;
+        try {
+            reached = pool.submit(() -> IntStream.range(0, runs).parallel()
+                    .map(run -> play(params, SeedTree.mix(baseSeed + run)))
+                    .toArray()).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Balance run interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Balance run failed", e.getCause());
+        }
+
+        double[] curve = new double[target.length];
+        for (int depth : reached) {
+            for (int d = 0; d <= Math.min(depth, curve.length - 1); d++) {
+                curve[d]++;
+            }
+        }
+        for (int d = 0; d < curve.length; d++) {
+            curve[d] /= runs;
+        }
+        return curve;
+    }
+
+    private int play(BalanceParams params, long seed) {
+        return new BotSession(seed, policies.apply(seed), params).play().getSimulation().getDepth();
+    }
+
+    // Minus the mean squared distance from the target curve, 0 is a perfect match
+    public double fitness(BalanceParams params) {
+        Double cached = fitnessCache.get(params);
+        if (cached != null) {
+            cacheHits.incrementAndGet();
+            return cached;
+        }
+        double[] curve = survivalCurve(params);
+        double error = 0;
+        for (int d = 1; d < curve.length; d++) {
+            double diff = curve[d] - target[d];
+            error += diff * diff;
+        }
+        double fitness = -error / (curve.length - 1);
+        fitnessCache.put(params, fitness);
+        return fitness;
+    }
+
+    /**
+     * Runs the search from the game's own params and returns the best params found.
+     * Prints the best fitness after every generation.
+     */
+    public BalanceParams tune(int generations, int populationSize, long seed, PrintStream log) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<BalanceParams> population = new ArrayList<>(populationSize);
+        population.add(BalanceParams.DEFAULT);
+        while (population.size() < populationSize) {
+            population.add(mutate(BalanceParams.DEFAULT, random, 1.0));
+        }
+
+        for (int generation = 0; generation < generations; generation++) {
+            population = rank(population);
+            BalanceParams best = population.get(0);
+            log.println("Generation " + generation + ": best " + String.format("%.5f", fitnessCache.get(best))
+                    + " (" + best + "), " + getEvaluated() + " played, " + getCacheHits() + " cached");
+
+            List<BalanceParams> next = new ArrayList<>(population.subList(0, Math.min(ELITES, population.size())));
+            while (next.size() < populationSize) {
+                BalanceParams mother = select(population, random);
+                BalanceParams father = select(population, random);
+                next.add(mutate(crossover(mother, father, random), random, MUTATION_RATE));
+            }
+            population = next;
+        }
+        return rank(population).get(0);
+    }
+
+    // Best first, every candidate is looked up once before sorting
+    private List<BalanceParams> rank(List<BalanceParams> population) {
+        Map<BalanceParams, Double> scores = new HashMap<>();
+        for (BalanceParams params : population) {
+            scores.put(params, fitness(params));
+        }
+        List<BalanceParams> ranked = new ArrayList<>(population);
+        ranked.sort(Comparator.comparingDouble((BalanceParams params) -> scores.get(params)).reversed());
+        return ranked;
+    }
+
+    // Fittest of a few picked at random, the population is already ranked so the lowest index wins
+    private static BalanceParams select(List<BalanceParams> ranked, SplittableRandom random) {
+        int best = random.nextInt(ranked.size());
+        for (int i = 1; i < TOURNAMENT; i++) {
+            best = Math.min(best, random.nextInt(ranked.size()));
+        }
+        return ranked.get(best);
+    }
+
+    private static BalanceParams crossover(BalanceParams mother, BalanceParams father, SplittableRandom random) {
+        int[] genes = mother.toArray();
+        int[] other = father.toArray();
+        for (int i = 0; i < genes.length; i++) {
+            if (random.nextBoolean()) genes[i] = other[i];
+        }
+        return BalanceParams.of(genes);
+    }
+
+    private static BalanceParams mutate(BalanceParams params, SplittableRandom random, double rate) {
+        int[] genes = params.toArray();
+        for (BalanceParams.Gene gene : BalanceParams.Gene.values()) {
+            if (random.nextDouble() < rate) {
+                int steps = random.nextInt(-MUTATION_STEPS, MUTATION_STEPS + 1);
+                genes[gene.ordinal()] += steps * gene.getStep();
+            }
+        }
+        return BalanceParams.of(genes);
+    }
+
+    /**
+     * Target survival by depth from "depth:share" points, e.g. "10:0.9,40:0.5,100:0.05".
+     * Depth 0 is always 1, depths between points are interpolated and depths past the last point keep its share.
+     */
+    public static double[] parseTarget(String text, int maxDepth) {
+        List<double[]> points = new ArrayList<>();
+        points.add(new double[]{0, 1});
+        for (String part : text.split(",")) {
+            String[] fields = part.trim().split(":");
+            if (fields.length != 2) {
+                throw new IllegalArgumentException("Invalid target point: " + part);
+            }
+            points.add(new double[]{Integer.parseInt(fields[0]), Double.parseDouble(fields[1])});
+        }
+        points.sort(Comparator.comparingDouble(point -> point[0]));
+
+        double[] curve = new double[maxDepth + 1];
+        int p = 0;
+        for (int d = 0; d <= maxDepth; d++) {
+            while (p + 1 < points.size() && points.get(p + 1)[0] <= d) p++;
+            double[] from = points.get(p);
+            if (p + 1 == points.size()) {
+                curve[d] = from[1];
+            } else {
+                double[] to = points.get(p + 1);
+                curve[d] = from[1] + (to[1] - from[1]) * (d - from[0]) / (to[0] - from[0]);
+            }
+        }
+        return curve;
+    }
+
+    public static void main(String[] args) {
+        int generations = args.length > 0 ? Integer.parseInt(args[0]) : 30;
+        int populationSize = args.length > 1 ? Integer.parseInt(args[1]) : 24;
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : System.currentTimeMillis();
+        String policy = args.length > 4 ? args[4] : "greedy";
+        String targetText = args.length > 5 ? args[5] : "10:0.9,40:0.5,100:0.05";
+        double[] target = parseTarget(targetText, Universe.DEFAULT_LENGTH);
+
+        // Same as BatchRunner, the rules print as they go and every thread would wait on System.out
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        ForkJoinPool pool = new ForkJoinPool();
+        BalanceTuner tuner = new BalanceTuner(runs, seed, Policy.forName(policy), target, pool);
+        long start = System.nanoTime();
+        BalanceParams best;
+        double[] curve;
+        double[] before;
+        try {
+            best = tuner.tune(generations, populationSize, seed, console);
+            curve = tuner.survivalCurve(best);
+            before = tuner.survivalCurve(BalanceParams.DEFAULT);
+        } finally {
+            System.setOut(console);
+            pool.shutdown();
+        }
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.println(tuner.getEvaluated() + " candidates of " + runs + " " + policy + " runs played in " + millis
+                + " ms, " + tuner.getCacheHits() + " cache hits");
+        System.out.println("Best: " + best);
+        System.out.println("Genes: " + Arrays.toString(best.toArray()));
+        System.out.println("depth  target  default  best");
+        for (int d = 10; d < target.length; d += 10) {
+            System.out.println(String.format("%5d  %6.2f  %7.2f  %4.2f", d, target[d], before[d], curve[d]));
+        }
+    }
+}
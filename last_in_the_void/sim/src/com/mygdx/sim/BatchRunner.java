@@ -0,0 +1,107 @@
+package com.mygdx.sim;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongFunction;
+import java.util.stream.IntStream;
+
+import com.mygdx.helpers.SeedTree;
+
+/**
+ * Plays a batch of complete runs across every core, one seed per run, and adds up the results
+ * in a BatchStats. Used to check upgrade and harvest costs against thousands of playthroughs
+ * instead of a handful of manual ones.
+ *
+ * Run with e.g. gradlew :sim:batchRun --args="100000 42 balance greedy" which writes balance.csv and balance.json,
+ * the last argument names the Policy that plays the runs.
+ */
+public class BatchRunner {
+
+    private final int runs;
+    private final long baseSeed;
+    private final int parallelism;
+    private final LongFunction<Policy> policies;
+
+    public BatchRunner(int runs, long baseSeed, LongFunction<Policy> policies) {
+        this(runs, baseSeed, policies, Runtime.getRuntime().availableProcessors());
+    }
+
+    public BatchRunner(int runs, long baseSeed, LongFunction<Policy> policies, int parallelism) {
+        this.runs = runs;
+        this.baseSeed = baseSeed;
+        this.policies = policies;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    // Seed of the nth run, spread out so neighbouring runs share nothing
+    public long seedOf(int run) {
+        return SeedTree.mix(baseSeed + run);
+    }
+
+    public BatchStats run() {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            // Every worker collects into its own BatchStats, they only meet when merged
+            return pool.submit(() -> IntStream.range(0, runs).parallel()
+                    .collect(BatchStats::new, (stats, run) -> stats.add(play(seedOf(run))), BatchStats::merge))
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Batch run interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Batch run failed", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // Plays one run to the end with a fresh policy
+    public Simulation play(long seed) {
+        return new BotSession(seed, policies.apply(seed)).play().getSimulation();
+    }
+
+    public static void main(String[] args) throws IOException {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : System.currentTimeMillis();
+        String prefix = args.length > 2 ? args[2] : "batch";
+        String policy = args.length > 3 ? args[3] : "greedy";
+
+        // The rules print as they go, with every thread printing the batch would be waiting on System.out
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        long start = System.nanoTime();
+        BatchStats stats;
+        try {
+            stats = new BatchRunner(runs, seed, Policy.forName(policy)).run();
+        } finally {
+            System.setOut(console);
+        }
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        Path csv = Paths.get(prefix + ".csv");
+        Path json = Paths.get(prefix + ".json");
+        try (Writer out = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+            stats.writeCsv(out);
+        }
+        try (Writer out = Files.newBufferedWriter(json, StandardCharsets.UTF_8)) {
+            stats.writeJson(out);
+        }
+
+        System.out.println(stats.getRuns() + " " + policy + " runs from seed " + seed + " in " + millis + " ms");
+        System.out.println("Mean depth " + String.format("%.1f", stats.getDepth().getMean())
+                + ", deepest " + stats.getDepth().getMax());
+        for (DeathCause cause : DeathCause.values()) {
+            System.out.println(cause.name() + ": " + stats.getDeaths(cause));
+        }
+        System.out.println(BatchStats.UNFINISHED + ": " + stats.getUnfinished());
+        System.out.println("Wrote " + csv + " and " + json);
+    }
+}
@@ -0,0 +1,202 @@
+package com.mygdx.sim;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+
+import com.mygdx.objects.Galaxy;
+
+/**
+ * What a batch of finished runs added up to: how deep they got, what killed them,
+ * how much they harvested from each planet tier and when they bought each upgrade.
+ * Each worker fills its own copy, the copies are merged once the batch is done.
+ */
+public class BatchStats {
+
+    // Runs that stopped without dying, stranded with too little fuel to jump or cut off by the step limit
+    public static final String UNFINISHED = "UNFINISHED";
+
+    private static final int HARVEST_BUCKET = 50;
+    private static final int JUMP_BUCKET = 5;
+
+    private long runs = 0;
+    private final Histogram depth = new Histogram(1);
+    private final Histogram jumps = new Histogram(1);
+    private final long[] outcomes = new long[DeathCause.values().length + 1];
+    private final Histogram[] harvested = new Histogram[Galaxy.MAX_TIER + 1];
+    private final Histogram[][] boughtAt = new Histogram[UpgradeChain.values().length][];
+    private final long[][] neverBought = new long[UpgradeChain.values().length][];
+
+    public BatchStats() {
+        for (int tier = 0; tier < harvested.length; tier++) {
+            harvested[tier] = new Histogram(HARVEST_BUCKET);
+        }
+        for (UpgradeChain chain : UpgradeChain.values()) {
+            int c = chain.ordinal();
+            boughtAt[c] = new Histogram[chain.getLevels()];
+            neverBought[c] = new long[chain.getLevels()];
+            for (int step = 0; step < chain.getLevels(); step++) {
+                boughtAt[c][step] = new Histogram(JUMP_BUCKET);
+            }
+        }
+    }
+
+    public void add(Simulation sim) {
+        runs++;
+        depth.add(sim.getDepth());
+        jumps.add(sim.getJumps());
+        outcomes[sim.isOver() ? sim.getDeathCause().ordinal() : outcomes.length - 1]++;
+        for (int tier = 1; tier < harvested.length; tier++) {
+            harvested[tier].add(sim.getHarvested(tier));
+        }
+        for (UpgradeChain chain : UpgradeChain.values()) {
+            int c = chain.ordinal();
+            for (int step = 0; step < chain.getLevels(); step++) {
+                int jump = sim.getBoughtAtJump(chain, step);
+                if (jump < 0) {
+                    neverBought[c][step]++;
+                } else {
+                    boughtAt[c][step].add(jump);
+                }
+            }
+        }
+    }
+
+    public void merge(BatchStats other) {
+        runs += other.runs;
+        depth.merge(other.depth);
+        jumps.merge(other.jumps);
+        for (int i = 0; i < outcomes.length; i++) {
+            outcomes[i] += other.outcomes[i];
+        }
+        for (int tier = 0; tier < harvested.length; tier++) {
+            harvested[tier].merge(other.harvested[tier]);
+        }
+        for (int c = 0; c < boughtAt.length; c++) {
+            for (int step = 0; step < boughtAt[c].length; step++) {
+                boughtAt[c][step].merge(other.boughtAt[c][step]);
+                neverBought[c][step] += other.neverBought[c][step];
+            }
+        }
+    }
+
+    public long getRuns() {
+        return runs;
+    }
+
+    public Histogram getDepth() {
+        return depth;
+    }
+
+    public Histogram getJumps() {
+        return jumps;
+    }
+
+    public long getDeaths(DeathCause cause) {
+        return outcomes[cause.ordinal()];
+    }
+
+    public long getUnfinished() {
+        return outcomes[outcomes.length - 1];
+    }
+
+    // Per run totals harvested from planets of the given tier
+    public Histogram getHarvested(int tier) {
+        return harvested[tier];
+    }
+
+    // Jump counts at which runs bought the given step of a chain, runs that never did are not in it
+    public Histogram getBoughtAt(UpgradeChain chain, int step) {
+        return boughtAt[chain.ordinal()][step];
+    }
+
+    public long getNeverBought(UpgradeChain chain, int step) {
+        return neverBought[chain.ordinal()][step];
+    }
+
+    private static String outcomeName(int i) {
+        return i < DeathCause.values().length ? DeathCause.values()[i].name() : UNFINISHED;
+    }
+
+    private static String stepName(UpgradeChain chain, int step) {
+        return chain.name() + " " + (step + 1);
+    }
+
+    // One row per histogram bucket: metric,key,bucket_start,count
+    public void writeCsv(Writer out) throws IOException {
+        out.write("metric,key,bucket_start,count\n");
+        writeCsvRows(out, "depth", "", depth);
+        writeCsvRows(out, "jumps", "", jumps);
+        for (int i = 0; i < outcomes.length; i++) {
+            out.write("outcome," + outcomeName(i) + ",," + outcomes[i] + "\n");
+        }
+        for (int tier = 1; tier < harvested.length; tier++) {
+            writeCsvRows(out, "harvested", "tier " + tier, harvested[tier]);
+        }
+        for (UpgradeChain chain : UpgradeChain.values()) {
+            for (int step = 0; step < chain.getLevels(); step++) {
+                writeCsvRows(out, "bought_at_jump", stepName(chain, step), getBoughtAt(chain, step));
+                out.write("never_bought," + stepName(chain, step) + ",," + getNeverBought(chain, step) + "\n");
+            }
+        }
+        out.flush();
+    }
+
+    private static void writeCsvRows(Writer out, String metric, String key, Histogram histogram) throws IOException {
+        for (int b = 0; b < histogram.getBuckets(); b++) {
+            out.write(metric + "," + key + "," + (b * histogram.getBucketWidth()) + "," + histogram.getCount(b) + "\n");
+        }
+    }
+
+    public void writeJson(Writer out) throws IOException {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n  \"runs\": ").append(runs);
+        json.append(",\n  \"depth\": ");
+        appendJson(json, depth);
+        json.append(",\n  \"jumps\": ");
+        appendJson(json, jumps);
+
+        json.append(",\n  \"outcomes\": {");
+        for (int i = 0; i < outcomes.length; i++) {
+            json.append(i == 0 ? "" : ", ").append('"').append(outcomeName(i)).append("\": ").append(outcomes[i]);
+        }
+        json.append('}');
+
+        json.append(",\n  \"harvestedByTier\": {");
+        for (int tier = 1; tier < harvested.length; tier++) {
+            json.append(tier == 1 ? "\n    " : ",\n    ").append('"').append(tier).append("\": ");
+            appendJson(json, harvested[tier]);
+        }
+        json.append("\n  }");
+
+        json.append(",\n  \"upgrades\": {");
+        for (UpgradeChain chain : UpgradeChain.values()) {
+            json.append(chain.ordinal() == 0 ? "\n    " : ",\n    ").append('"').append(chain.name()).append("\": [");
+            for (int step = 0; step < chain.getLevels(); step++) {
+                json.append(step == 0 ? "\n      " : ",\n      ");
+                json.append("{\"step\": ").append(step + 1);
+                json.append(", \"neverBought\": ").append(getNeverBought(chain, step));
+                json.append(", \"boughtAtJump\": ");
+                appendJson(json, getBoughtAt(chain, step));
+                json.append('}');
+            }
+            json.append("\n    ]");
+        }
+        json.append("\n  }\n}\n");
+
+        out.write(json.toString());
+        out.flush();
+    }
+
+    private static void appendJson(StringBuilder json, Histogram histogram) {
+        json.append("{\"count\": ").append(histogram.getCount());
+        json.append(", \"mean\": ").append(String.format(Locale.ROOT, "%.3f", histogram.getMean()));
+        json.append(", \"max\": ").append(histogram.getMax());
+        json.append(", \"bucketWidth\": ").append(histogram.getBucketWidth());
+        json.append(", \"counts\": [");
+        for (int b = 0; b < histogram.getBuckets(); b++) {
+            json.append(b == 0 ? "" : ", ").append(histogram.getCount(b));
+        }
+        json.append("]}");
+    }
+}
@@ -0,0 +1,117 @@
+package com.mygdx.sim;
+
+import com.mygdx.objects.Event;
+import com.mygdx.objects.Planet;
+import com.mygdx.objects.Player;
+
+/**
+ * One run played by a Policy from start to finish, and how it finished.
+ * A run that ends any way other than DIED is a dead end worth a look: the bot was left
+ * with nothing it could do, never got anywhere, or the rules threw.
+ */
+public class BotSession {
+
+    // Actions before a run that has not ended is given up on
+    public static final int MAX_STEPS = 20000;
+
+    public enum End {
+        DIED,
+        STRANDED,
+        STEP_LIMIT,
+        ERROR
+    }
+
+    private final long seed;
+    private final Policy policy;
+    private final Simulation sim;
+    private End end;
+    private String detail = "";
+
+    public BotSession(long seed, Policy policy) {
+        this(seed, policy, BalanceParams.DEFAULT);
+    }
+
+    public BotSession(long seed, Policy policy, BalanceParams params) {
+        this.seed = seed;
+        this.policy = policy;
+        this.sim = new Simulation(seed, params);
+    }
+
+    public BotSession play() {
+        Event event = null;
+        try {
+            for (int step = 0; step < MAX_STEPS; step++) {
+                if (sim.isOver()) {
+                    end = End.DIED;
+                    detail = sim.getDeathCause().name();
+                    return this;
+                }
+
+                event = sim.getPendingEvent();
+                if (event != null) {
+                    if (event.getChoices().isEmpty()) {
+                        end = End.ERROR;
+                        detail = "\"" + event.getTitle() + "\" has no choices";
+                        return this;
+                    }
+                    sim.choose(policy.chooseEventChoice(sim, event));
+                    continue;
+                }
+
+                policy.manageInventory(sim);
+                int planet = policy.chooseLanding(sim);
+                if (planet >= 0 && sim.land(planet) == Simulation.Result.DONE) {
+                    continue;
+                }
+                if (sim.isOver()) continue;
+
+                // A fatal jump is seen at the top of the loop, only a refused one leaves the bot stuck
+                if (sim.jump(policy.chooseDestination(sim)) == Simulation.Result.REFUSED) {
+                    end = End.STRANDED;
+                    detail = describeStranded();
+                    return this;
+                }
+            }
+            end = End.STEP_LIMIT;
+        } catch (RuntimeException e) {
+            end = End.ERROR;
+            detail = (event != null ? "in \"" + event.getTitle() + "\": " : "") + e;
+        }
+        return this;
+    }
+
+    private String describeStranded() {
+        Player player = sim.getPlayer();
+        int unharvested = 0;
+        for (Planet planet : sim.getUniverse().getCurrentPosition().getPlanets()) {
+            if (!planet.getHarvest()) unharvested++;
+        }
+        return "fuel " + player.getFuel() + ", " + unharvested + " planets left, items " + player.getInventory().getItems();
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public Policy getPolicy() {
+        return policy;
+    }
+
+    public Simulation getSimulation() {
+        return sim;
+    }
+
+    public End getEnd() {
+        return end;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    @Override
+    public String toString() {
+        return policy.getName() + " seed " + seed + ": " + end + " at depth " + sim.getDepth()
+                + " after " + sim.getJumps() + " jumps (" + detail + ")";
+    }
+}
@@ -0,0 +1,135 @@
+package com.mygdx.sim;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ExecutionException;
+import java.util.function.LongFunction;
+
+import com.mygdx.helpers.SeedTree;
+
+/**
+ * Plays many bot sessions at once, every policy on every seed, and collects the runs that hit
+ * a dead end instead of dying. Each session gets its own thread: a virtual thread where the
+ * JVM has them, otherwise a task on a work stealing pool.
+ */
+public class BotTester {
+
+    // Dead ends kept for the report, the counts still cover all of them
+    public static final int MAX_REPORTED = 50;
+
+    private final Map<String, LongFunction<Policy>> policies = new LinkedHashMap<>();
+    private final Map<String, EnumMap<BotSession.End, Long>> ends = new LinkedHashMap<>();
+    private final Queue<String> deadEnds = new ConcurrentLinkedQueue<>();
+
+    public BotTester(List<String> policyNames) {
+        for (String name : policyNames) {
+            policies.put(name, Policy.forName(name));
+            EnumMap<BotSession.End, Long> counts = new EnumMap<>(BotSession.End.class);
+            for (BotSession.End end : BotSession.End.values()) {
+                counts.put(end, 0L);
+            }
+            ends.put(name, counts);
+        }
+    }
+
+    // Plays sessionsPerPolicy seeds with every policy, blocks until all of them are done
+    public void run(int sessionsPerPolicy, long baseSeed) throws InterruptedException {
+        ExecutorService executor = newSessionExecutor();
+        try {
+            List<Future<BotSession.End>> futures = new ArrayList<>();
+            List<String> names = new ArrayList<>();
+            for (Map.Entry<String, LongFunction<Policy>> entry : policies.entrySet()) {
+                for (int i = 0; i < sessionsPerPolicy; i++) {
+                    long seed = SeedTree.mix(baseSeed + i);
+                    LongFunction<Policy> factory = entry.getValue();
+                    futures.add(executor.submit(() -> playSession(seed, factory.apply(seed))));
+                    names.add(entry.getKey());
+                }
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                BotSession.End end;
+                try {
+                    end = futures.get(i).get();
+                } catch (ExecutionException e) {
+                    end = BotSession.End.ERROR;
+                    deadEnds.add(names.get(i) + ": " + e.getCause());
+                }
+                ends.get(names.get(i)).merge(end, 1L, Long::sum);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Only the outcome leaves the thread, the finished universe is left for the collector
+    private BotSession.End playSession(long seed, Policy policy) {
+        BotSession session = new BotSession(seed, policy).play();
+        if (session.getEnd() != BotSession.End.DIED && deadEnds.size() < MAX_REPORTED) {
+            deadEnds.add(session.toString());
+        }
+        return session.getEnd();
+    }
+
+    public Map<BotSession.End, Long> getEnds(String policyName) {
+        return ends.get(policyName);
+    }
+
+    public List<String> getDeadEnds() {
+        return new ArrayList<>(deadEnds);
+    }
+
+    /**
+     * Virtual threads came in with Java 21 and the project still builds on older JDKs,
+     * so the factory is looked up at runtime. Sessions never block, so the work stealing
+     * pool is an equal fallback, just with one thread per core instead of one per session.
+     */
+    static ExecutorService newSessionExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newWorkStealingPool();
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int sessions = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : System.currentTimeMillis();
+        List<String> names = List.of(args.length > 2 ? args[2].split(",") : new String[]{"greedy", "conservative", "random"});
+
+        BotTester tester = new BotTester(names);
+        // Events and the inventory print as they go, thousands of sessions would queue up on System.out
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        long start = System.nanoTime();
+        try {
+            tester.run(sessions, seed);
+        } finally {
+            System.setOut(console);
+        }
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.println(sessions + " sessions per policy from seed " + seed + " in " + millis + " ms");
+        for (String name : names) {
+            System.out.println(name + ": " + tester.getEnds(name));
+        }
+        List<String> deadEnds = tester.getDeadEnds();
+        if (!deadEnds.isEmpty()) {
+            System.out.println("Dead ends (first " + deadEnds.size() + "):");
+            for (String deadEnd : deadEnds) {
+                System.out.println("  " + deadEnd);
+            }
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.mygdx.sim;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.mygdx.events.CatalogueEvent;
+import com.mygdx.helpers.ResourceType;
+import com.mygdx.objects.EffectBatch;
+import com.mygdx.objects.Event;
+import com.mygdx.objects.Inventory;
+import com.mygdx.objects.Player;
+
+/**
+ * Works out what each choice of an event is expected to do to the ship, on a background thread,
+ * so the event window can show it next to the buttons. Both sides of every choice are played on
+ * twins of the event (Event.copy) and forks of the player, weighted by the success chance.
+ * Catalogue events give their outcome as an EffectBatch, so those are applied to a single fork
+ * and reverted after each play instead.
+ *
+ * Results are cached per event type and upgrade levels, the template key the event was made
+ * with, and the rough state of the ship, since full tanks and trades that need 80 items change
+ * what a choice does.
+ */
+public class ChoicePreview {
+
+    // Plays per side of a choice, the rolls inside outcomes come from fixed streams
+    private static final int SAMPLES = 32;
+    private static final int MAX_CACHED = 256;
+    // Stats are rounded to this many points in the cache key
+    private static final int STAT_STEP = 10;
+
+    // What one choice is expected to do, changes are averages over both sides
+    public static class Outcome {
+        private final double health;
+        private final double fuel;
+        private final double oxygen;
+        private final Map<String, Double> items;
+        private final double deathChance;
+
+        Outcome(double health, double fuel, double oxygen, Map<String, Double> items, double deathChance) {
+            this.health = health;
+            this.fuel = fuel;
+            this.oxygen = oxygen;
+            this.items = Collections.unmodifiableMap(items);
+            this.deathChance = deathChance;
+        }
+
+        public double getHealth() {
+            return health;
+        }
+
+        public double getFuel() {
+            return fuel;
+        }
+
+        public double getOxygen() {
+            return oxygen;
+        }
+
+        // Expected change per item, items that do not change are left out
+        public Map<String, Double> getItems() {
+            return items;
+        }
+
+        public double getDeathChance() {
+            return deathChance;
+        }
+
+        // Short text for a button, e.g. "fuel +12, hull -4, +20 Common Fuel, 10% death"
+        @Override
+        public String toString() {
+            List<String> parts = new ArrayList<>();
+            addStat(parts, "hull", health);
+            addStat(parts, "fuel", fuel);
+            addStat(parts, "oxygen", oxygen);
+            for (Map.Entry<String, Double> item : items.entrySet()) {
+                long amount = Math.round(item.getValue());
+                if (amount != 0) parts.add((amount > 0 ? "+" : "") + amount + " " + item.getKey());
+            }
+            if (deathChance > 0) parts.add(Math.max(1, Math.round(deathChance * 100)) + "% death");
+            return parts.isEmpty() ? "no change" : String.join(", ", parts);
+        }
+
+        private static void addStat(List<String> parts, String name, double value) {
+            long rounded = Math.round(value);
+            if (rounded != 0) parts.add(name + " " + (rounded > 0 ? "+" : "") + rounded);
+        }
+    }
+
+    private final ExecutorService executor;
+    private final Map<String, CompletableFuture<List<Outcome>>> cache =
+            new LinkedHashMap<String, CompletableFuture<List<Outcome>>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<List<Outcome>>> eldest) {
+                    return size() > MAX_CACHED;
+                }
+            };
+
+    public ChoicePreview() {
+        // One low priority thread is plenty, a preview is a few hundred outcome calls
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "choice-preview");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    /**
+     * Outcomes of every choice, in choice order, worked out in the background.
+     * Call on the thread that owns the player and the event: the player is forked and the choices
+     * are read before this returns, the background thread only plays twins of the event.
+     * Returns null for events that cannot be copied.
+     */
+    public CompletableFuture<List<Outcome>> preview(Event event, Player player) {
+        if (event.getTemplateKey() == null) return null;
+        String key = event.getTemplateKey() + "|" + fingerprint(player);
+        Player scratch = player.fork();
+        double[] chances = successChances(event);
+        synchronized (cache) {
+            CompletableFuture<List<Outcome>> cached = cache.get(key);
+            if (cached != null) return cached;
+            CompletableFuture<List<Outcome>> future =
+                    CompletableFuture.supplyAsync(() -> evaluate(event, chances, scratch), executor);
+            cache.put(key, future);
+            return future;
+        }
+    }
+
+    public void dispose() {
+        executor.shutdownNow();
+    }
+
+    // Plays both sides of every choice on twins of the event, the player is never touched
+    public static List<Outcome> evaluate(Event event, Player player) {
+        return evaluate(event, successChances(event), player);
+    }
+
+    // Success chance of each choice, as a share
+    private static double[] successChances(Event event) {
+        List<Event.Choice> choices = event.getChoices();
+        double[] chances = new double[choices.size()];
+        for (int c = 0; c < chances.length; c++) {
+            chances[c] = choices.get(c).getSuccessChance() / 100.0;
+        }
+        return chances;
+    }
+
+    // Only copies the event, its own choices may be being built on another thread
+    private static List<Outcome> evaluate(Event event, double[] chances, Player player) {
+        int choices = chances.length;
+        // Catalogue events hand back their outcome as a batch, which is tried on one scratch ship and reverted
+        CatalogueEvent batched = event instanceof CatalogueEvent ? (CatalogueEvent) event.copy() : null;
+        Player scratch = batched != null ? player.fork() : null;
+        List<Outcome> outcomes = new ArrayList<>(choices);
+        for (int c = 0; c < choices; c++) {
+            double chance = chances[c];
+            double health = 0;
+            double fuel = 0;
+            double oxygen = 0;
+            double deaths = 0;
+            Map<String, Double> items = new TreeMap<>();
+
+            for (int side = 0; side < 2; side++) {
+                boolean success = side == 0;
+                double weight = (success ? chance : 1 - chance) / SAMPLES;
+                if (weight <= 0) continue;
+                for (int s = 0; s < SAMPLES; s++) {
+                    Player fork;
+                    EffectBatch batch = null;
+                    if (batched != null) {
+                        batched.setRandom(new SplittableRandom(s));
+                        batch = batched.outcomeOf(c, success);
+                        fork = scratch;
+                        batch.applyTo(fork);
+                    } else {
+                        Event twin = event.copy();
+                        twin.setRandom(new SplittableRandom(s));
+                        fork = player.fork();
+                        twin.getChoices().get(c).apply(fork, success);
+                    }
+
+                    health += weight * (fork.getHealth() - player.getHealth());
+                    fuel += weight * (fork.getFuel() - player.getFuel());
+                    oxygen += weight * (fork.getOxygen() - player.getOxygen());
+                    if (GameRules.checkDeath(fork) != null) deaths += weight;
+                    addItemChanges(items, player.getInventory(), fork.getInventory(), weight);
+                    if (batch != null) batch.revert(fork);
+                }
+            }
+            items.values().removeIf(amount -> Math.abs(amount) < 0.5);
+            outcomes.add(new Outcome(health, fuel, oxygen, items, deaths));
+        }
+        return outcomes;
+    }
+
+    private static void addItemChanges(Map<String, Double> changes, Inventory before, Inventory after, double weight) {
+        for (ResourceType type : ResourceType.values()) {
+            int change = after.getQuantity(type) - before.getQuantity(type);
+            if (change != 0) changes.merge(type.getDisplayName(), weight * change, Double::sum);
+        }
+    }
+
+    // The parts of the ship outcomes care about: room left in the tanks, resource permission and items
+    private static String fingerprint(Player player) {
+        return Math.round(player.getHealth() / STAT_STEP) + "/" + Math.round(player.getHealthLim() / STAT_STEP) + ","
+                + Math.round(player.getFuel() / STAT_STEP) + "/" + Math.round(player.getFuelLim() / STAT_STEP) + ","
+                + Math.round(player.getOxygen() / STAT_STEP) + "/" + Math.round(player.getOxygenLim() / STAT_STEP) + ","
+                + player.getResourcePermissionLevel() + "," + player.getAddingFactor() + ","
+                + new TreeMap<>(player.getInventory().getItems());
+    }
+}
@@ -0,0 +1,20 @@
+package com.mygdx.sim;
+
+// Every way a run can end, with the line the game prints for it
+public enum DeathCause {
+    HULL_FAILURE("Hull integrity critical! Game over."),
+    OUT_OF_FUEL("Out of fuel! Stranded in space."),
+    LIFE_SUPPORT_FAILURE("Life support failure! Game over."),
+    FLEW_INTO_STAR("This is a star planet! You were lost in space"),
+    LOST_IN_SPACE("Not enough fuel! You were lost in space");
+
+    private final String message;
+
+    DeathCause(String message) {
+        this.message = message;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
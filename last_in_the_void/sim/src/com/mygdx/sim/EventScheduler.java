@@ -0,0 +1,192 @@
+package com.mygdx.sim;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+
+import com.mygdx.events.EventCatalogue;
+import com.mygdx.events.ScheduledEvent;
+import com.mygdx.events.StoryGraph;
+import com.mygdx.objects.Event;
+import com.mygdx.objects.Player;
+import com.mygdx.objects.UpgradeLevels;
+
+/**
+ * Decides which event a jump brings, from the schedule in the event catalogue. One per run, it
+ * remembers what fired, when each entry is due next and which storyline beat was shown last.
+ *
+ * Entries wait in two priority queues, one ordered by the jump they are due at and one by the
+ * second, so a jump only takes out the entries that are due, at O(log n) each, however many
+ * the schedule holds. Of the due entries whose prerequisites hold and whose cooldown is over, the
+ * highest priority fires and ties are drawn by weight. Repeating entries that do not fire skip to
+ * their next period, one-off entries stay due until they do. Story entries are only ready while
+ * the storyline has a next beat for the player's flags, and firing one moves the story on to it.
+ *
+ * Time triggers are looked at on jumps as well, events only ever open after one. Headless runs
+ * have no clock and pass 0 seconds, so time triggered entries do not fire there.
+ */
+public class EventScheduler {
+
+    private final List<ScheduledEvent> schedule;
+    // Jump or second each entry is due at next
+    private final double[] due;
+    private final boolean[] fired;
+    // Jump each entry last fired on, -1 if it has not
+    private final int[] lastFired;
+    private final PriorityQueue<ScheduledEvent> byJump;
+    private final PriorityQueue<ScheduledEvent> bySecond;
+    // Entries taken out on the current jump
+    private final List<ScheduledEvent> dueNow = new ArrayList<>();
+    // Draws for entries that show the random pool
+    private final RandomEventPicker randomEvents = new RandomEventPicker();
+    private final StoryGraph storyline;
+    // Storyline node shown last, StoryGraph.START before the first beat
+    private int storyNode = StoryGraph.START;
+
+    public EventScheduler() {
+        this(EventCatalogue.getInstance().getSchedule(), EventCatalogue.getInstance().getStoryline());
+    }
+
+    // Storyline may be null when the schedule has no story entries
+    public EventScheduler(List<ScheduledEvent> schedule, StoryGraph storyline) {
+        this.schedule = schedule;
+        this.storyline = storyline;
+        this.due = new double[schedule.size()];
+        this.fired = new boolean[schedule.size()];
+        this.lastFired = new int[schedule.size()];
+        Arrays.fill(lastFired, -1);
+
+        // Ties on the due time go by schedule order, so draws between them always see the same list
+        Comparator<ScheduledEvent> order = Comparator.<ScheduledEvent>comparingDouble(e -> due[e.getIndex()])
+                .thenComparingInt(ScheduledEvent::getIndex);
+        this.byJump = new PriorityQueue<>(order);
+        this.bySecond = new PriorityQueue<>(order);
+        for (ScheduledEvent entry : schedule) {
+            due[entry.getIndex()] = entry.getFirst();
+            queueOf(entry).add(entry);
+        }
+    }
+
+    // Event the jumpCount-th jump of the run brings, or null if the jump is quiet, tier is the system's jumped to
+    public Event eventAfterJump(int jumpCount, double seconds, int tier, Player player, UpgradeLevels upgrades,
+                                SplittableRandom rand) {
+        ScheduledEvent entry = poll(jumpCount, seconds, player, rand);
+        if (entry == null) return null;
+        if (entry.isRandomPool()) return GameRules.randomEvent(randomEvents.pick(tier, player, rand), upgrades);
+        return GameRules.catalogueEvent(eventIdOf(entry), upgrades);
+    }
+
+    // Catalogue event a fixed or story entry that just fired shows, null for the random pool
+    public String eventIdOf(ScheduledEvent entry) {
+        if (entry.isStoryPool()) return storyline.getEventId(storyNode);
+        return entry.getEventId();
+    }
+
+    // Entry that fires on this jump, or null, and moves every due entry on
+    public ScheduledEvent poll(int jumpCount, double seconds, Player player, SplittableRandom rand) {
+        dueNow.clear();
+        takeDue(byJump, jumpCount);
+        takeDue(bySecond, seconds);
+        if (dueNow.isEmpty()) return null;
+
+        ScheduledEvent chosen = pick(jumpCount, player, rand);
+        for (ScheduledEvent entry : dueNow) {
+            int i = entry.getIndex();
+            if (entry == chosen) {
+                fired[i] = true;
+                lastFired[i] = jumpCount;
+                if (entry.isStoryPool()) storyNode = storyline.next(storyNode, player.getFlags());
+            }
+            if (entry.repeats()) {
+                double now = entry.isJumpTriggered() ? jumpCount : seconds;
+                while (due[i] <= now) {
+                    due[i] += entry.getPeriod();
+                }
+                queueOf(entry).add(entry);
+            } else if (entry != chosen) {
+                // Try again on the next jump
+                if (entry.isJumpTriggered()) due[i] = jumpCount + 1;
+                queueOf(entry).add(entry);
+            }
+        }
+        return chosen;
+    }
+
+    public boolean hasFired(ScheduledEvent entry) {
+        return fired[entry.getIndex()];
+    }
+
+    // Storyline node shown last, StoryGraph.START if none has been
+    public int getStoryNode() {
+        return storyNode;
+    }
+
+    private void takeDue(PriorityQueue<ScheduledEvent> queue, double now) {
+        while (!queue.isEmpty() && due[queue.peek().getIndex()] <= now) {
+            dueNow.add(queue.poll());
+        }
+    }
+
+    // Highest priority among the ready entries, weighted draw on ties
+    private ScheduledEvent pick(int jumpCount, Player player, SplittableRandom rand) {
+        int best = Integer.MIN_VALUE;
+        int count = 0;
+        double total = 0;
+        for (ScheduledEvent entry : dueNow) {
+            if (!isReady(entry, jumpCount, player)) continue;
+            if (entry.getPriority() > best) {
+                best = entry.getPriority();
+                count = 0;
+                total = 0;
+            }
+            if (entry.getPriority() == best) {
+                count++;
+                total += entry.getWeight();
+            }
+        }
+        if (count == 0) return null;
+
+        // Only draw when there is something to choose, so a schedule without ties rolls nothing
+        double roll = count > 1 ? rand.nextDouble() * total : 0;
+        ScheduledEvent last = null;
+        for (ScheduledEvent entry : dueNow) {
+            if (!isReady(entry, jumpCount, player) || entry.getPriority() != best) continue;
+            last = entry;
+            roll -= entry.getWeight();
+            if (roll < 0) return entry;
+        }
+        return last;
+    }
+
+    private boolean isReady(ScheduledEvent entry, int jumpCount, Player player) {
+        int last = lastFired[entry.getIndex()];
+        if (last >= 0 && jumpCount - last < entry.getCooldown()) return false;
+        if (entry.isStoryPool() && storyline.next(storyNode, player.getFlags()) == StoryGraph.END) return false;
+        return entry.requirementsMet(fired, player);
+    }
+
+    private PriorityQueue<ScheduledEvent> queueOf(ScheduledEvent entry) {
+        return entry.isJumpTriggered() ? byJump : bySecond;
+    }
+
+    /**
+     * What a new run gets on each jump up to maxJumps: the catalogue event, ScheduledEvent.RANDOM_POOL
+     * for a random event or null for quiet jumps, assuming no story flags and no clock. Ties are
+     * drawn from a fixed stream, so this is only exact for schedules without them.
+     */
+    public static String[] plan(int maxJumps) {
+        EventScheduler scheduler = new EventScheduler();
+        Player player = new Player();
+        SplittableRandom rand = new SplittableRandom(0);
+        String[] plan = new String[maxJumps + 1];
+        for (int jump = 1; jump <= maxJumps; jump++) {
+            ScheduledEvent entry = scheduler.poll(jump, 0, player, rand);
+            if (entry == null) continue;
+            plan[jump] = entry.isRandomPool() ? ScheduledEvent.RANDOM_POOL : scheduler.eventIdOf(entry);
+        }
+        return plan;
+    }
+}
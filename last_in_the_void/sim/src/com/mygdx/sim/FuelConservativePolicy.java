@@ -0,0 +1,63 @@
+package com.mygdx.sim;
+
+import java.util.List;
+
+import com.mygdx.objects.Event;
+import com.mygdx.objects.Planet;
+import com.mygdx.objects.Player;
+
+/**
+ * Plays it safe: takes the choice most likely to succeed, never lands with the tank below
+ * two jumps' worth, skips planets with aliens on them and refuels before the tank is half empty.
+ * Only buys fuel upgrades, everything else is kept to refuel and repair with.
+ */
+public class FuelConservativePolicy implements Policy {
+
+    // Fuel kept back for this many jumps before landing anywhere
+    private static final int RESERVE_JUMPS = 2;
+
+    @Override
+    public String getName() {
+        return "conservative";
+    }
+
+    @Override
+    public int chooseEventChoice(Simulation sim, Event event) {
+        List<Event.Choice> choices = event.getChoices();
+        int best = 0;
+        for (int i = 1; i < choices.size(); i++) {
+            if (choices.get(i).getSuccessChance() > choices.get(best).getSuccessChance()) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public void manageInventory(Simulation sim) {
+        sim.buy(UpgradeChain.FUEL);
+        Player player = sim.getPlayer();
+        sim.recoverUpTo(Player.Stats.FUEL, player.getFuelLim() / 2);
+        sim.recoverUpTo(Player.Stats.HEALTH, player.getHealthLim() * 0.75);
+        sim.recoverUpTo(Player.Stats.OXYGEN, player.getOxygenLim() * 0.75);
+    }
+
+    @Override
+    public int chooseLanding(Simulation sim) {
+        double reserve = RESERVE_JUMPS * sim.getParams().getJumpFuelCost();
+        if (sim.getPlayer().getFuel() - sim.getParams().getLandingFuelCost() < reserve) return -1;
+        Planet[] planets = sim.getUniverse().getCurrentPosition().getPlanets();
+        for (int i = 0; i < planets.length; i++) {
+            Planet planet = planets[i];
+            if (!planet.getHarvest() && planet.getType() != Planet.Type.Star && !planet.getHasAlien()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int chooseDestination(Simulation sim) {
+        return 0;
+    }
+}
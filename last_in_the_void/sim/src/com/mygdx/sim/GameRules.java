@@ -0,0 +1,250 @@
+package com.mygdx.sim;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+import com.mygdx.events.CatalogueEvent;
+import com.mygdx.events.EventCatalogue;
+import com.mygdx.events.EventTemplate;
+import com.mygdx.events.planet_events.AggressiveAlienEncounterEvent;
+import com.mygdx.events.planet_events.HumanoidAlienEncounterEvent;
+import com.mygdx.events.planet_events.PlanetLandingEvent;
+import com.mygdx.objects.Alien;
+import com.mygdx.objects.Event;
+import com.mygdx.objects.Planet;
+import com.mygdx.objects.Player;
+import com.mygdx.objects.Universe;
+import com.mygdx.objects.UpgradeLevels;
+
+/**
+ * The rules of a run in one place, shared by the game screens and headless simulations:
+ * what jumps and landings cost, when events fire and when the player is dead.
+ * Nothing here touches libGDX, callers decide how to show the outcome.
+ */
+public final class GameRules {
+
+    private static final String[] ALIEN_TYPES = {"Humanoid", "Aggressive Xenomorph"};
+
+    // Catalogue id of the event every run opens with, the rest are shown by the EventScheduler
+    public static final String OPENING_EVENT = "system-reboot";
+
+    private GameRules() {
+    }
+
+    // Why the player is dead, or null if they are still going
+    public static DeathCause checkDeath(Player player) {
+        if (player.getHealth() <= 0) return DeathCause.HULL_FAILURE;
+        if (player.getFuel() <= 0) return DeathCause.OUT_OF_FUEL;
+        if (player.getOxygen() <= 0) return DeathCause.LIFE_SUPPORT_FAILURE;
+        return null;
+    }
+
+    // Takes the fuel for a jump, false if the tank does not hold enough
+    public static boolean payJump(Player player) {
+        return payJump(player, Universe.JUMP_FUEL_COST);
+    }
+
+    public static boolean payJump(Player player, float cost) {
+        if (player.getFuel() < cost) {
+            return false;
+        }
+        player.setFuel(player.getFuel() - cost);
+        return true;
+    }
+
+    // Takes the fuel for landing on a planet, returns how the player died trying or null if they landed
+    // Harvested planets are the caller's business, landing on one again is not an option in the game
+    public static DeathCause land(Player player, Planet planet) {
+        return land(player, planet, Planet.LANDING_FUEL_COST);
+    }
+
+    public static DeathCause land(Player player, Planet planet, float cost) {
+        if (planet.getType() == Planet.Type.Star) {
+            return DeathCause.FLEW_INTO_STAR;
+        }
+        if (player.getFuel() < cost) {
+            return DeathCause.LOST_IN_SPACE;
+        }
+        player.setFuel(player.getFuel() - cost);
+        return null;
+    }
+
+    // The stat an inventory item tops up when used, null if it cannot be used
+    public static Player.Stats recoveryStat(String itemName) {
+        if (itemName.contains("Fuel")) {
+            return Player.Stats.FUEL;
+        } else if (itemName.contains("Biomass")) {
+            return Player.Stats.OXYGEN;
+        } else if (itemName.contains("Building Materials")) {
+            return Player.Stats.HEALTH;
+        }
+        return null;
+    }
+
+    public static int recoveryAmount(String itemName) {
+        // tier^2 is the recovery amount
+        // Common = 2, Uncommon = 4, Rare = 8, Legendary = 16
+        if (itemName.contains("Common")) {
+            return 2;
+        } else if (itemName.contains("Uncommon")) {
+            return 4;
+        } else if (itemName.contains("Rare")) {
+            return 8;
+        } else if (itemName.contains("Legendary")) {
+            return 16;
+        }
+        return 0;
+    }
+
+    // Uses up to quantity of an item to top up its stat, never past the stat's limit
+    // Returns how much was recovered, the items are only used up if that is more than nothing
+    public static double recover(Player player, String itemName, int quantity) {
+        Player.Stats stat = recoveryStat(itemName);
+        if (stat == null) return 0;
+        quantity = Math.min(quantity, player.getInventory().checkItemQuantity(itemName));
+        if (quantity <= 0) return 0;
+
+        double current;
+        double max;
+        if (stat == Player.Stats.FUEL) {
+            current = player.getFuel();
+            max = player.getFuelLim();
+        } else if (stat == Player.Stats.OXYGEN) {
+            current = player.getOxygen();
+            max = player.getOxygenLim();
+        } else {
+            current = player.getHealth();
+            max = player.getHealthLim();
+        }
+        double recovered = Math.min(recoveryAmount(itemName) * quantity, max - current);
+        if (recovered > 0) {
+            player.updateStat(stat, recovered);
+            player.getInventory().removeItem(itemName, quantity);
+        }
+        return Math.max(0, recovered);
+    }
+
+    // The event waiting on the surface: an alien encounter if the planet has one, otherwise a landing
+    public static Event landingEvent(Planet planet, SplittableRandom rand) {
+        return landingEvent(planet, rand, null);
+    }
+
+    // Same with harvest costs by tier other than the game's, null keeps the game's
+    public static Event landingEvent(Planet planet, SplittableRandom rand, int[] harvestCosts) {
+        String key = planet.getType() + ":" + planet.getTier() + ":" + planet.getSize();
+        Supplier<Planet> twin = scratchPlanet(planet);
+        if (!planet.getHasAlien()) {
+            if (harvestCosts != null) {
+                return withTemplate(new PlanetLandingEvent(planet, harvestCosts), "landing:" + key + ":" + Arrays.toString(harvestCosts),
+                        () -> new PlanetLandingEvent(twin.get(), harvestCosts));
+            }
+            return withTemplate(new PlanetLandingEvent(planet), "landing:" + key,
+                    () -> new PlanetLandingEvent(twin.get()));
+        }
+        String alienType = ALIEN_TYPES[rand.nextInt(ALIEN_TYPES.length)];
+        Alien alien = new Alien(alienType);
+        if (alienType.equals("Humanoid")) {
+            return withTemplate(new HumanoidAlienEncounterEvent(alien, planet), "humanoid:" + key,
+                    () -> new HumanoidAlienEncounterEvent(new Alien(alienType), twin.get()));
+        }
+        return withTemplate(new AggressiveAlienEncounterEvent(alien, planet), "aggressive:" + key,
+                () -> new AggressiveAlienEncounterEvent(new Alien(alienType), twin.get()));
+    }
+
+    // Number of different random events, RandomEventPicker draws between them
+    public static int randomEventCount() {
+        return EventCatalogue.getInstance().getRandomEvents().size();
+    }
+
+    public static Event randomEvent(int index, UpgradeLevels upgrades) {
+        // Twins keep the levels the event was made with, later purchases do not change its odds
+        UpgradeLevels levels = snapshot(upgrades);
+        EventTemplate template = EventCatalogue.getInstance().getRandomEvents().get(index);
+        return withTemplate(template.create(levels), "random:" + index + ":" + keyOf(levels),
+                () -> template.create(levels));
+    }
+
+    // Any event of the catalogue by id, story events do not read upgrade levels
+    public static Event catalogueEvent(String id, UpgradeLevels upgrades) {
+        EventTemplate template = EventCatalogue.getInstance().require(id);
+        if (template.getKind() == EventTemplate.Kind.STORY) {
+            return withTemplate(template.create(null), "story:" + id, () -> template.create(null));
+        }
+        UpgradeLevels levels = snapshot(upgrades);
+        return withTemplate(template.create(levels), "event:" + id + ":" + keyOf(levels), () -> template.create(levels));
+    }
+
+    // The event a run opens with, before the first jump
+    public static Event openingEvent() {
+        return catalogueEvent(OPENING_EVENT, null);
+    }
+
+    // True for the story events the jumps trigger, the opening event does not count
+    public static boolean isStoryEvent(Event event) {
+        if (!(event instanceof CatalogueEvent)) return false;
+        EventTemplate template = ((CatalogueEvent) event).getTemplate();
+        return template.getKind() == EventTemplate.Kind.STORY && !template.getId().equals(OPENING_EVENT);
+    }
+
+    // Tags an event with how to make a twin of it, see Event.copy
+    private static Event withTemplate(Event event, String key, Supplier<Event> template) {
+        event.setTemplate(key, template);
+        return event;
+    }
+
+    // Same kind of planet on its own, so twins can harvest it without marking the real one
+    // Read now, twins may be made on another thread while the galaxy moves on
+    private static Supplier<Planet> scratchPlanet(Planet planet) {
+        String name = planet.getName();
+        Planet.Type type = planet.getType();
+        int size = planet.getSize();
+        int tier = planet.getTier();
+        return () -> new Planet(name, type, size, tier);
+    }
+
+    private static String keyOf(UpgradeLevels levels) {
+        return levels.getDestinationLevel() + "," + levels.getFuelLevel() + "," + levels.getHealthLevel() + ","
+                + levels.getInventoryLevel() + "," + levels.getResourcesLevel() + "," + levels.getOxygenLevel();
+    }
+
+    private static UpgradeLevels snapshot(UpgradeLevels upgrades) {
+        int destination = upgrades.getDestinationLevel();
+        int fuel = upgrades.getFuelLevel();
+        int health = upgrades.getHealthLevel();
+        int inventory = upgrades.getInventoryLevel();
+        int resources = upgrades.getResourcesLevel();
+        int oxygen = upgrades.getOxygenLevel();
+        return new UpgradeLevels() {
+            @Override
+            public int getDestinationLevel() {
+                return destination;
+            }
+
+            @Override
+            public int getFuelLevel() {
+                return fuel;
+            }
+
+            @Override
+            public int getHealthLevel() {
+                return health;
+            }
+
+            @Override
+            public int getInventoryLevel() {
+                return inventory;
+            }
+
+            @Override
+            public int getResourcesLevel() {
+                return resources;
+            }
+
+            @Override
+            public int getOxygenLevel() {
+                return oxygen;
+            }
+        };
+    }
+}
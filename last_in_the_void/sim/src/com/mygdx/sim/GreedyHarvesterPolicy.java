@@ -0,0 +1,61 @@
+package com.mygdx.sim;
+
+import com.mygdx.objects.Event;
+import com.mygdx.objects.Planet;
+import com.mygdx.objects.Player;
+import com.mygdx.objects.StarSystem;
+
+/**
+ * Lands on everything it can reach and takes the first choice of every event (harvest, attack),
+ * heads for the destination with the most planets and buys upgrades as soon as they are affordable.
+ * Only keeps enough fuel back for the next jump.
+ */
+public class GreedyHarvesterPolicy implements Policy {
+
+    @Override
+    public String getName() {
+        return "greedy";
+    }
+
+    @Override
+    public int chooseEventChoice(Simulation sim, Event event) {
+        return 0;
+    }
+
+    @Override
+    public void manageInventory(Simulation sim) {
+        for (UpgradeChain chain : UpgradeChain.values()) {
+            while (sim.buy(chain)) {
+                // keep buying until the chain is maxed or the inventory runs out
+            }
+        }
+        Player player = sim.getPlayer();
+        sim.recoverUpTo(Player.Stats.FUEL, sim.getParams().getLandingFuelCost() + sim.getParams().getJumpFuelCost());
+        sim.recoverUpTo(Player.Stats.HEALTH, player.getHealthLim() / 2);
+        sim.recoverUpTo(Player.Stats.OXYGEN, player.getOxygenLim() / 2);
+    }
+
+    @Override
+    public int chooseLanding(Simulation sim) {
+        if (sim.getPlayer().getFuel() - sim.getParams().getLandingFuelCost() < sim.getParams().getJumpFuelCost()) return -1;
+        Planet[] planets = sim.getUniverse().getCurrentPosition().getPlanets();
+        for (int i = 0; i < planets.length; i++) {
+            if (!planets[i].getHarvest() && planets[i].getType() != Planet.Type.Star) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int chooseDestination(Simulation sim) {
+        StarSystem[] destinations = sim.getUniverse().getDestinations();
+        int best = 0;
+        for (int i = 1; i < destinations.length; i++) {
+            if (destinations[i].getNumPlanets() > destinations[best].getNumPlanets()) {
+                best = i;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,82 @@
+package com.mygdx.sim;
+
+import java.util.Arrays;
+
+/**
+ * Counts of non-negative values in fixed width buckets, grows as bigger values arrive.
+ * Not thread safe, give each thread its own and merge them at the end.
+ */
+public class Histogram {
+
+    private final int bucketWidth;
+    private long[] counts = new long[16];
+    private int buckets = 0;
+    private long count = 0;
+    private long sum = 0;
+    private long max = 0;
+
+    public Histogram(int bucketWidth) {
+        if (bucketWidth < 1) {
+            throw new IllegalArgumentException("Bucket width must be at least 1: " + bucketWidth);
+        }
+        this.bucketWidth = bucketWidth;
+    }
+
+    public void add(long value) {
+        if (value < 0) value = 0;
+        int bucket = (int) Math.min(Integer.MAX_VALUE - 8, value / bucketWidth);
+        if (bucket >= counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(counts.length * 2, bucket + 1));
+        }
+        counts[bucket]++;
+        buckets = Math.max(buckets, bucket + 1);
+        count++;
+        sum += value;
+        max = Math.max(max, value);
+    }
+
+    public void merge(Histogram other) {
+        if (other.bucketWidth != bucketWidth) {
+            throw new IllegalArgumentException("Cannot merge histograms with different bucket widths");
+        }
+        if (other.buckets > counts.length) {
+            counts = Arrays.copyOf(counts, other.buckets);
+        }
+        for (int i = 0; i < other.buckets; i++) {
+            counts[i] += other.counts[i];
+        }
+        buckets = Math.max(buckets, other.buckets);
+        count += other.count;
+        sum += other.sum;
+        max = Math.max(max, other.max);
+    }
+
+    public int getBucketWidth() {
+        return bucketWidth;
+    }
+
+    // Number of buckets up to and including the last one that has anything in it
+    public int getBuckets() {
+        return buckets;
+    }
+
+    public long getCount(int bucket) {
+        return bucket < buckets ? counts[bucket] : 0;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+}
@@ -0,0 +1,175 @@
+package com.mygdx.sim;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import com.mygdx.helpers.ResourceType;
+
+/**
+ * Everything a player did in a run, compact enough to attach to a bug report.
+ * The run seed plus the decisions is all it takes to play the run again, see Replayer.
+ *
+ * Layout: "LITJ", a format version byte, the seed as 8 big endian bytes, then one entry per
+ * decision: an Op byte followed by its arguments as unsigned LEB128 varints. Items are stored
+ * as their ResourceType ordinal.
+ */
+public class Journal {
+
+    private static final byte[] MAGIC = {'L', 'I', 'T', 'J'};
+    public static final int VERSION = 1;
+    private static final int HEADER_SIZE = MAGIC.length + 1 + Long.BYTES;
+
+    public enum Op {
+        JUMP,        // destination index
+        LAND,        // planet index
+        CHOOSE,      // choice index
+        USE_ITEM,    // item, quantity
+        REMOVE_ITEM, // item, quantity
+        BUY;         // upgrade chain
+
+        private static final Op[] VALUES = values();
+    }
+
+    // Called once per recorded decision when reading a journal back
+    public interface Visitor {
+        void visit(Op op, int a, int b);
+    }
+
+    private final long seed;
+    private byte[] bytes;
+    private int length;
+    private int entries = 0;
+
+    public Journal(long seed) {
+        this.seed = seed;
+        this.bytes = new byte[256];
+        for (byte b : MAGIC) bytes[length++] = b;
+        bytes[length++] = (byte) VERSION;
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            bytes[length++] = (byte) (seed >>> shift);
+        }
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    // Number of decisions recorded
+    public int size() {
+        return entries;
+    }
+
+    public void recordJump(int destination) {
+        add(Op.JUMP, destination, -1);
+    }
+
+    public void recordLanding(int planetIndex) {
+        add(Op.LAND, planetIndex, -1);
+    }
+
+    public void recordChoice(int choiceIndex) {
+        add(Op.CHOOSE, choiceIndex, -1);
+    }
+
+    public void recordUseItem(String itemName, int quantity) {
+        ResourceType type = ResourceType.fromDisplayName(itemName);
+        if (type != null) add(Op.USE_ITEM, type.ordinal(), quantity);
+    }
+
+    public void recordRemoveItem(String itemName, int quantity) {
+        ResourceType type = ResourceType.fromDisplayName(itemName);
+        if (type != null) add(Op.REMOVE_ITEM, type.ordinal(), quantity);
+    }
+
+    public void recordBuy(UpgradeChain chain) {
+        add(Op.BUY, chain.ordinal(), -1);
+    }
+
+    private void add(Op op, int a, int b) {
+        ensureCapacity(1 + 5 + 5);
+        bytes[length++] = (byte) op.ordinal();
+        writeVarint(a);
+        if (b >= 0) writeVarint(b);
+        entries++;
+    }
+
+    private void writeVarint(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Journal values are never negative: " + value);
+        }
+        while ((value & ~0x7f) != 0) {
+            bytes[length++] = (byte) ((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        bytes[length++] = (byte) value;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+        }
+    }
+
+    // Walks the recorded decisions in order
+    public void forEach(Visitor visitor) {
+        int[] pos = {HEADER_SIZE};
+        while (pos[0] < length) {
+            int code = bytes[pos[0]++];
+            if (code < 0 || code >= Op.VALUES.length) {
+                throw new IllegalStateException("Bad journal entry " + code + " at byte " + (pos[0] - 1));
+            }
+            Op op = Op.VALUES[code];
+            int a = readVarint(pos);
+            int b = op == Op.USE_ITEM || op == Op.REMOVE_ITEM ? readVarint(pos) : -1;
+            visitor.visit(op, a, b);
+        }
+    }
+
+    private int readVarint(int[] pos) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            if (pos[0] >= length) {
+                throw new IllegalStateException("Journal ends in the middle of an entry");
+            }
+            byte b = bytes[pos[0]++];
+            value |= (b & 0x7f) << shift;
+            if (b >= 0) return value;
+        }
+        throw new IllegalStateException("Varint too long at byte " + pos[0]);
+    }
+
+    public byte[] toBytes() {
+        return Arrays.copyOf(bytes, length);
+    }
+
+    public static Journal fromBytes(byte[] data) {
+        if (data.length < HEADER_SIZE || !Arrays.equals(Arrays.copyOf(data, MAGIC.length), MAGIC)) {
+            throw new IllegalArgumentException("Not a journal");
+        }
+        if (data[MAGIC.length] != VERSION) {
+            throw new IllegalArgumentException("Unsupported journal version " + data[MAGIC.length]);
+        }
+        long seed = 0;
+        for (int i = MAGIC.length + 1; i < HEADER_SIZE; i++) {
+            seed = (seed << 8) | (data[i] & 0xff);
+        }
+        Journal journal = new Journal(seed);
+        journal.bytes = Arrays.copyOf(data, Math.max(data.length, 16));
+        journal.length = data.length;
+        // Counting the entries also checks the whole file parses
+        int[] count = {0};
+        journal.forEach((op, a, b) -> count[0]++);
+        journal.entries = count[0];
+        return journal;
+    }
+
+    public void write(Path path) throws IOException {
+        Files.write(path, toBytes());
+    }
+
+    public static Journal read(Path path) throws IOException {
+        return fromBytes(Files.readAllBytes(path));
+    }
+}
@@ -0,0 +1,43 @@
+package com.mygdx.sim;
+
+import java.util.function.LongFunction;
+
+import com.mygdx.objects.Event;
+
+/**
+ * The decisions a player makes during a run, so a bot can play a Simulation.
+ * A BotSession asks the policy what to do each step; a policy keeps whatever state
+ * it wants, one instance plays one run.
+ */
+public interface Policy {
+
+    // Short name used in reports, e.g. "greedy"
+    String getName();
+
+    // Which of the event's choices to take
+    int chooseEventChoice(Simulation sim, Event event);
+
+    // Use items and buy upgrades before the next move, does nothing by default
+    default void manageInventory(Simulation sim) {
+    }
+
+    // Planet of the current system to land on next, -1 to leave the system
+    int chooseLanding(Simulation sim);
+
+    // Index into the universe's current destinations
+    int chooseDestination(Simulation sim);
+
+    // Makes a fresh policy per run from its report name, the seed only matters to policies that roll dice
+    static LongFunction<Policy> forName(String name) {
+        switch (name) {
+            case "greedy":
+                return seed -> new GreedyHarvesterPolicy();
+            case "conservative":
+                return seed -> new FuelConservativePolicy();
+            case "random":
+                return RandomPolicy::new;
+            default:
+                throw new IllegalArgumentException("Unknown policy: " + name);
+        }
+    }
+}
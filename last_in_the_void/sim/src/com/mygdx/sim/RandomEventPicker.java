@@ -0,0 +1,101 @@
+package com.mygdx.sim;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.mygdx.events.EventCatalogue;
+import com.mygdx.events.EventTemplate;
+import com.mygdx.helpers.AliasTable;
+import com.mygdx.objects.Player;
+
+/**
+ * Draws which random event a jump brings. One per run, like the EventScheduler that owns it.
+ *
+ * Each event's weight depends on the system tier and on which stats are low, see
+ * EventTemplate.Weight. The weights sit in an alias table, so a draw is O(1). The table is
+ * only rebuilt when the tier or the set of low stats changes, and then only the weights that
+ * read what changed are worked out again.
+ *
+ * The last RECENT events drawn are not drawn again. A draw that lands on one of them is thrown
+ * away and drawn again. That keeps the odds of the other events in proportion to their weights.
+ */
+public class RandomEventPicker {
+
+    // Events drawn in the last this many picks are skipped
+    public static final int RECENT = 3;
+    // A stat below this share of its limit counts as low
+    public static final double LOW_STAT = 1.0 / 3;
+    // Gives up skipping after this many draws, only reached when few events have any weight left
+    private static final int MAX_REDRAWS = 32;
+
+    private final List<EventTemplate> events;
+    private final double[] weights;
+    private AliasTable table;
+    // What the table was built for
+    private int tier = -1;
+    private int lowStats = -1;
+
+    // Ring buffer of the last picks, -1 for empty slots
+    private final int[] recent = new int[RECENT];
+    private int recentNext = 0;
+
+    public RandomEventPicker() {
+        this(EventCatalogue.getInstance().getRandomEvents());
+    }
+
+    public RandomEventPicker(List<EventTemplate> events) {
+        this.events = events;
+        this.weights = new double[events.size()];
+        Arrays.fill(recent, -1);
+    }
+
+    // Index into the catalogue's random events
+    public int pick(int tier, Player player, SplittableRandom rand) {
+        update(tier, lowStatsOf(player));
+        int index = table.sample(rand);
+        for (int redraws = 0; isRecent(index) && redraws < MAX_REDRAWS; redraws++) {
+            index = table.sample(rand);
+        }
+        recent[recentNext] = index;
+        recentNext = (recentNext + 1) % RECENT;
+        return index;
+    }
+
+    // Weight of each event with these inputs, before recent ones are skipped
+    public double[] weightsFor(int tier, Player player) {
+        update(tier, lowStatsOf(player));
+        return weights.clone();
+    }
+
+    private void update(int tier, int lowStats) {
+        if (table != null && tier == this.tier && lowStats == this.lowStats) return;
+        boolean tierChanged = table == null || tier != this.tier;
+        int statsChanged = table == null ? -1 : lowStats ^ this.lowStats;
+        for (int i = 0; i < weights.length; i++) {
+            EventTemplate event = events.get(i);
+            if (table == null || (tierChanged && event.isWeightedByTier()) || (statsChanged & event.getWeightStats()) != 0) {
+                weights[i] = event.getWeight(tier, lowStats);
+            }
+        }
+        table = new AliasTable(weights);
+        this.tier = tier;
+        this.lowStats = lowStats;
+    }
+
+    private boolean isRecent(int index) {
+        for (int r : recent) {
+            if (r == index) return true;
+        }
+        return false;
+    }
+
+    // Bit n is set while Player.Stats n is low
+    static int lowStatsOf(Player player) {
+        int low = 0;
+        if (player.getHealth() < player.getHealthLim() * LOW_STAT) low |= 1 << Player.Stats.HEALTH.ordinal();
+        if (player.getFuel() < player.getFuelLim() * LOW_STAT) low |= 1 << Player.Stats.FUEL.ordinal();
+        if (player.getOxygen() < player.getOxygenLim() * LOW_STAT) low |= 1 << Player.Stats.OXYGEN.ordinal();
+        return low;
+    }
+}
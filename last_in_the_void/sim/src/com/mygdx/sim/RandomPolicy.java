@@ -0,0 +1,59 @@
+package com.mygdx.sim;
+
+import java.util.SplittableRandom;
+
+import com.mygdx.objects.Event;
+import com.mygdx.objects.Planet;
+import com.mygdx.objects.Player;
+
+/**
+ * Does anything the game allows, picked at random: any choice, any destination, landing on
+ * stars included. Good at walking into states nobody would reach on purpose.
+ * Seeded, so a run it breaks can be played again.
+ */
+public class RandomPolicy implements Policy {
+
+    private final SplittableRandom random;
+
+    public RandomPolicy(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public String getName() {
+        return "random";
+    }
+
+    @Override
+    public int chooseEventChoice(Simulation sim, Event event) {
+        return random.nextInt(event.getChoices().size());
+    }
+
+    @Override
+    public void manageInventory(Simulation sim) {
+        UpgradeChain[] chains = UpgradeChain.values();
+        sim.buy(chains[random.nextInt(chains.length)]);
+        if (random.nextInt(4) == 0) {
+            Player.Stats[] stats = Player.Stats.values();
+            Player.Stats stat = stats[random.nextInt(stats.length)];
+            Player player = sim.getPlayer();
+            double limit = stat == Player.Stats.FUEL ? player.getFuelLim()
+                    : stat == Player.Stats.OXYGEN ? player.getOxygenLim() : player.getHealthLim();
+            sim.recoverUpTo(stat, random.nextDouble() * limit);
+        }
+    }
+
+    @Override
+    public int chooseLanding(Simulation sim) {
+        Planet[] planets = sim.getUniverse().getCurrentPosition().getPlanets();
+        // Leave about a third of the time, otherwise try any planet that is left
+        if (planets.length == 0 || random.nextInt(3) == 0) return -1;
+        int i = random.nextInt(planets.length);
+        return planets[i].getHarvest() ? -1 : i;
+    }
+
+    @Override
+    public int chooseDestination(Simulation sim) {
+        return random.nextInt(sim.getUniverse().getDestinations().length);
+    }
+}
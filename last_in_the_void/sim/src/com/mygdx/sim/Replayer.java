@@ -0,0 +1,117 @@
+package com.mygdx.sim;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Paths;
+
+import com.mygdx.helpers.ResourceType;
+import com.mygdx.objects.Event;
+import com.mygdx.objects.Player;
+
+/**
+ * Plays a Journal back on a fresh Simulation of the same seed, as fast as the rules run.
+ * Same seed and same decisions give the same run, so a journal from a bug report ends
+ * in the same state the player saw.
+ *
+ * From the command line: gradlew :sim:replay --args="run.litj [decisions]" prints every
+ * decision with the ship's state after it, optionally stopping after the given number of decisions.
+ */
+public class Replayer {
+
+    // Called after each decision is applied
+    public interface Listener {
+        void applied(int index, Journal.Op op, int a, int b, Simulation sim);
+    }
+
+    private Replayer() {
+    }
+
+    public static Simulation replay(Journal journal) {
+        return replay(journal, Integer.MAX_VALUE, null);
+    }
+
+    // Replays the first maxDecisions decisions of the journal
+    public static Simulation replay(Journal journal, int maxDecisions, Listener listener) {
+        Simulation sim = new Simulation(journal.getSeed());
+        int[] index = {0};
+        journal.forEach((op, a, b) -> {
+            if (index[0] >= maxDecisions) return;
+            apply(sim, op, a, b);
+            if (listener != null) listener.applied(index[0], op, a, b, sim);
+            index[0]++;
+        });
+        return sim;
+    }
+
+    private static void apply(Simulation sim, Journal.Op op, int a, int b) {
+        switch (op) {
+            case JUMP:
+                sim.jump(a);
+                break;
+            case LAND:
+                sim.land(a);
+                break;
+            case CHOOSE:
+                sim.choose(a);
+                break;
+            case USE_ITEM:
+                sim.useItem(ResourceType.values()[a].getDisplayName(), b);
+                break;
+            case REMOVE_ITEM:
+                sim.removeItem(ResourceType.values()[a].getDisplayName(), b);
+                break;
+            case BUY:
+                sim.buy(UpgradeChain.values()[a]);
+                break;
+        }
+    }
+
+    private static String describe(Journal.Op op, int a, int b) {
+        switch (op) {
+            case USE_ITEM:
+            case REMOVE_ITEM:
+                return op + " " + b + " " + ResourceType.values()[a].getDisplayName();
+            case BUY:
+                return op + " " + UpgradeChain.values()[a];
+            default:
+                return op + " " + a;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("Usage: Replayer <journal> [decisions]");
+            return;
+        }
+        Journal journal = Journal.read(Paths.get(args[0]));
+        int maxDecisions = args.length > 1 ? Integer.parseInt(args[1]) : Integer.MAX_VALUE;
+
+        PrintStream console = System.out;
+        System.out.println("Seed " + journal.getSeed() + ", " + journal.size() + " decisions");
+        // Keep the rules' own printing out of the trace
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        long start = System.nanoTime();
+        Simulation sim;
+        try {
+            sim = replay(journal, maxDecisions, (index, op, a, b, s) -> {
+                Player player = s.getPlayer();
+                console.println(String.format("#%d %s -> depth %d, fuel %.0f, hull %.0f, oxygen %.0f",
+                        index, describe(op, a, b), s.getDepth(), player.getFuel(), player.getHealth(), player.getOxygen()));
+            });
+        } finally {
+            System.setOut(console);
+        }
+        long micros = (System.nanoTime() - start) / 1000;
+
+        System.out.println("Replayed in " + micros + " us, " + sim.getJumps() + " jumps, " + sim.getLandings() + " landings");
+        if (sim.isOver()) {
+            System.out.println("Run ended: " + sim.getDeathCause() + " - " + sim.getDeathCause().getMessage());
+        }
+        Event pending = sim.getPendingEvent();
+        if (pending != null) {
+            System.out.println("Waiting on event: " + pending.getTitle());
+        }
+        System.out.println("Inventory: " + sim.getPlayer().getInventory().getItems());
+    }
+}
@@ -0,0 +1,28 @@
+package com.mygdx.sim;
+
+import com.mygdx.objects.Galaxy;
+
+/**
+ * A question about a seed that SeedSearch answers one layer at a time, so it can stop
+ * generating as soon as the answer is known. One instance checks one seed, it may keep state.
+ */
+public interface SeedPredicate {
+
+    enum Verdict {
+        MATCH,
+        REJECT,
+        UNDECIDED
+    }
+
+    // Deepest layer the predicate looks at, nothing past it is generated
+    int horizon();
+
+    /**
+     * Looks at the next layer, called for depth 1, 2, ... up to the horizon.
+     * The first count entries of reachable are the systems of this depth the player can get to.
+     */
+    Verdict visit(Galaxy galaxy, int depth, int[] reachable, int count);
+
+    // The answer when the horizon is reached and visit never decided
+    boolean matchAtHorizon();
+}
@@ -0,0 +1,154 @@
+package com.mygdx.sim;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.mygdx.objects.Galaxy;
+import com.mygdx.objects.Planet;
+import com.mygdx.objects.PlanetDistributions;
+
+/**
+ * The seed questions SeedSearch knows out of the box, and the text form the command line uses:
+ * "planet-tier:4:10" for a tier 4 planet within 10 jumps, "no-aliens:25" for no alien planets
+ * before depth 25, joined with "+" when a seed has to pass all of them.
+ */
+public final class SeedPredicates {
+
+    private SeedPredicates() {
+    }
+
+    // A planet of at least the given tier in a system the player can reach within the given number of jumps
+    public static Supplier<SeedPredicate> planetTierWithin(int tier, int jumps) {
+        return () -> new SeedPredicate() {
+            @Override
+            public int horizon() {
+                return jumps;
+            }
+
+            @Override
+            public Verdict visit(Galaxy galaxy, int depth, int[] reachable, int count) {
+                // Planets never outrank their system and system tiers only depend on depth
+                if (galaxy.tierFor(jumps) < tier) return Verdict.REJECT;
+                if (galaxy.tierFor(depth) < tier) return Verdict.UNDECIDED;
+                for (int i = 0; i < count; i++) {
+                    for (Planet planet : galaxy.getSystem(reachable[i]).getPlanets()) {
+                        if (planet.getType() != Planet.Type.Star && planet.getTier() >= tier) {
+                            return Verdict.MATCH;
+                        }
+                    }
+                }
+                return Verdict.UNDECIDED;
+            }
+
+            @Override
+            public boolean matchAtHorizon() {
+                return false;
+            }
+        };
+    }
+
+    // No planet with an alien on it in any reachable system before the given depth
+    public static Supplier<SeedPredicate> noAliensBefore(int depth) {
+        return () -> new SeedPredicate() {
+            @Override
+            public int horizon() {
+                return depth - 1;
+            }
+
+            @Override
+            public Verdict visit(Galaxy galaxy, int d, int[] reachable, int count) {
+                // Layers whose tiers never roll aliens need no planets built
+                if (!aliensPossible(galaxy, depth - 1)) return Verdict.MATCH;
+                if (!aliensPossible(galaxy, d)) return Verdict.UNDECIDED;
+                for (int i = 0; i < count; i++) {
+                    for (Planet planet : galaxy.getSystem(reachable[i]).getPlanets()) {
+                        if (planet.getHasAlien()) {
+                            return Verdict.REJECT;
+                        }
+                    }
+                }
+                return Verdict.UNDECIDED;
+            }
+
+            @Override
+            public boolean matchAtHorizon() {
+                return true;
+            }
+        };
+    }
+
+    // Whether any planet up to the given depth can have an alien at all
+    private static boolean aliensPossible(Galaxy galaxy, int depth) {
+        PlanetDistributions odds = PlanetDistributions.getInstance();
+        for (int tier = 1; tier <= galaxy.tierFor(depth); tier++) {
+            if (odds.getAlienChance(tier) > 0) return true;
+        }
+        return false;
+    }
+
+    // Matches when every part does, rejects as soon as one part does
+    public static Supplier<SeedPredicate> allOf(List<Supplier<SeedPredicate>> parts) {
+        return () -> {
+            List<SeedPredicate> open = new ArrayList<>();
+            for (Supplier<SeedPredicate> part : parts) {
+                open.add(part.get());
+            }
+            int horizon = 0;
+            for (SeedPredicate p : open) {
+                horizon = Math.max(horizon, p.horizon());
+            }
+            final int deepest = horizon;
+            return new SeedPredicate() {
+                @Override
+                public int horizon() {
+                    return deepest;
+                }
+
+                @Override
+                public Verdict visit(Galaxy galaxy, int depth, int[] reachable, int count) {
+                    for (int i = open.size() - 1; i >= 0; i--) {
+                        SeedPredicate p = open.get(i);
+                        Verdict verdict = depth <= p.horizon()
+                                ? p.visit(galaxy, depth, reachable, count)
+                                : Verdict.UNDECIDED;
+                        if (verdict == Verdict.UNDECIDED && depth >= p.horizon()) {
+                            verdict = p.matchAtHorizon() ? Verdict.MATCH : Verdict.REJECT;
+                        }
+                        if (verdict == Verdict.REJECT) return Verdict.REJECT;
+                        // A part that matched has nothing more to say
+                        if (verdict == Verdict.MATCH) open.remove(i);
+                    }
+                    return open.isEmpty() ? Verdict.MATCH : Verdict.UNDECIDED;
+                }
+
+                @Override
+                public boolean matchAtHorizon() {
+                    for (SeedPredicate p : open) {
+                        if (!p.matchAtHorizon()) return false;
+                    }
+                    return true;
+                }
+            };
+        };
+    }
+
+    // Reads the command line form described above
+    public static Supplier<SeedPredicate> parse(String text) {
+        List<Supplier<SeedPredicate>> parts = new ArrayList<>();
+        for (String part : text.split("\\+")) {
+            String[] fields = part.trim().split(":");
+            switch (fields[0]) {
+                case "planet-tier":
+                    parts.add(planetTierWithin(Integer.parseInt(fields[1]), Integer.parseInt(fields[2])));
+                    break;
+                case "no-aliens":
+                    parts.add(noAliensBefore(Integer.parseInt(fields[1])));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown seed predicate: " + part);
+            }
+        }
+        return parts.size() == 1 ? parts.get(0) : allOf(parts);
+    }
+}
@@ -0,0 +1,162 @@
+package com.mygdx.sim;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import com.mygdx.helpers.SeedTree;
+import com.mygdx.objects.Galaxy;
+import com.mygdx.objects.Universe;
+
+/**
+ * Looks through a range of seeds for ones that pass a SeedPredicate, e.g. to pick seeds for
+ * a tournament or a demo. The range is split into chunks on a work stealing pool, each seed
+ * only generates the layers and planets its predicate asks about, and the whole search stops
+ * once enough seeds are found. With several workers those are the first found, not
+ * necessarily the lowest.
+ *
+ * Run with e.g. gradlew :sim:seedSearch --args="planet-tier:4:10+no-aliens:12 5 0 1000000 40"
+ * for five seeds of a 40 layer universe. Tiers come from depth alone, so with the default
+ * length some questions are settled before a single planet is rolled.
+ */
+public class SeedSearch {
+
+    // Seeds a task checks on its own before it stops splitting
+    private static final int CHUNK = 64;
+
+    private final Supplier<SeedPredicate> predicate;
+    private final int universeLength;
+    private final AtomicLong checked = new AtomicLong();
+
+    public SeedSearch(Supplier<SeedPredicate> predicate) {
+        this(predicate, Universe.DEFAULT_LENGTH);
+    }
+
+    public SeedSearch(Supplier<SeedPredicate> predicate, int universeLength) {
+        this.predicate = predicate;
+        this.universeLength = universeLength;
+    }
+
+    // Seeds looked at by the last search, including the ones cut short
+    public long getChecked() {
+        return checked.get();
+    }
+
+    /**
+     * Checks seeds first, first + 1, ... first + count - 1 and returns up to wanted matches in ascending order.
+     */
+    public List<Long> search(ForkJoinPool pool, long first, long count, int wanted) {
+        checked.set(0);
+        Queue<Long> found = new ConcurrentLinkedQueue<>();
+        AtomicInteger matches = new AtomicInteger();
+        pool.invoke(new Range(first, count, wanted, found, matches));
+
+        List<Long> seeds = new ArrayList<>(found);
+        seeds.sort(null);
+        return seeds.size() > wanted ? seeds.subList(0, wanted) : seeds;
+    }
+
+    private final class Range extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long first;
+        private final long count;
+        private final int wanted;
+        private final Queue<Long> found;
+        private final AtomicInteger matches;
+
+        Range(long first, long count, int wanted, Queue<Long> found, AtomicInteger matches) {
+            this.first = first;
+            this.count = count;
+            this.wanted = wanted;
+            this.found = found;
+            this.matches = matches;
+        }
+
+        @Override
+        protected void compute() {
+            if (matches.get() >= wanted) return;
+            if (count > CHUNK) {
+                long half = count / 2;
+                invokeAll(new Range(first, half, wanted, found, matches),
+                        new Range(first + half, count - half, wanted, found, matches));
+                return;
+            }
+            for (long seed = first; seed < first + count; seed++) {
+                if (matches.get() >= wanted) return;
+                checked.incrementAndGet();
+                if (matches(seed)) {
+                    found.add(seed);
+                    matches.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * Walks the layers reachable from the start system, building nothing past the predicate's horizon.
+     * Reachable means linked from a reachable system of the layer before, which is what a
+     * fully upgraded scanner can offer.
+     */
+    public boolean matches(long seed) {
+        SeedPredicate p = predicate.get();
+        Galaxy galaxy = new Galaxy(new SeedTree(seed), universeLength);
+        int[] reachable = new int[Galaxy.LAYER_SIZE];
+        int[] next = new int[Galaxy.LAYER_SIZE];
+        reachable[0] = 0;
+        int count = 1;
+
+        for (int depth = 1; depth <= p.horizon(); depth++) {
+            int mask = 0;
+            for (int i = 0; i < count; i++) {
+                mask |= galaxy.getLinks(reachable[i]);
+            }
+            int nextCount = 0;
+            for (int i = 0; i < Galaxy.LAYER_SIZE; i++) {
+                if ((mask & (1 << i)) != 0) next[nextCount++] = Galaxy.idOf(depth, i);
+            }
+
+            SeedPredicate.Verdict verdict = p.visit(galaxy, depth, next, nextCount);
+            if (verdict != SeedPredicate.Verdict.UNDECIDED) {
+                return verdict == SeedPredicate.Verdict.MATCH;
+            }
+
+            int[] swap = reachable;
+            reachable = next;
+            next = swap;
+            count = nextCount;
+        }
+        return p.matchAtHorizon();
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.out.println("Usage: SeedSearch <predicate> [wanted] [first seed] [seeds to check] [universe length]");
+            return;
+        }
+        Supplier<SeedPredicate> predicate = SeedPredicates.parse(args[0]);
+        int wanted = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        long first = args.length > 2 ? Long.parseLong(args[2]) : 0;
+        long count = args.length > 3 ? Long.parseLong(args[3]) : 10_000_000L;
+        int universeLength = args.length > 4 ? Integer.parseInt(args[4]) : Universe.DEFAULT_LENGTH;
+
+        SeedSearch search = new SeedSearch(predicate, universeLength);
+        ForkJoinPool pool = new ForkJoinPool();
+        long start = System.nanoTime();
+        List<Long> seeds = search.search(pool, first, count, wanted);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        pool.shutdown();
+
+        long perSecond = search.getChecked() * 1000 / Math.max(1, millis);
+        System.out.println("Checked " + search.getChecked() + " seeds in " + millis + " ms (" + perSecond + "/s), found " + seeds.size());
+        for (long seed : seeds) {
+            System.out.println(seed);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.mygdx.sim;
+
+import java.util.Map;
+
+import com.mygdx.objects.Inventory;
+import com.mygdx.objects.Player;
+import com.mygdx.objects.Universe;
+import com.mygdx.objects.UpgradeLevels;
+
+/**
+ * The upgrades bought on one ship when there is no menu to click, e.g. in a Simulation.
+ * Starts at the same levels as UpgradesUI and applies the same effect for each purchase.
+ */
+public class ShipUpgrades implements UpgradeLevels {
+
+    private final int[] bought = new int[UpgradeChain.values().length];
+    private final BalanceParams params;
+
+    public ShipUpgrades() {
+        this(BalanceParams.DEFAULT);
+    }
+
+    // Upgrades priced by the params instead of the game's costs
+    public ShipUpgrades(BalanceParams params) {
+        this.params = params;
+    }
+
+    public boolean isMaxed(UpgradeChain chain) {
+        return bought[chain.ordinal()] >= chain.getLevels();
+    }
+
+    // How many steps of the chain have been bought so far
+    public int getBought(UpgradeChain chain) {
+        return bought[chain.ordinal()];
+    }
+
+    // Sets the count without applying any effects, for tools that rebuild a ship they already know the state of
+    void setBought(UpgradeChain chain, int steps) {
+        bought[chain.ordinal()] = steps;
+    }
+
+    // What the next step of the chain costs
+    public Map<String, Integer> getCost(UpgradeChain chain) {
+        return params.getCost(chain, getBought(chain));
+    }
+
+    public boolean canAfford(UpgradeChain chain, Inventory inventory) {
+        if (isMaxed(chain)) return false;
+        for (Map.Entry<String, Integer> entry : getCost(chain).entrySet()) {
+            if (inventory.checkItemQuantity(entry.getKey()) < entry.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Pays for the next step of the chain and applies it, false if it is maxed or too expensive
+    public boolean buy(UpgradeChain chain, Player player, Universe universe) {
+        Inventory inventory = player.getInventory();
+        if (!canAfford(chain, inventory)) return false;
+
+        for (Map.Entry<String, Integer> entry : getCost(chain).entrySet()) {
+            inventory.removeItem(entry.getKey(), entry.getValue());
+        }
+        bought[chain.ordinal()]++;
+
+        switch (chain) {
+            case FUEL:
+                player.upgradeFuel();
+                break;
+            case HEALTH:
+                player.upgradeHealth();
+                break;
+            case OXYGEN:
+                player.upgradeOxygen();
+                break;
+            case DESTINATION:
+                universe.setMaxDest(getDestinationLevel());
+                break;
+            case RESOURCES:
+                player.setResourcePermissionLevel(getResourcesLevel());
+                break;
+            case INVENTORY:
+                // capacity only exists in InventoryUI, the level is still counted
+                break;
+        }
+        return true;
+    }
+
+    @Override
+    public int getDestinationLevel() {
+        return 2 + getBought(UpgradeChain.DESTINATION);
+    }
+
+    @Override
+    public int getFuelLevel() {
+        return 1 + getBought(UpgradeChain.FUEL);
+    }
+
+    @Override
+    public int getHealthLevel() {
+        return 1 + getBought(UpgradeChain.HEALTH);
+    }
+
+    @Override
+    public int getInventoryLevel() {
+        return 1 + getBought(UpgradeChain.INVENTORY);
+    }
+
+    @Override
+    public int getResourcesLevel() {
+        return 1 + getBought(UpgradeChain.RESOURCES);
+    }
+
+    @Override
+    public int getOxygenLevel() {
+        return 1 + getBought(UpgradeChain.OXYGEN);
+    }
+}
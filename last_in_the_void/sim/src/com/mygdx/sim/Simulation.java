@@ -0,0 +1,238 @@
+package com.mygdx.sim;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import com.mygdx.events.planet_events.PlanetLandingEvent;
+import com.mygdx.objects.Event;
+import com.mygdx.objects.Galaxy;
+import com.mygdx.objects.Planet;
+import com.mygdx.objects.Player;
+import com.mygdx.objects.Universe;
+
+/**
+ * One run of the game without any screens: jump, land, answer events, until the player dies.
+ * Follows the same GameRules as GameScreen and UIManager, so a seed plays out the same way here
+ * as it would with the same choices in the game.
+ */
+public class Simulation {
+
+    // What came of a jump or a landing
+    public enum Result {
+        DONE,
+        // Nothing happened, the run goes on as before
+        REFUSED,
+        // It happened and killed the player, see getDeathCause
+        DIED
+    }
+
+    private final Universe universe;
+    private final Player player;
+    private final ShipUpgrades upgrades;
+    private final BalanceParams params;
+    private final EventScheduler scheduler = new EventScheduler();
+
+    private int jumps = 0;
+    private int landings = 0;
+    private Event pendingEvent;
+    private DeathCause deathCause;
+
+    // Planet the pending landing event is about, null otherwise
+    private Planet landedOn;
+    // Resources harvested so far, indexed by planet tier
+    private final long[] harvestedByTier = new long[Galaxy.MAX_TIER + 1];
+    // Jump count at which each step of each upgrade chain was bought, -1 if it was not
+    private final int[][] boughtAtJump = new int[UpgradeChain.values().length][];
+    // Decisions are written here when set, null for runs nobody needs to replay
+    private Journal journal;
+
+    public Simulation(long seed) {
+        this(seed, BalanceParams.DEFAULT);
+    }
+
+    // A run with other balance constants, see BalanceTuner
+    public Simulation(long seed, BalanceParams params) {
+        this(new Universe(seed), new Player(), new ShipUpgrades(params), params);
+    }
+
+    public Simulation(Universe universe, Player player, ShipUpgrades upgrades) {
+        this(universe, player, upgrades, BalanceParams.DEFAULT);
+    }
+
+    public Simulation(Universe universe, Player player, ShipUpgrades upgrades, BalanceParams params) {
+        this.universe = universe;
+        this.player = player;
+        this.upgrades = upgrades;
+        this.params = params;
+        for (UpgradeChain chain : UpgradeChain.values()) {
+            boughtAtJump[chain.ordinal()] = new int[chain.getLevels()];
+            Arrays.fill(boughtAtJump[chain.ordinal()], -1);
+        }
+        // Every run opens with the first story event, like the game does
+        show(GameRules.openingEvent());
+    }
+
+    public Universe getUniverse() {
+        return universe;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public int getJumps() {
+        return jumps;
+    }
+
+    public int getLandings() {
+        return landings;
+    }
+
+    public void setJournal(Journal journal) {
+        this.journal = journal;
+    }
+
+    public Journal getJournal() {
+        return journal;
+    }
+
+    public BalanceParams getParams() {
+        return params;
+    }
+
+    public ShipUpgrades getUpgrades() {
+        return upgrades;
+    }
+
+    public long getHarvested(int tier) {
+        return harvestedByTier[tier];
+    }
+
+    public int getBoughtAtJump(UpgradeChain chain, int step) {
+        return boughtAtJump[chain.ordinal()][step];
+    }
+
+    public int getDepth() {
+        return universe.getDepth();
+    }
+
+    // Event waiting for a choice, null if there is none
+    public Event getPendingEvent() {
+        return pendingEvent;
+    }
+
+    public DeathCause getDeathCause() {
+        return deathCause;
+    }
+
+    public boolean isOver() {
+        return deathCause != null;
+    }
+
+    // Jumps to one of the scanner's destinations. REFUSED if the run is over, an event is waiting, there is
+    // no such destination or the tank is too low, DIED if paying for the jump emptied the tank
+    public Result jump(int destination) {
+        if (journal != null) journal.recordJump(destination);
+        if (isOver() || pendingEvent != null) return Result.REFUSED;
+        if (destination < 0 || destination >= universe.getDestinationIds().length) return Result.REFUSED;
+        if (!GameRules.payJump(player, params.getJumpFuelCost())) return Result.REFUSED;
+
+        deathCause = GameRules.checkDeath(player);
+        if (isOver()) return Result.DIED;
+
+        universe.chooseDestination(destination);
+        jumps++;
+        // No clock here, so time triggered schedule entries do not fire
+        show(scheduler.eventAfterJump(jumps, 0, universe.getCurrentPosition().getTier(), player, upgrades,
+                universe.getEventRandom()));
+        return Result.DONE;
+    }
+
+    // Lands on a planet of the current system. REFUSED if the run is over, an event is waiting or the planet
+    // was harvested, DIED if the landing killed the player, either on a star or by emptying the tank
+    public Result land(int planetIndex) {
+        if (journal != null) journal.recordLanding(planetIndex);
+        if (isOver() || pendingEvent != null) return Result.REFUSED;
+        Planet planet = universe.getCurrentPosition().getPlanets()[planetIndex];
+        if (planet.getHarvest()) return Result.REFUSED;
+
+        deathCause = GameRules.land(player, planet, params.getLandingFuelCost());
+        if (deathCause == null) deathCause = GameRules.checkDeath(player);
+        if (isOver()) return Result.DIED;
+
+        landings++;
+        landedOn = planet;
+        show(GameRules.landingEvent(planet, universe.getEventRandom(), params.getHarvestCosts()));
+        return Result.DONE;
+    }
+
+    // Uses inventory items to top up the stat they recover, like the inventory's Recover button
+    public double useItem(String itemName, int quantity) {
+        if (journal != null) journal.recordUseItem(itemName, quantity);
+        if (isOver()) return 0;
+        return GameRules.recover(player, itemName, quantity);
+    }
+
+    // Throws items away, like the inventory's Remove button
+    public boolean removeItem(String itemName, int quantity) {
+        if (journal != null) journal.recordRemoveItem(itemName, quantity);
+        if (isOver()) return false;
+        return player.getInventory().removeItem(itemName, quantity);
+    }
+
+    // Uses items on a stat until it reaches the wanted level or the items run out, cheapest items first
+    public void recoverUpTo(Player.Stats stat, double wanted) {
+        double current = statValue(stat);
+        if (current >= wanted) return;
+        List<String> items = new ArrayList<>(player.getInventory().getItems().keySet());
+        items.sort(Comparator.comparingInt(GameRules::recoveryAmount));
+        for (String item : items) {
+            if (current >= wanted) return;
+            int amount = GameRules.recoveryAmount(item);
+            if (GameRules.recoveryStat(item) != stat || amount <= 0) continue;
+            current += useItem(item, (int) Math.ceil((wanted - current) / amount));
+        }
+    }
+
+    private double statValue(Player.Stats stat) {
+        if (stat == Player.Stats.FUEL) return player.getFuel();
+        if (stat == Player.Stats.OXYGEN) return player.getOxygen();
+        return player.getHealth();
+    }
+
+    // Buys the next step of an upgrade chain, false if it is maxed or the inventory cannot pay for it
+    public boolean buy(UpgradeChain chain) {
+        if (journal != null) journal.recordBuy(chain);
+        if (isOver()) return false;
+        int step = upgrades.getBought(chain);
+        if (!upgrades.buy(chain, player, universe)) return false;
+        boughtAtJump[chain.ordinal()][step] = jumps;
+        return true;
+    }
+
+    // Answers the pending event, returns whether the choice succeeded
+    public boolean choose(int choiceIndex) {
+        if (journal != null) journal.recordChoice(choiceIndex);
+        if (pendingEvent == null) return false;
+        Event event = pendingEvent;
+        pendingEvent = null;
+        boolean success = event.getChoices().get(choiceIndex).execute(player, event.getRandom());
+        if (event instanceof PlanetLandingEvent && landedOn != null) {
+            for (int amount : ((PlanetLandingEvent) event).getHarvestedResources().values()) {
+                harvestedByTier[landedOn.getTier()] += amount;
+            }
+        }
+        landedOn = null;
+        deathCause = GameRules.checkDeath(player);
+        return success;
+    }
+
+    // Same as EventManager.setCurrentEvent, each event gets its own stream split off the run's
+    private void show(Event event) {
+        if (event == null) return;
+        event.setRandom(universe.getEventRandom().split());
+        pendingEvent = event;
+    }
+}
@@ -0,0 +1,497 @@
+package com.mygdx.sim;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+
+import com.mygdx.events.ScheduledEvent;
+import com.mygdx.events.planet_events.AggressiveAlienEncounterEvent;
+import com.mygdx.events.planet_events.HumanoidAlienEncounterEvent;
+import com.mygdx.events.planet_events.PlanetLandingEvent;
+import com.mygdx.helpers.ResourceType;
+import com.mygdx.helpers.SeedTree;
+import com.mygdx.objects.Alien;
+import com.mygdx.objects.Event;
+import com.mygdx.objects.Galaxy;
+import com.mygdx.objects.Inventory;
+import com.mygdx.objects.Planet;
+import com.mygdx.objects.PlanetDistributions;
+import com.mygdx.objects.Player;
+import com.mygdx.objects.Universe;
+
+/**
+ * Walks every state a run can get into through the event catalogue, looking for soft-locks:
+ * ships that cannot do anything any more, events where every choice kills the player, and
+ * alien trades nobody ever has the resources for.
+ *
+ * A state is the ship's stats, inventory, upgrades, jump count and landings in the current
+ * system. Stats are kept in steps of STAT_STEP and item counts in steps of ITEM_STEP, so runs that
+ * differ by a few points end up as the same state and are explored once. From each state the
+ * explorer tries using items, every useful upgrade, landing on each kind of planet the system's
+ * tier allows, and jumping with every event that jump can bring. Both sides of every choice are
+ * played, with a few fixed random streams for the rolls inside outcomes.
+ *
+ * The map is abstract: planets are made up per landing at a fixed size, so seeds do not matter.
+ * Run with e.g. gradlew :sim:exploreStates --args="512 100 3 2".
+ */
+public class StateExplorer {
+
+    // Stats are stored in steps of this many points, items in steps of ITEM_STEP
+    public static final int STAT_STEP = 5;
+    // 80, the price of every alien trade, is a whole number of steps so affordability is kept exactly
+    public static final int ITEM_STEP = 10;
+
+    // Chains with an effect on the explored state, the others only cost resources
+    private static final UpgradeChain[] CHAINS = {
+            UpgradeChain.FUEL, UpgradeChain.HEALTH, UpgradeChain.OXYGEN, UpgradeChain.RESOURCES
+    };
+    private static final Planet.Type[] PLANET_TYPES = {Planet.Type.Gas, Planet.Type.Mineral, Planet.Type.Organic};
+    // Size of every made up planet, the middle of the size range
+    private static final int PLANET_SIZE = 50;
+    private static final int TRADE_PRICE = 80;
+    private static final String[] RARITIES = {"Common", "Uncommon", "Rare", "Legendary"};
+    private static final int MAX_EXAMPLES = 10;
+
+    // What led to a state, the kind sits in the low bits of the packed action
+    private static final int TOP_UP = 0;
+    private static final int BUY = 1;
+    private static final int JUMP = 2;
+    private static final int LAND = 3;
+    // Event numbers a jump action can carry besides the random event index, STORY is any event the
+    // schedule names rather than draws
+    private static final int NO_EVENT = 31;
+    private static final int STORY = 30;
+    // Landing events
+    private static final int HARVEST = 0;
+    private static final int HUMANOID = 1;
+    private static final int AGGRESSIVE = 2;
+
+    private final int maxJumps;
+    private final int maxLandings;
+    private final int samples;
+    // What the schedule brings on each jump, the explored states carry no story flags or clock
+    private final String[] plan;
+    private final StateTable table;
+    private final PlanetDistributions odds = PlanetDistributions.getInstance();
+
+    // Findings of the last explore
+    private long transitions = 0;
+    private long dropped = 0;
+    private int horizonStates = 0;
+    private int deepest = 0;
+    private final Map<DeathCause, Long> deaths = new EnumMap<>(DeathCause.class);
+    private long deadEnds = 0;
+    private final List<String> deadEndExamples = new ArrayList<>();
+    private final Map<String, Long> doomedEvents = new TreeMap<>();
+    private final List<String> doomedExamples = new ArrayList<>();
+    // Humanoid trades offered and affordable, indexed by planet tier then planet type
+    private final long[][] tradesOffered = new long[Galaxy.MAX_TIER + 1][PLANET_TYPES.length];
+    private final long[][] tradesAffordable = new long[Galaxy.MAX_TIER + 1][PLANET_TYPES.length];
+
+    /**
+     * @param memoryBudget bytes the state table may use, exploring goes on without new states once it is full
+     * @param maxJumps jumps to explore up to, usually the universe length
+     * @param maxLandings landings tried in each system
+     * @param samples random streams each side of a choice is played with
+     */
+    public StateExplorer(long memoryBudget, int maxJumps, int maxLandings, int samples) {
+        if (maxJumps > 127 || maxLandings > 7) {
+            throw new IllegalArgumentException("At most 127 jumps and 7 landings fit in a state");
+        }
+        this.table = new StateTable(memoryBudget);
+        this.maxJumps = maxJumps;
+        this.maxLandings = maxLandings;
+        this.samples = samples;
+        this.plan = EventScheduler.plan(maxJumps);
+    }
+
+    public int getStates() {
+        return table.size();
+    }
+
+    public long getDeadEnds() {
+        return deadEnds;
+    }
+
+    public Map<String, Long> getDoomedEvents() {
+        return doomedEvents;
+    }
+
+    // Breadth first over all states, in the order they were found
+    public void explore() {
+        // Every run opens with the first story event
+        Player start = new Player();
+        ShipUpgrades upgrades = new ShipUpgrades();
+        playEvent(-1, packHi(0, 0, start, upgrades), packLo(start.getInventory()), GameRules.openingEvent(), action(JUMP, STORY));
+
+        for (int id = 0; id < table.size(); id++) {
+            expand(id);
+        }
+    }
+
+    private void expand(int id) {
+        long hi = table.hi(id);
+        long lo = table.lo(id);
+        int jumps = jumpsOf(hi);
+        deepest = Math.max(deepest, jumps);
+        if (jumps >= maxJumps) {
+            horizonStates++;
+            return;
+        }
+        boolean anyAlive = false;
+
+        // Items
+        Player player = unpack(hi, lo, upgradesOf(hi));
+        topUp(player);
+        long toppedHi = packHi(jumps, landingsOf(hi), player, upgradesOf(hi));
+        long toppedLo = packLo(player.getInventory());
+        if (toppedHi != hi || toppedLo != lo) {
+            add(id, toppedHi, toppedLo, action(TOP_UP, 0));
+            anyAlive = true;
+        }
+
+        // Upgrades
+        for (UpgradeChain chain : CHAINS) {
+            ShipUpgrades upgrades = upgradesOf(hi);
+            player = unpack(hi, lo, upgrades);
+            if (upgrades.buy(chain, player, null)) {
+                add(id, packHi(jumps, landingsOf(hi), player, upgrades), packLo(player.getInventory()), action(BUY, chain.ordinal()));
+                anyAlive = true;
+            }
+        }
+
+        // Landings on every kind of planet the system can have, safe ones only
+        int systemTier = Galaxy.tierFor(jumps, Universe.DEFAULT_LENGTH);
+        if (landingsOf(hi) < maxLandings && fuelOf(hi) >= Planet.LANDING_FUEL_COST) {
+            for (int tier = 1; tier <= Galaxy.MAX_TIER; tier++) {
+                if (jumps > 0 && !odds.canRollTier(systemTier, tier)) continue;
+                if (jumps == 0 && tier > 1) continue;
+                for (int type = 0; type < PLANET_TYPES.length; type++) {
+                    anyAlive |= land(id, hi, lo, type, tier, HARVEST);
+                    if (odds.getAlienChance(tier) > 0) {
+                        anyAlive |= land(id, hi, lo, type, tier, HUMANOID);
+                        anyAlive |= land(id, hi, lo, type, tier, AGGRESSIVE);
+                    }
+                }
+            }
+        }
+
+        // Jump, with every event it can bring
+        if (fuelOf(hi) >= Universe.JUMP_FUEL_COST) {
+            anyAlive |= jump(id, hi, lo, jumps + 1);
+        }
+
+        if (!anyAlive) {
+            deadEnds++;
+            if (deadEndExamples.size() < MAX_EXAMPLES) deadEndExamples.add(describe(id));
+        }
+    }
+
+    private boolean land(int id, long hi, long lo, int type, int tier, int variant) {
+        ShipUpgrades upgrades = upgradesOf(hi);
+        Player player = unpack(hi, lo, upgrades);
+        Planet planet = new Planet("Explored", PLANET_TYPES[type], PLANET_SIZE, tier);
+        GameRules.land(player, planet);
+
+        Event event;
+        if (variant == HARVEST) {
+            event = new PlanetLandingEvent(planet);
+        } else if (variant == AGGRESSIVE) {
+            event = new AggressiveAlienEncounterEvent(new Alien("Aggressive Xenomorph"), planet);
+        } else {
+            event = new HumanoidAlienEncounterEvent(new Alien("Humanoid"), planet);
+            if (tier >= 2) {
+                tradesOffered[tier][type]++;
+                String price = RARITIES[tier - 2] + " " + resourceOf(PLANET_TYPES[type]);
+                if (player.getInventory().checkItemQuantity(price) >= TRADE_PRICE) tradesAffordable[tier][type]++;
+            }
+        }
+        long landedHi = packHi(jumpsOf(hi), landingsOf(hi) + 1, player, upgrades);
+        return playEvent(id, landedHi, packLo(player.getInventory()), event,
+                action(LAND, variant) | type << 12 | tier << 14);
+    }
+
+    private boolean jump(int id, long hi, long lo, int depth) {
+        ShipUpgrades upgrades = upgradesOf(hi);
+        Player player = unpack(hi, lo, upgrades);
+        GameRules.payJump(player);
+        if (died(player)) return false;
+
+        long jumpedHi = packHi(depth, 0, player, upgrades);
+        long jumpedLo = packLo(player.getInventory());
+        String planned = plan[depth];
+        if (planned == null) {
+            add(id, jumpedHi, jumpedLo, action(JUMP, NO_EVENT));
+            return true;
+        }
+        if (!ScheduledEvent.RANDOM_POOL.equals(planned)) {
+            return playEvent(id, jumpedHi, jumpedLo, GameRules.catalogueEvent(planned, upgradesOf(hi)),
+                    action(JUMP, STORY));
+        }
+        boolean anyAlive = false;
+        for (int i = 0; i < GameRules.randomEventCount(); i++) {
+            anyAlive |= playEvent(id, jumpedHi, jumpedLo, GameRules.randomEvent(i, upgradesOf(hi)), action(JUMP, i));
+        }
+        return anyAlive;
+    }
+
+    // Plays both sides of every choice from the given state, returns whether the player can live through the event
+    private boolean playEvent(int from, long hi, long lo, Event event, int action) {
+        boolean anyAlive = false;
+        List<Event.Choice> choices = event.getChoices();
+        for (int c = 0; c < choices.size(); c++) {
+            Event.Choice choice = choices.get(c);
+            for (int side = 0; side < 2; side++) {
+                boolean success = side == 0;
+                if (success ? choice.getSuccessChance() <= 0 : choice.getSuccessChance() >= 100) continue;
+                for (int s = 0; s < samples; s++) {
+                    ShipUpgrades upgrades = upgradesOf(hi);
+                    Player player = unpack(hi, lo, upgrades);
+                    event.setRandom(new SplittableRandom(SeedTree.mix(hi * 31 + lo + s)));
+                    choice.apply(player, success);
+                    if (died(player)) continue;
+                    anyAlive = true;
+                    add(from, packHi(jumpsOf(hi), landingsOf(hi), player, upgrades), packLo(player.getInventory()),
+                            action | c << 7 | (success ? 0 : 1) << 11);
+                }
+            }
+        }
+        if (!anyAlive) {
+            String key = event.getTitle() + " at depth " + jumpsOf(hi);
+            doomedEvents.merge(key, 1L, Long::sum);
+            if (doomedExamples.size() < MAX_EXAMPLES) {
+                doomedExamples.add(event.getTitle() + " after " + (from < 0 ? "the start" : describe(from)));
+            }
+        }
+        return anyAlive;
+    }
+
+    private boolean died(Player player) {
+        transitions++;
+        DeathCause cause = GameRules.checkDeath(player);
+        if (cause == null) return false;
+        deaths.merge(cause, 1L, Long::sum);
+        return true;
+    }
+
+    private void add(int from, long hi, long lo, int action) {
+        if (table.intern(hi, lo, from, action) == StateTable.FULL) dropped++;
+    }
+
+    // Uses items on every stat until it is full or the items run out, cheapest items first
+    private static void topUp(Player player) {
+        List<String> items = new ArrayList<>(player.getInventory().getItems().keySet());
+        items.sort(Comparator.comparingInt(GameRules::recoveryAmount));
+        for (String item : items) {
+            Player.Stats stat = GameRules.recoveryStat(item);
+            int amount = GameRules.recoveryAmount(item);
+            if (stat == null || amount <= 0) continue;
+            double missing = limitOf(player, stat) - valueOf(player, stat);
+            if (missing > 0) GameRules.recover(player, item, (int) Math.ceil(missing / amount));
+        }
+    }
+
+    private static double valueOf(Player player, Player.Stats stat) {
+        if (stat == Player.Stats.FUEL) return player.getFuel();
+        if (stat == Player.Stats.OXYGEN) return player.getOxygen();
+        return player.getHealth();
+    }
+
+    private static double limitOf(Player player, Player.Stats stat) {
+        if (stat == Player.Stats.FUEL) return player.getFuelLim();
+        if (stat == Player.Stats.OXYGEN) return player.getOxygenLim();
+        return player.getHealthLim();
+    }
+
+    private static String resourceOf(Planet.Type type) {
+        switch (type) {
+            case Gas:
+                return "Fuel";
+            case Mineral:
+                return "Building Materials";
+            default:
+                return "Biomass";
+        }
+    }
+
+    // Packed state, hi: jumps 7 bits, landings 3, hull 9, fuel 9, oxygen 9, 3 per chain in CHAINS; lo: 5 bits per ResourceType
+
+    private static long packHi(int jumps, int landings, Player player, ShipUpgrades upgrades) {
+        long hi = jumps | (long) landings << 7
+                | (long) statSteps(player.getHealth()) << 10
+                | (long) statSteps(player.getFuel()) << 19
+                | (long) statSteps(player.getOxygen()) << 28;
+        for (int i = 0; i < CHAINS.length; i++) {
+            hi |= (long) upgrades.getBought(CHAINS[i]) << (37 + 3 * i);
+        }
+        return hi;
+    }
+
+    // Living ships keep at least one step of every stat, so rounding never kills anyone
+    private static int statSteps(double value) {
+        return (int) Math.min(511, Math.max(1, Math.round(value / STAT_STEP)));
+    }
+
+    private static long packLo(Inventory inventory) {
+        long lo = 0;
+        for (ResourceType type : ResourceType.values()) {
+            long steps = Math.min(31, Math.round(inventory.getQuantity(type) / (double) ITEM_STEP));
+            lo |= steps << (5 * type.ordinal());
+        }
+        return lo;
+    }
+
+    private static int jumpsOf(long hi) {
+        return (int) (hi & 0x7f);
+    }
+
+    private static int landingsOf(long hi) {
+        return (int) (hi >>> 7 & 0x7);
+    }
+
+    private static double fuelOf(long hi) {
+        return (hi >>> 19 & 0x1ff) * STAT_STEP;
+    }
+
+    private static ShipUpgrades upgradesOf(long hi) {
+        ShipUpgrades upgrades = new ShipUpgrades();
+        for (int i = 0; i < CHAINS.length; i++) {
+            upgrades.setBought(CHAINS[i], (int) (hi >>> (37 + 3 * i) & 0x7));
+        }
+        return upgrades;
+    }
+
+    // A fresh ship with the state's upgrades, stats and items
+    private static Player unpack(long hi, long lo, ShipUpgrades upgrades) {
+        Player player = new Player();
+        for (int i = 0; i < upgrades.getBought(UpgradeChain.FUEL); i++) player.upgradeFuel();
+        for (int i = 0; i < upgrades.getBought(UpgradeChain.HEALTH); i++) player.upgradeHealth();
+        for (int i = 0; i < upgrades.getBought(UpgradeChain.OXYGEN); i++) player.upgradeOxygen();
+        player.setResourcePermissionLevel(upgrades.getResourcesLevel());
+        player.setHealth((hi >>> 10 & 0x1ff) * STAT_STEP);
+        player.setFuel((hi >>> 19 & 0x1ff) * STAT_STEP);
+        player.setOxygen((hi >>> 28 & 0x1ff) * STAT_STEP);
+        ResourceType[] types = ResourceType.values();
+        for (int i = 0; i < types.length; i++) {
+            int steps = (int) (lo >>> (5 * i) & 0x1f);
+            if (steps > 0) player.getInventory().addItem(types[i].getDisplayName(), steps * ITEM_STEP);
+        }
+        return player;
+    }
+
+    private static int action(int kind, int event) {
+        return kind | event << 2;
+    }
+
+    // The state and how to get there from the start
+    private String describe(int id) {
+        long hi = table.hi(id);
+        long lo = table.lo(id);
+        Player player = unpack(hi, lo, upgradesOf(hi));
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("depth %d, %d landings, hull %.0f/%.0f, fuel %.0f/%.0f, oxygen %.0f/%.0f, items %s",
+                jumpsOf(hi), landingsOf(hi), player.getHealth(), player.getHealthLim(), player.getFuel(),
+                player.getFuelLim(), player.getOxygen(), player.getOxygenLim(), player.getInventory().getItems()));
+
+        List<String> path = new ArrayList<>();
+        for (int at = id; at >= 0; at = table.parent(at)) {
+            int parent = table.parent(at);
+            path.add(describeAction(table.action(at), parent < 0 ? -1 : jumpsOf(table.hi(parent))));
+        }
+        sb.append("\n    path:");
+        for (int i = path.size() - 1; i >= 0; i--) {
+            sb.append(' ').append(path.get(i)).append(i > 0 ? "," : "");
+        }
+        return sb.toString();
+    }
+
+    // Jumps is the count before the action, -1 for the opening event
+    private String describeAction(int action, int jumps) {
+        int kind = action & 0x3;
+        int event = action >>> 2 & 0x1f;
+        switch (kind) {
+            case TOP_UP:
+                return "use items";
+            case BUY:
+                return "buy " + UpgradeChain.values()[event];
+            case LAND: {
+                int type = action >>> 12 & 0x3;
+                int tier = action >>> 14 & 0x7;
+                String[] variants = {"harvest", "humanoid", "xenomorph"};
+                return "land on tier " + tier + " " + PLANET_TYPES[type] + " (" + variants[event] + ", "
+                        + choiceOf(action) + ")";
+            }
+            default:
+                if (event == NO_EVENT) return "jump";
+                if (jumps < 0) return "start (" + choiceOf(action) + ")";
+                Event shown = event == STORY ? GameRules.catalogueEvent(plan[jumps + 1], new ShipUpgrades())
+                        : GameRules.randomEvent(event, new ShipUpgrades());
+                return "jump (" + shown.getTitle() + ", " + choiceOf(action) + ")";
+        }
+    }
+
+    private static String choiceOf(int action) {
+        return "choice " + (action >>> 7 & 0xf) + ((action >>> 11 & 1) == 0 ? " succeeded" : " failed");
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("States: ").append(table.size()).append(" of ").append(table.capacity()).append(" that fit");
+        sb.append(", ").append(transitions).append(" transitions");
+        if (dropped > 0) sb.append(", ").append(dropped).append(" new states dropped, the budget is used up");
+        sb.append("\nDeepest state: depth ").append(deepest).append(", states at the jump limit: ").append(horizonStates);
+        sb.append("\nDeaths: ").append(deaths);
+
+        sb.append("\nDead ends (nothing left to do): ").append(deadEnds);
+        for (String example : deadEndExamples) sb.append("\n  ").append(example);
+
+        sb.append("\nEvents where every choice kills:").append(doomedEvents.isEmpty() ? " none" : "");
+        for (Map.Entry<String, Long> entry : doomedEvents.entrySet()) {
+            sb.append("\n  ").append(entry.getKey()).append(": ").append(entry.getValue()).append(" states");
+        }
+        for (String example : doomedExamples) sb.append("\n  e.g. ").append(example);
+
+        sb.append("\nHumanoid trades:");
+        for (int tier = 2; tier <= Galaxy.MAX_TIER; tier++) {
+            for (int type = 0; type < PLANET_TYPES.length; type++) {
+                if (tradesOffered[tier][type] == 0) {
+                    sb.append("\n  tier ").append(tier).append(' ').append(PLANET_TYPES[type]).append(": not reached");
+                    continue;
+                }
+                sb.append(String.format("\n  tier %d %s: offered in %d states, affordable in %d%s", tier,
+                        PLANET_TYPES[type], tradesOffered[tier][type], tradesAffordable[tier][type],
+                        tradesAffordable[tier][type] == 0 ? "  <- never affordable" : ""));
+            }
+        }
+        return sb.toString();
+    }
+
+    public static void main(String[] args) {
+        long budget = (args.length > 0 ? Long.parseLong(args[0]) : 512) << 20;
+        int maxJumps = args.length > 1 ? Integer.parseInt(args[1]) : Universe.DEFAULT_LENGTH;
+        int maxLandings = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+        int samples = args.length > 3 ? Integer.parseInt(args[3]) : 2;
+
+        StateExplorer explorer = new StateExplorer(budget, maxJumps, maxLandings, samples);
+        PrintStream console = System.out;
+        // The rules print as they go, millions of times here
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        long start = System.nanoTime();
+        try {
+            explorer.explore();
+        } finally {
+            System.setOut(console);
+        }
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.println(explorer);
+        System.out.println("Explored in " + millis + " ms");
+    }
+}
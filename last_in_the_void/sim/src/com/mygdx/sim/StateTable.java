@@ -0,0 +1,113 @@
+package com.mygdx.sim;
+
+import java.util.Arrays;
+
+import com.mygdx.helpers.SeedTree;
+
+/**
+ * Hash consing for StateExplorer: every distinct state, packed into two longs, is stored once and
+ * gets an int id. Ids count up in the order states were first seen, so walking the ids is a
+ * breadth first walk. Everything sits in flat arrays, about BYTES_PER_STATE bytes a state and no
+ * objects, and the table stops taking new states once the memory budget is used up.
+ */
+final class StateTable {
+
+    // Two longs, the parent id and the action taken from it, plus up to four hash slots right after a rehash
+    static final int BYTES_PER_STATE = 8 + 8 + 4 + 4 + 4 * 4;
+
+    // Returned by intern when the state is new but there is no room left for it
+    static final int FULL = -1;
+
+    private final int capacity;
+    private long[] his;
+    private long[] los;
+    private int[] parents;
+    private int[] actions;
+    private int size = 0;
+    // Open addressing, holds id + 1 so 0 means empty, never more than half full
+    private int[] slots;
+
+    StateTable(long memoryBudget) {
+        this.capacity = (int) Math.min(Integer.MAX_VALUE / 4, memoryBudget / BYTES_PER_STATE);
+        int initial = Math.min(capacity, 1 << 12);
+        his = new long[initial];
+        los = new long[initial];
+        parents = new int[initial];
+        actions = new int[initial];
+        slots = new int[Integer.highestOneBit(Math.max(2, initial)) * 2];
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    long hi(int id) {
+        return his[id];
+    }
+
+    long lo(int id) {
+        return los[id];
+    }
+
+    // Id the state was first reached from, -1 for the start
+    int parent(int id) {
+        return parents[id];
+    }
+
+    int action(int id) {
+        return actions[id];
+    }
+
+    // Id of the state, adding it with the given parent and action if it was not seen before
+    int intern(long hi, long lo, int parent, int action) {
+        int mask = slots.length - 1;
+        int slot = hash(hi, lo) & mask;
+        while (slots[slot] != 0) {
+            int id = slots[slot] - 1;
+            if (his[id] == hi && los[id] == lo) return id;
+            slot = (slot + 1) & mask;
+        }
+        if (size >= capacity) return FULL;
+
+        if (size == his.length) grow();
+        int id = size++;
+        his[id] = hi;
+        los[id] = lo;
+        parents[id] = parent;
+        actions[id] = action;
+        if (size * 2 > slots.length) {
+            rehash(slots.length * 2);
+        } else {
+            slots[slot] = id + 1;
+        }
+        return id;
+    }
+
+    private void grow() {
+        int length = (int) Math.min(capacity, his.length * 2L);
+        his = Arrays.copyOf(his, length);
+        los = Arrays.copyOf(los, length);
+        parents = Arrays.copyOf(parents, length);
+        actions = Arrays.copyOf(actions, length);
+    }
+
+    private void rehash(int length) {
+        slots = new int[length];
+        int mask = length - 1;
+        for (int id = 0; id < size; id++) {
+            int slot = hash(his[id], los[id]) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = id + 1;
+        }
+    }
+
+    private static int hash(long hi, long lo) {
+        return (int) SeedTree.mix(hi * 0x9e3779b97f4a7c15L + lo);
+    }
+}
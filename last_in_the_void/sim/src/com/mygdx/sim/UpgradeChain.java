@@ -0,0 +1,176 @@
+package com.mygdx.sim;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The upgrade chains the ship can buy, level by level. UpgradesUI draws its menu from these
+ * and headless runs buy from the same list, so a cost tuned here changes both.
+ * Costs are written the way the menu shows them, e.g. "10 Common Building Materials, 20 Common Fuel".
+ */
+public enum UpgradeChain {
+
+    FUEL(
+        new String[]{"Fuel Capacity I", "Fuel Capacity II", "Fuel Capacity III", "Fuel Capacity IV"},
+        new String[]{
+            "10 Common Building Materials, 20 Common Fuel",
+            "10 Uncommon Building Materials, 15 Uncommon Fuel",
+            "10 Rare Building Materials, 10 Rare Fuel",
+            "10 Legendary Building Materials, 10 Legendary Fuel"
+        },
+        new String[]{
+            "Double Fuel Capacity",
+            "Double Fuel Capacity",
+            "Double Fuel Capacity",
+            "Double Fuel Capacity"
+        }),
+
+    HEALTH(
+        new String[]{"Health I", "Health II", "Health III", "Health IV"},
+        new String[]{
+            "20 Common Building Materials, 20 Common Biomass",
+            "15 Uncommon Building Materials, 15 Uncommon Biomass",
+            "10 Rare Building Materials, 10 Rare Biomass",
+            "10 Legendary Building Materials, 10 Legendary Biomass"
+        },
+        new String[]{
+            "Double Health",
+            "Double Health",
+            "Double Health",
+            "Double Health"
+        }),
+
+    OXYGEN(
+        new String[]{"Oxygen I", "Oxygen II", "Oxygen III", "Oxygen IV"},
+        new String[]{
+            "10 Common Building Materials, 20 Common Biomass",
+            "10 Uncommon Building Materials, 15 Uncommon Biomass",
+            "10 Rare Building Materials, 10 Rare Biomass",
+            "10 Legendary Building Materials, 10 Legendary Biomass"
+        },
+        new String[]{
+            "Double Oxygen",
+            "Double Oxygen",
+            "Double Oxygen",
+            "Double Oxygen"
+        }),
+
+    DESTINATION(
+        new String[]{
+            "Destination Scanner I",
+            "Destination Scanner II",
+            "Advanced Navigation",
+            "Precision Landing System"
+        },
+        new String[]{
+            "20 Common Building Materials",
+            "15 Uncommon Building Materials",
+            "10 Rare Building Materials",
+            "10 Legendary Building Materials"
+        },
+        new String[]{
+            "Choose between 1 locations",
+            "Choose between 2 locations",
+            "Choose between 3 locations",
+            "Choose between 4 locations"
+        }),
+
+    INVENTORY(
+        new String[]{
+            "Inventory Capacity I",
+            "Inventory Capacity II",
+            "Inventory Capacity III",
+            "Inventory Capacity IV"
+        },
+        new String[]{
+            "60 Common Building Materials",
+            "50 Uncommon Building Materials",
+            "40 Rare Building Materials",
+            "30 Legendary Building Materials"
+        },
+        new String[]{
+            "More Inventory Space",
+            "More Inventory Space",
+            "More Inventory Space",
+            "More Inventory Space"
+        }),
+
+    RESOURCES(
+        new String[]{
+            "Resources Level I",
+            "Resources Level II",
+            "Resources Level III"
+        },
+        new String[]{
+            "50 Common Building Materials",
+            "40 Uncommon Building Materials",
+            "30 Rare Building Materials"
+        },
+        new String[]{
+            "+1 resource level",
+            "+1 resource level",
+            "+1 resource level"
+        });
+
+    private final String[] names;
+    private final String[] resources;
+    private final String[] effects;
+    // resources parsed once, one item -> amount map per level
+    private final List<Map<String, Integer>> costs;
+
+    UpgradeChain(String[] names, String[] resources, String[] effects) {
+        this.names = names;
+        this.resources = resources;
+        this.effects = effects;
+        List<Map<String, Integer>> parsed = new ArrayList<>(resources.length);
+        for (String resource : resources) {
+            parsed.add(Collections.unmodifiableMap(parseResourceString(resource)));
+        }
+        this.costs = Collections.unmodifiableList(parsed);
+    }
+
+    public int getLevels() {
+        return names.length;
+    }
+
+    public String[] getNames() {
+        return names.clone();
+    }
+
+    public String[] getResources() {
+        return resources.clone();
+    }
+
+    public String[] getEffects() {
+        return effects.clone();
+    }
+
+    // What the given step of the chain costs, step 0 is the first purchase
+    public Map<String, Integer> getCost(int step) {
+        return costs.get(step);
+    }
+
+    // Get the the amount and resources name from a cost string
+    public static Map<String, Integer> parseResourceString(String resourceString) {
+        Map<String, Integer> resources = new LinkedHashMap<>();
+        String[] parts = resourceString.split(", ");
+        for (String part : parts) {
+            String[] requirementFormat = part.split(" ", 2);
+            if (requirementFormat.length != 2) {
+                System.out.println("Invalid resource format: " + part);
+                continue;
+            }
+            try {
+                int quantity = Integer.parseInt(requirementFormat[0]);
+                String itemName = requirementFormat[1];
+                resources.put(itemName, quantity);
+            } catch (NumberFormatException e) {
+                System.out.println("Invalid quantity in resource: " + part);
+            }
+        }
+        return resources;
+    }
+}
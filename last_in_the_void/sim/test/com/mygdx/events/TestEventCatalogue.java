@@ -0,0 +1,255 @@
+package com.mygdx.events;
+
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.mygdx.objects.Event;
+import com.mygdx.objects.Player;
+import com.mygdx.objects.UpgradeLevels;
+
+/**
+ *  Tests that events made from the catalogue play out like the hand written event classes it replaced
+ */
+public class TestEventCatalogue {
+
+	// Title and choices of each event as the old classes had them, at the default upgrade levels
+	private static final String[] OLD_TEXTS = {
+		"aggressive-robots: Aggressive Robots | Fight the robots | 50 | Try to flee | 35 | Drop cargo as decoy | 85",
+		"meteor-storm: Meteor Storm | Brace for impact | 80 | Evade with thrusters | 60",
+		"cosmic-storm: Cosmic Storm | Reinforce shields | 60 | Divert power to engines and outrun it | 45 | Ride it out in safe mode | 85",
+		"derelict-ship: Derelict Ship | Board carefully | 70 | Scan from orbit | 90 | Ignore and move on | 100",
+		"engine-failure: Engine Failure | Attempt emergency restart | 50 | Just ignore | 30",
+		"friendly-traders: Friendly Traders | Accept spare fuel | Request medical supplies | Share trading tips",
+		"radiant-nebula: Radiant Nebula | Absorb nebula energy | 70 | Take readings for science | 80",
+		"space-parasites: Parasite Infestation | Seal affected compartments | 65 | Use bio-filter dispensers | 43 | Eject contaminated systems | 32",
+		"abandoned-station: Abandoned Station | Salvage supplies | 65 | Search for fuel | 43",
+		"solar-flare: Solar Flare | Redirect shields | 54 | Evade behind asteroid | 32",
+		"pirate-ambush: Robots Pirate Ambush | Fight back | 43 | Pay tribute | 32",
+		"space-garden: Space Garden | Harvest food | 64 | Collect seeds | 53",
+		"system-reboot: System Reboot | Begin exploration...",
+		"mysterious-ship: Mysterious Ship | Board the Ship | Leave",
+		"cosmic-energy: Cosmic Energy | Study the energy",
+		"abandoned-space-station: Abandoned Space Station | Board Space Station | Leave",
+		"earth: Earth | Land and investigate"
+	};
+
+	// What the old classes did to a player: "<id> <levels> <choice> <success>: <chance> <fuel> <health> <oxygen> <items>"
+	// Levels 0 is the default ship with a few building materials, 1 an upgraded one with an adding factor of 1
+	private static final String[] OLD_OUTCOMES = {
+		"aggressive-robots 0 0 true: 50 50.0 50.0 50.0 {Common Building Materials=17}",
+		"aggressive-robots 0 0 false: 50 50.0 25.0 50.0 {Common Building Materials=7}",
+		"aggressive-robots 0 1 true: 35 35.0 50.0 50.0 {Common Building Materials=7}",
+		"aggressive-robots 0 1 false: 35 30.0 35.0 50.0 {Common Building Materials=7}",
+		"aggressive-robots 0 2 true: 85 50.0 50.0 50.0 {Common Building Materials=2}",
+		"aggressive-robots 0 2 false: 85 50.0 40.0 50.0 {Common Building Materials=2}",
+		"aggressive-robots 1 0 true: 60 50.0 50.0 50.0 {Common Biomass=21, Common Building Materials=11, Common Fuel=21, Rare Fuel=21}",
+		"aggressive-robots 1 0 false: 60 50.0 25.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"aggressive-robots 1 1 true: 50 35.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"aggressive-robots 1 1 false: 50 30.0 35.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"aggressive-robots 1 2 true: 95 50.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"aggressive-robots 1 2 false: 95 50.0 40.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"meteor-storm 0 0 true: 80 50.0 45.0 50.0 {Common Building Materials=7}",
+		"meteor-storm 0 0 false: 80 50.0 30.0 50.0 {Common Building Materials=7}",
+		"meteor-storm 0 1 true: 60 40.0 50.0 50.0 {Common Building Materials=7}",
+		"meteor-storm 0 1 false: 60 30.0 40.0 50.0 {Common Building Materials=7}",
+		"meteor-storm 1 0 true: 80 50.0 45.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"meteor-storm 1 0 false: 80 50.0 30.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"meteor-storm 1 1 true: 60 42.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"meteor-storm 1 1 false: 60 35.0 40.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"cosmic-storm 0 0 true: 60 35.0 50.0 50.0 {Common Building Materials=7}",
+		"cosmic-storm 0 0 false: 60 50.0 50.0 35.0 {Common Building Materials=7}",
+		"cosmic-storm 0 1 true: 45 25.0 50.0 50.0 {Common Building Materials=7}",
+		"cosmic-storm 0 1 false: 45 40.0 40.0 50.0 {Common Building Materials=7}",
+		"cosmic-storm 0 2 true: 85 50.0 45.0 50.0 {Common Building Materials=7}",
+		"cosmic-storm 0 2 false: 85 50.0 30.0 50.0 {Common Building Materials=7}",
+		"cosmic-storm 1 0 true: 70 35.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"cosmic-storm 1 0 false: 70 50.0 50.0 35.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"cosmic-storm 1 1 true: 60 25.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"cosmic-storm 1 1 false: 60 40.0 40.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"cosmic-storm 1 2 true: 90 50.0 45.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"cosmic-storm 1 2 false: 90 50.0 30.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"derelict-ship 0 0 true: 70 50.0 40.0 50.0 {Common Building Materials=7}",
+		"derelict-ship 0 0 false: 70 50.0 30.0 50.0 {Common Building Materials=7}",
+		"derelict-ship 0 1 true: 90 45.0 50.0 50.0 {Common Building Materials=7}",
+		"derelict-ship 0 1 false: 90 50.0 50.0 50.0 {Common Building Materials=7}",
+		"derelict-ship 0 2 true: 100 50.0 50.0 50.0 {Common Building Materials=7}",
+		"derelict-ship 0 2 false: 100 50.0 50.0 50.0 {Common Building Materials=7}",
+		"derelict-ship 1 0 true: 70 50.0 60.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"derelict-ship 1 0 false: 70 50.0 30.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"derelict-ship 1 1 true: 90 45.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"derelict-ship 1 1 false: 90 50.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"derelict-ship 1 2 true: 100 50.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"derelict-ship 1 2 false: 100 50.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"engine-failure 0 0 true: 50 20.0 50.0 50.0 {Common Building Materials=7}",
+		"engine-failure 0 0 false: 50 20.0 50.0 50.0 {Common Building Materials=7}",
+		"engine-failure 0 1 true: 30 50.0 50.0 50.0 {Common Building Materials=7}",
+		"engine-failure 0 1 false: 30 50.0 40.0 50.0 {Common Building Materials=7}",
+		"engine-failure 1 0 true: 50 35.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"engine-failure 1 0 false: 50 35.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"engine-failure 1 1 true: 30 50.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"engine-failure 1 1 false: 30 50.0 40.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"friendly-traders 0 0 true: 90 88.0 50.0 50.0 {Common Building Materials=7}",
+		"friendly-traders 0 0 false: 90 50.0 50.0 50.0 {Common Building Materials=7}",
+		"friendly-traders 0 1 true: 75 50.0 67.0 50.0 {Common Building Materials=7}",
+		"friendly-traders 0 1 false: 75 50.0 50.0 50.0 {Common Building Materials=7}",
+		"friendly-traders 0 2 true: 80 50.0 50.0 50.0 {Common Building Materials=7}",
+		"friendly-traders 0 2 false: 80 50.0 50.0 50.0 {Common Building Materials=7}",
+		"friendly-traders 1 0 true: 90 88.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"friendly-traders 1 0 false: 90 50.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"friendly-traders 1 1 true: 75 50.0 69.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"friendly-traders 1 1 false: 75 50.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"friendly-traders 1 2 true: 80 50.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"friendly-traders 1 2 false: 80 50.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"radiant-nebula 0 0 true: 75 75.3 50.0 70.9 {Common Building Materials=7}",
+		"radiant-nebula 0 0 false: 75 50.0 50.0 50.0 {Common Building Materials=7}",
+		"radiant-nebula 0 1 true: 83 50.0 50.0 50.0 {Common Building Materials=7}",
+		"radiant-nebula 0 1 false: 83 50.0 50.0 50.0 {Common Building Materials=7}",
+		"radiant-nebula 1 0 true: 85 82.19999999999999 50.0 71.6 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"radiant-nebula 1 0 false: 85 50.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"radiant-nebula 1 1 true: 89 50.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"radiant-nebula 1 1 false: 89 50.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"space-parasites 0 0 true: 65 50.0 50.0 42.0 {Common Building Materials=7}",
+		"space-parasites 0 0 false: 65 50.0 50.0 32.0 {Common Building Materials=7}",
+		"space-parasites 0 1 true: 43 50.0 50.0 41.0 {Common Building Materials=7}",
+		"space-parasites 0 1 false: 43 50.0 38.0 50.0 {Common Building Materials=7}",
+		"space-parasites 0 2 true: 32 41.0 50.0 50.0 {Common Building Materials=7}",
+		"space-parasites 0 2 false: 32 50.0 50.0 50.0 {Common Building Materials=7}",
+		"space-parasites 1 0 true: 70 50.0 50.0 44.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"space-parasites 1 0 false: 70 50.0 50.0 34.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"space-parasites 1 1 true: 49 50.0 50.0 42.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"space-parasites 1 1 false: 49 50.0 41.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"space-parasites 1 2 true: 40 44.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"space-parasites 1 2 false: 40 50.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"abandoned-station 0 0 true: 65 50.0 50.0 67.0 {Common Building Materials=7}",
+		"abandoned-station 0 0 false: 65 50.0 41.0 50.0 {Common Building Materials=7}",
+		"abandoned-station 0 1 true: 43 70.0 50.0 50.0 {Common Building Materials=7}",
+		"abandoned-station 0 1 false: 43 50.0 50.0 50.0 {Common Building Materials=7}",
+		"abandoned-station 1 0 true: 75 50.0 50.0 69.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"abandoned-station 1 0 false: 75 50.0 42.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"abandoned-station 1 1 true: 52 70.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"abandoned-station 1 1 false: 52 50.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"solar-flare 0 0 true: 54 41.0 50.0 50.0 {Common Building Materials=7}",
+		"solar-flare 0 0 false: 54 50.0 50.0 32.0 {Common Building Materials=7}",
+		"solar-flare 0 1 true: 32 50.0 50.0 50.0 {Common Building Materials=7}",
+		"solar-flare 0 1 false: 32 50.0 35.0 50.0 {Common Building Materials=7}",
+		"solar-flare 1 0 true: 58 44.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"solar-flare 1 0 false: 58 50.0 50.0 34.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"solar-flare 1 1 true: 40 50.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"solar-flare 1 1 false: 40 50.0 35.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"pirate-ambush 0 0 true: 43 50.0 50.0 50.0 {Common Building Materials=19}",
+		"pirate-ambush 0 0 false: 43 50.0 32.0 50.0 {Common Building Materials=7}",
+		"pirate-ambush 0 1 true: 32 35.0 50.0 50.0 {Common Building Materials=7}",
+		"pirate-ambush 0 1 false: 32 50.0 50.0 50.0 {Common Building Materials=7}",
+		"pirate-ambush 1 0 true: 46 50.0 50.0 50.0 {Common Biomass=21, Common Building Materials=17, Common Fuel=21, Rare Fuel=21}",
+		"pirate-ambush 1 0 false: 46 50.0 34.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"pirate-ambush 1 1 true: 38 35.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"pirate-ambush 1 1 false: 38 50.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"space-garden 0 0 true: 64 50.0 50.0 50.0 {Common Biomass=22, Common Building Materials=7}",
+		"space-garden 0 0 false: 64 50.0 50.0 50.0 {Common Building Materials=7}",
+		"space-garden 0 1 true: 53 50.0 50.0 50.0 {Common Building Materials=7, Uncommon Biomass=10}",
+		"space-garden 0 1 false: 53 50.0 50.0 50.0 {Common Building Materials=7}",
+		"space-garden 1 0 true: 72 50.0 50.0 50.0 {Common Biomass=46, Common Fuel=21, Rare Fuel=21}",
+		"space-garden 1 0 false: 72 50.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"space-garden 1 1 true: 65 50.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21, Uncommon Biomass=11}",
+		"space-garden 1 1 false: 65 50.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"system-reboot 0 0 true: 100 50.0 50.0 50.0 {Common Building Materials=7}",
+		"system-reboot 0 0 false: 100 50.0 50.0 50.0 {Common Building Materials=7}",
+		"system-reboot 1 0 true: 100 50.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"system-reboot 1 0 false: 100 50.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"mysterious-ship 0 0 true: 100 50.0 50.0 50.0 {Common Building Materials=22}",
+		"mysterious-ship 0 0 false: 100 50.0 50.0 50.0 {Common Building Materials=7}",
+		"mysterious-ship 0 1 true: 100 50.0 50.0 50.0 {Common Building Materials=7}",
+		"mysterious-ship 0 1 false: 100 50.0 50.0 50.0 {Common Building Materials=7}",
+		"mysterious-ship 1 0 true: 100 50.0 50.0 50.0 {Common Biomass=21, Common Building Materials=16, Common Fuel=21, Rare Fuel=21}",
+		"mysterious-ship 1 0 false: 100 50.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"mysterious-ship 1 1 true: 100 50.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"mysterious-ship 1 1 false: 100 50.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"cosmic-energy 0 0 true: 100 50.0 50.0 50.0 {Common Building Materials=7}",
+		"cosmic-energy 0 0 false: 100 50.0 50.0 50.0 {Common Building Materials=7}",
+		"cosmic-energy 1 0 true: 100 50.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"cosmic-energy 1 0 false: 100 50.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"abandoned-space-station 0 0 true: 100 50.0 40.0 50.0 {Common Building Materials=7}",
+		"abandoned-space-station 0 0 false: 100 50.0 50.0 50.0 {Common Building Materials=7}",
+		"abandoned-space-station 0 1 true: 100 50.0 50.0 50.0 {Common Building Materials=7}",
+		"abandoned-space-station 0 1 false: 100 50.0 50.0 50.0 {Common Building Materials=7}",
+		"abandoned-space-station 1 0 true: 100 50.0 40.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"abandoned-space-station 1 0 false: 100 50.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"abandoned-space-station 1 1 true: 100 50.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"abandoned-space-station 1 1 false: 100 50.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"earth 0 0 true: 100 50.0 50.0 50.0 {Common Building Materials=7}",
+		"earth 0 0 false: 100 50.0 50.0 50.0 {Common Building Materials=7}",
+		"earth 1 0 true: 100 50.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}",
+		"earth 1 0 false: 100 50.0 50.0 50.0 {Common Biomass=21, Common Fuel=21, Rare Fuel=21}"
+	};
+
+	private static final int[][] LEVELS = {{2, 1, 1, 1, 1, 1}, {3, 4, 2, 5, 3, 2}};
+
+	private static UpgradeLevels levels(int[] l) {
+		return new UpgradeLevels() {
+			public int getDestinationLevel() { return l[0]; }
+			public int getFuelLevel() { return l[1]; }
+			public int getHealthLevel() { return l[2]; }
+			public int getInventoryLevel() { return l[3]; }
+			public int getResourcesLevel() { return l[4]; }
+			public int getOxygenLevel() { return l[5]; }
+		};
+	}
+
+	private static Event create(String id, int levels) {
+		return EventCatalogue.getInstance().require(id).create(levels(LEVELS[levels]));
+	}
+
+	@Test
+	public void testTexts() {
+		for (String expected : OLD_TEXTS) {
+			String id = expected.substring(0, expected.indexOf(':'));
+			Event event = create(id, 0);
+			StringBuilder actual = new StringBuilder(id + ": " + event.getTitle());
+			for (Event.Choice choice : event.getChoices()) {
+				actual.append(" | ").append(choice.getText());
+			}
+			Assertions.assertEquals(expected, actual.toString());
+		}
+	}
+
+	@Test
+	public void testOutcomes() {
+		for (String expected : OLD_OUTCOMES) {
+			String[] key = expected.substring(0, expected.indexOf(':')).split(" ");
+			int levels = Integer.parseInt(key[1]);
+			int choiceIndex = Integer.parseInt(key[2]);
+			boolean success = Boolean.parseBoolean(key[3]);
+
+			Player player = new Player();
+			player.setFuel(50);
+			player.setHealth(50);
+			player.setOxygen(50);
+			if (levels == 0) {
+				player.addItemToInventory("Common Building Materials", 7);
+			} else {
+				player.setAddingFactor(1);
+				for (String item : new String[] {"Common Fuel", "Rare Fuel", "Common Biomass"}) {
+					player.addItemToInventory(item, 20);
+				}
+			}
+
+			Event event = create(key[0], levels);
+			event.setRandom(new SplittableRandom(levels * 7 + choiceIndex));
+			Event.Choice choice = event.getChoices().get(choiceIndex);
+			String chance = String.valueOf(choice.getSuccessChance());
+			choice.apply(player, success);
+			String actual = String.join(" ", key[0], key[1], key[2], key[3]) + ": " + chance + " " + player.getFuel() + " "
+					+ player.getHealth() + " " + player.getOxygen() + " " + new TreeMap<>(player.getInventory().getItems());
+			Assertions.assertEquals(expected, actual);
+		}
+	}
+
+	@Test
+	public void testEveryOldEventIsCovered() {
+		Assertions.assertEquals(12, EventCatalogue.getInstance().getRandomEvents().size());
+		Assertions.assertEquals(EventCatalogue.getInstance().getRandomEvents().size() + 5, OLD_TEXTS.length);
+	}
+}
@@ -0,0 +1,95 @@
+package com.mygdx.events;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.mygdx.objects.Player;
+import com.mygdx.sim.EventScheduler;
+
+/**
+ *  Tests that story flags pick which way the storyline goes
+ */
+public class TestStoryGraph {
+
+	private static final String EVENT = "{\"id\": \"%s\", \"title\": \"t\", \"description\": \"d\", \"choices\": [{\"text\": \"x\", \"chance\": 100}]}";
+
+	// a goes to b with flag f and to c without it, b goes back to a only with flag g
+	private static final String BRANCHING = "{\"story\": [" + String.format(EVENT, "a") + ", " + String.format(EVENT, "b")
+			+ ", " + String.format(EVENT, "c") + "], \"storyline\": {\"start\": [{\"to\": \"A\"}], \"nodes\": ["
+			+ "{\"id\": \"A\", \"event\": \"a\", \"next\": [{\"to\": \"B\", \"flags\": [\"f\"]}, {\"to\": \"C\", \"unless\": [\"f\"]}]}, "
+			+ "{\"id\": \"B\", \"event\": \"b\", \"next\": [{\"to\": \"A\", \"flags\": [\"g\"]}]}, "
+			+ "{\"id\": \"C\", \"event\": \"c\"}]}}";
+
+	// Events the storyline shows from the start with these flags, until it ends or maxBeats
+	private static List<String> walk(StoryGraph graph, long flags, int maxBeats) {
+		List<String> events = new ArrayList<>();
+		int node = graph.next(StoryGraph.START, flags);
+		while (node != StoryGraph.END && events.size() < maxBeats) {
+			events.add(graph.getEventId(node));
+			node = graph.next(node, flags);
+		}
+		return events;
+	}
+
+	@Test
+	public void testGuardedEdges() {
+		EventCatalogue catalogue = new EventCatalogue(BRANCHING);
+		StoryGraph graph = catalogue.getStoryline();
+		long f = 1L << catalogue.flagId("f");
+		long g = 1L << catalogue.flagId("g");
+		Assertions.assertEquals(Arrays.asList("a", "c"), walk(graph, 0, 10));
+		Assertions.assertEquals(Arrays.asList("a", "b"), walk(graph, f, 10));
+		Assertions.assertEquals(Arrays.asList("a", "b", "a", "b"), walk(graph, f | g, 4));
+		// g alone opens nothing, the edge to b still needs f
+		Assertions.assertEquals(Arrays.asList("a", "c"), walk(graph, g, 10));
+	}
+
+	@Test
+	public void testUnknownNode() {
+		IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class,
+				() -> new EventCatalogue(BRANCHING.replace("\"to\": \"C\"", "\"to\": \"Z\"")));
+		Assertions.assertEquals("Storyline edge from A goes to unknown node Z", e.getMessage());
+	}
+
+	@Test
+	public void testBoardingTheDerelictLeadsToTheStation() {
+		EventCatalogue catalogue = EventCatalogue.getInstance();
+		StoryGraph graph = catalogue.getStoryline();
+		long boarded = 1L << catalogue.flagId("boarded-derelict");
+		Assertions.assertEquals(Arrays.asList("mysterious-ship", "cosmic-energy", "abandoned-space-station", "earth"),
+				walk(graph, 0, 10));
+		Assertions.assertEquals(Arrays.asList("mysterious-ship", "abandoned-space-station", "cosmic-energy", "earth"),
+				walk(graph, boarded, 10));
+	}
+
+	// Story events a run sees on its first jumps, answering the derelict with the given choice
+	private static List<String> storyOfRun(int derelictChoice) {
+		EventScheduler scheduler = new EventScheduler();
+		Player player = new Player();
+		SplittableRandom rand = new SplittableRandom(0);
+		List<String> story = new ArrayList<>();
+		for (int jump = 1; jump <= 120; jump++) {
+			ScheduledEvent entry = scheduler.poll(jump, 0, player, rand);
+			if (entry == null || !entry.isStoryPool()) continue;
+			String id = scheduler.eventIdOf(entry);
+			story.add(id);
+			if (id.equals("mysterious-ship")) {
+				EventCatalogue.getInstance().require(id).create(null).getChoices().get(derelictChoice).apply(player, true);
+			}
+		}
+		return story;
+	}
+
+	@Test
+	public void testDerelictChoicePicksTheRoute() {
+		Assertions.assertEquals(Arrays.asList("mysterious-ship", "abandoned-space-station", "cosmic-energy", "earth"),
+				storyOfRun(0));
+		Assertions.assertEquals(Arrays.asList("mysterious-ship", "cosmic-energy", "abandoned-space-station", "earth"),
+				storyOfRun(1));
+	}
+}
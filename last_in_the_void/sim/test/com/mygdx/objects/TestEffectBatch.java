@@ -0,0 +1,161 @@
+package com.mygdx.objects;
+
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mygdx.helpers.ResourceType;
+
+/**
+ *  Tests that an effect batch changes the ship like the single Player calls it stands for, and that revert undoes it
+ */
+public class TestEffectBatch {
+
+	private Player player;
+
+	@BeforeEach
+	public void initPlayer() {
+		player = new Player();
+		player.setFuel(40);
+		player.setHealth(70);
+		player.setOxygen(55);
+		player.setAddingFactor(2);
+		player.getInventory().set(ResourceType.COMMON_FUEL, 12);
+		player.getInventory().set(ResourceType.RARE_BIOMASS, 3);
+		player.setFlag(5);
+	}
+
+	// Everything revert has to put back
+	private static String state(Player player) {
+		TreeMap<ResourceType, Integer> items = new TreeMap<>();
+		for (ResourceType type : ResourceType.values()) {
+			if (player.getInventory().getQuantity(type) > 0) items.put(type, player.getInventory().getQuantity(type));
+		}
+		return player.getFuel() + " " + player.getHealth() + " " + player.getOxygen() + " " + items
+				+ " distinct " + player.getInventory().getDistinct() + " flags " + player.getFlags();
+	}
+
+	@Test
+	public void testAddingFactorPerChange() {
+		Player single = new Player();
+		single.setAddingFactor(2);
+		single.addItemToInventory("Common Fuel", 12 - 2);
+		single.addItemToInventory("Rare Biomass", 1);
+		single.addItemToInventory("Common Fuel", 4);
+		single.addItemToInventory("Common Fuel", 1);
+		single.addItemToInventory("Uncommon Fuel", 6);
+
+		Player batched = new Player();
+		batched.setAddingFactor(2);
+		new EffectBatch()
+				.changeItem(ResourceType.COMMON_FUEL, 12 - 2)
+				.changeItem(ResourceType.RARE_BIOMASS, 1)
+				.changeItem(ResourceType.COMMON_FUEL, 4)
+				.changeItem(ResourceType.COMMON_FUEL, 1)
+				.changeItem(ResourceType.UNCOMMON_FUEL, 6)
+				.applyTo(batched);
+
+		Assertions.assertEquals(state(single), state(batched));
+		Assertions.assertEquals((12 - 2) + 4 + 1 + 3 * 2, batched.getInventory().getQuantity(ResourceType.COMMON_FUEL));
+	}
+
+	@Test
+	public void testRemovalsGetNoBonus() {
+		new EffectBatch().changeItem(ResourceType.COMMON_FUEL, -5).applyTo(player);
+		Assertions.assertEquals(7, player.getInventory().getQuantity(ResourceType.COMMON_FUEL));
+		new EffectBatch().changeItem(ResourceType.COMMON_FUEL, -50).changeItem(ResourceType.RARE_FUEL, -1).applyTo(player);
+		Assertions.assertEquals(0, player.getInventory().getQuantity(ResourceType.COMMON_FUEL));
+		Assertions.assertEquals(0, player.getInventory().getQuantity(ResourceType.RARE_FUEL));
+	}
+
+	@Test
+	public void testStatsStayWithinLimits() {
+		new EffectBatch()
+				.changeStat(Player.Stats.FUEL, 500)
+				.changeStat(Player.Stats.HEALTH, -30)
+				.changeStat(Player.Stats.HEALTH, -20)
+				.applyTo(player);
+		Assertions.assertEquals(player.getFuelLim(), player.getFuel(), 0);
+		Assertions.assertEquals(20, player.getHealth(), 0);
+		Assertions.assertEquals(55, player.getOxygen(), 0);
+	}
+
+	@Test
+	public void testNewTypesNeedAFreeSlot() {
+		ResourceType[] types = ResourceType.values();
+		for (int i = 0; player.getInventory().getDistinct() < player.getInventory().getMaxSize(); i++) {
+			if (player.getInventory().getQuantity(types[i]) == 0) player.getInventory().set(types[i], 1);
+		}
+		new EffectBatch()
+				.changeItem(ResourceType.LEGENDARY_FUEL, 3)
+				.changeItem(ResourceType.COMMON_FUEL, 3)
+				.applyTo(player);
+		Assertions.assertEquals(0, player.getInventory().getQuantity(ResourceType.LEGENDARY_FUEL));
+		Assertions.assertEquals(12 + 3 + 2, player.getInventory().getQuantity(ResourceType.COMMON_FUEL));
+	}
+
+	@Test
+	public void testTradeIntoFullInventory() {
+		// Fills every slot but leaves Common Biomass, the first type, out
+		ResourceType[] types = ResourceType.values();
+		for (int i = 1; player.getInventory().getDistinct() < player.getInventory().getMaxSize(); i++) {
+			if (player.getInventory().getQuantity(types[i]) == 0) player.getInventory().set(types[i], 1);
+		}
+		// The fuel given away comes after the biomass taken in
+		new EffectBatch()
+				.changeItem(ResourceType.COMMON_FUEL, -12)
+				.changeItem(ResourceType.COMMON_BIOMASS, 1)
+				.applyTo(player);
+		Assertions.assertEquals(0, player.getInventory().getQuantity(ResourceType.COMMON_FUEL));
+		Assertions.assertEquals(1 + 2, player.getInventory().getQuantity(ResourceType.COMMON_BIOMASS));
+	}
+
+	@Test
+	public void testApplyThenRevert() {
+		String before = state(player);
+		EffectBatch batch = new EffectBatch()
+				.changeStat(Player.Stats.FUEL, 500)
+				.changeStat(Player.Stats.OXYGEN, -80)
+				.changeItem(ResourceType.COMMON_FUEL, -50)
+				.changeItem(ResourceType.RARE_BIOMASS, 400)
+				.changeItem(ResourceType.UNCOMMON_BUILDING_MATERIALS, 4)
+				.setFlag(9);
+		batch.applyTo(player);
+		Assertions.assertNotEquals(before, state(player));
+		Assertions.assertTrue(player.hasFlag(9));
+		Assertions.assertTrue(player.hasFlag(5));
+
+		batch.revert(player);
+		Assertions.assertEquals(before, state(player));
+
+		// A batch can be applied again after a revert, and gives the same result
+		batch.applyTo(player);
+		String applied = state(player);
+		batch.revert(player);
+		batch.applyTo(player);
+		Assertions.assertEquals(applied, state(player));
+	}
+
+	@Test
+	public void testRevertOnlyOnTheSamePlayer() {
+		EffectBatch batch = new EffectBatch().changeStat(Player.Stats.FUEL, -5);
+		Assertions.assertThrows(IllegalStateException.class, () -> batch.revert(player));
+		batch.applyTo(player);
+		Assertions.assertThrows(IllegalStateException.class, () -> batch.revert(new Player()));
+		batch.revert(player);
+		Assertions.assertThrows(IllegalStateException.class, () -> batch.revert(player));
+	}
+
+	@Test
+	public void testClear() {
+		EffectBatch batch = new EffectBatch().changeItem(ResourceType.COMMON_FUEL, 1).setFlag(3);
+		Assertions.assertFalse(batch.isEmpty());
+		batch.clear();
+		Assertions.assertTrue(batch.isEmpty());
+		String before = state(player);
+		batch.applyTo(player);
+		Assertions.assertEquals(before, state(player));
+	}
+}
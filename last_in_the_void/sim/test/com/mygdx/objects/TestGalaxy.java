@@ -0,0 +1,145 @@
+package com.mygdx.objects;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mygdx.helpers.SeedTree;
+
+/**
+ *  Tests that sectors dropped by the galaxy come back the same, harvested planets included
+ */
+public class TestGalaxy {
+
+	private static final int DEPTH = (Galaxy.MAX_LOADED_SECTORS + 2) * Galaxy.SECTOR_DEPTH;
+
+	private Galaxy galaxy;
+
+	@BeforeEach
+	public void initGalaxy() {
+		galaxy = new Galaxy(new SeedTree(7), 100);
+		galaxy.ensureDepth(DEPTH);
+	}
+
+	// Touches every sector past the first, so the first one is the least recently used and gets dropped
+	private void evictFirstSector() {
+		int built = galaxy.getSectorsBuilt();
+		for (int s = 1; s <= Galaxy.MAX_LOADED_SECTORS; s++) {
+			galaxy.getTier(Galaxy.idOf(s * Galaxy.SECTOR_DEPTH, 0));
+		}
+		Assertions.assertEquals(Galaxy.MAX_LOADED_SECTORS, galaxy.getLoadedSectors());
+		Assertions.assertTrue(galaxy.getSectorsBuilt() >= built + Galaxy.MAX_LOADED_SECTORS);
+	}
+
+	@Test
+	public void testEvictedSectorIsRebuiltTheSame() {
+		int id = Galaxy.idOf(5, 2);
+		float x = galaxy.getX(id);
+		int links = galaxy.getLinks(id);
+		String name = galaxy.getName(id);
+		int planets = galaxy.getSystem(id).getPlanets().length;
+
+		evictFirstSector();
+		int built = galaxy.getSectorsBuilt();
+		Assertions.assertEquals(x, galaxy.getX(id));
+		Assertions.assertEquals(built + 1, galaxy.getSectorsBuilt(), "Coming back rebuilds the sector");
+		Assertions.assertEquals(links, galaxy.getLinks(id));
+		Assertions.assertEquals(name, galaxy.getName(id));
+		Assertions.assertEquals(planets, galaxy.getSystem(id).getPlanets().length);
+	}
+
+	@Test
+	public void testHarvestsSurviveEviction() {
+		int id = Galaxy.idOf(5, 2);
+		StarSystem system = galaxy.getSystem(id);
+		system.genrateStarPlanets();
+		galaxy.markVisited(id, system);
+		// Harvested after the visit, only the loaded system knows about it until the sector is dropped
+		system.getPlanets()[1].setHarvested(true);
+
+		evictFirstSector();
+		StarSystem revisited = galaxy.getSystem(id);
+		Assertions.assertNotSame(system, revisited);
+		Assertions.assertTrue(revisited.getPlanets()[1].getHarvest());
+		for (int i = 2; i < revisited.getPlanets().length; i++) {
+			Assertions.assertFalse(revisited.getPlanets()[i].getHarvest());
+		}
+
+		// The restored system is kept while the sector is loaded, and saved again if it is dropped again
+		revisited.getPlanets()[2].setHarvested(true);
+		Assertions.assertSame(revisited, galaxy.getSystem(id));
+		evictFirstSector();
+		Assertions.assertTrue(galaxy.getSystem(id).getPlanets()[1].getHarvest());
+		Assertions.assertTrue(galaxy.getSystem(id).getPlanets()[2].getHarvest());
+	}
+
+	@Test
+	public void testSystemsNotVisitedStartFresh() {
+		int id = Galaxy.idOf(6, 1);
+		galaxy.getSystem(id).getPlanets()[1].setHarvested(true);
+
+		evictFirstSector();
+		Assertions.assertFalse(galaxy.getSystem(id).getPlanets()[1].getHarvest());
+	}
+
+	@Test
+	public void testPregenerateSkipsLoadedSectors() {
+		int lastSector = 5;
+		for (int s = 0; s < 3; s++) {
+			galaxy.getTier(Galaxy.idOf(s * Galaxy.SECTOR_DEPTH, 0));
+		}
+		ForkJoinPool pool = new ForkJoinPool(2);
+		galaxy.pregenerate(pool, lastSector * Galaxy.SECTOR_DEPTH).join();
+		pool.shutdown();
+		Assertions.assertEquals(lastSector + 1 - 3, galaxy.getReadySectors());
+
+		int built = galaxy.getSectorsBuilt();
+		for (int s = 3; s <= lastSector; s++) {
+			galaxy.getTier(Galaxy.idOf(s * Galaxy.SECTOR_DEPTH, 0));
+		}
+		Assertions.assertEquals(built, galaxy.getSectorsBuilt(), "Background sectors are picked up, not built again");
+		Assertions.assertEquals(0, galaxy.getReadySectors());
+	}
+
+	@Test
+	public void testNoBackgroundCopyOutlivesMainThreadBuild() {
+		int lastSector = 7;
+		ForkJoinPool pool = new ForkJoinPool(2);
+		ForkJoinTask<Void> task = galaxy.pregenerate(pool, lastSector * Galaxy.SECTOR_DEPTH);
+		// Races the pool for every sector, whoever gets there first, no copy may be left behind
+		for (int s = lastSector; s >= 0; s--) {
+			galaxy.getTier(Galaxy.idOf(s * Galaxy.SECTOR_DEPTH, 0));
+		}
+		task.join();
+		pool.shutdown();
+		Assertions.assertEquals(0, galaxy.getReadySectors());
+	}
+
+	@Test
+	public void testJumpRangeCutsEdges() {
+		int linked = 0;
+		int cut = 0;
+		for (int depth = 1; depth < 200; depth++) {
+			for (int i = 0; i < Galaxy.LAYER_SIZE; i++) {
+				int id = Galaxy.idOf(depth, i);
+				int links = galaxy.getLinks(id);
+				Assertions.assertTrue((links & 1 << i) != 0, "System " + id + " links to its own row");
+				for (int j = 0; j < Galaxy.LAYER_SIZE; j++) {
+					int next = Galaxy.idOf(depth + 1, j);
+					float dx = galaxy.getX(next) - galaxy.getX(id);
+					float dy = galaxy.getY(next) - galaxy.getY(id);
+					boolean inRange = dx * dx + dy * dy <= Galaxy.JUMP_RANGE * Galaxy.JUMP_RANGE;
+					Assertions.assertEquals(inRange, (links & 1 << j) != 0, "link " + id + " to " + next);
+					if (inRange) linked++;
+					else cut++;
+				}
+			}
+		}
+		// Range has to matter, or every system would link to the whole next layer
+		Assertions.assertTrue(cut > 0, "no next layer pair is out of range");
+		Assertions.assertTrue(linked > cut);
+	}
+}
@@ -0,0 +1,95 @@
+package com.mygdx.objects;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mygdx.helpers.SeedTree;
+
+/**
+ *  Tests the route planner's fuel rules and when its cached search trees are rebuilt
+ */
+public class TestRoutePlanner {
+
+	private Galaxy galaxy;
+	private RoutePlanner planner;
+
+	@BeforeEach
+	public void initGalaxy() {
+		galaxy = new Galaxy(new SeedTree(42), 100);
+		galaxy.ensureDepth(10);
+		planner = new RoutePlanner(galaxy);
+	}
+
+	// First system of the next layer linked to the given one
+	private int forwardNeighbour(int id) {
+		int links = galaxy.getLinks(id);
+		Assertions.assertNotEquals(0, links, "Every system links forward");
+		return Galaxy.idOf(Galaxy.depthOf(id) + 1, Integer.numberOfTrailingZeros(links));
+	}
+
+	@Test
+	public void testLandingsCostFuel() {
+		Assertions.assertEquals(2 * Universe.JUMP_FUEL_COST + 3 * Planet.LANDING_FUEL_COST, RoutePlanner.fuelCost(2, 3));
+		Assertions.assertEquals(4, RoutePlanner.maxJumps(101));
+		Assertions.assertEquals(3, RoutePlanner.maxJumps(100, 1));
+		Assertions.assertEquals(RoutePlanner.UNREACHABLE, RoutePlanner.maxJumps(5, 1));
+	}
+
+	@Test
+	public void testEmptyTankIsOutOfRange() {
+		// Arriving with exactly 0 fuel is death, so a trip needs fuel left over
+		Assertions.assertEquals(3, RoutePlanner.maxJumps(100));
+		Assertions.assertEquals(0, RoutePlanner.maxJumps(Universe.JUMP_FUEL_COST));
+		Assertions.assertEquals(RoutePlanner.UNREACHABLE, RoutePlanner.maxJumps(Planet.LANDING_FUEL_COST, 1));
+
+		int next = forwardNeighbour(0);
+		Assertions.assertFalse(planner.canReach(0, next, Universe.JUMP_FUEL_COST, 100, 0));
+		Assertions.assertFalse(planner.canReach(0, next, RoutePlanner.fuelCost(1, 1), 100, 1));
+		Assertions.assertTrue(planner.canReach(0, next, RoutePlanner.fuelCost(1, 1) + 1, 100, 1));
+		Assertions.assertEquals(0, planner.countReachable(0, Universe.JUMP_FUEL_COST, 100, 0));
+		Assertions.assertEquals(0, planner.countReachable(0, RoutePlanner.fuelCost(1, 1), 100, 1));
+	}
+
+	@Test
+	public void testReachabilityKeepsFuelForLandings() {
+		int next = forwardNeighbour(0);
+		Assertions.assertEquals(1, planner.jumpsTo(0, next, 100));
+
+		// 30 fuel pays for the jump but not for landing once there
+		Assertions.assertTrue(planner.canReach(0, next, 30, 100, 0));
+		Assertions.assertFalse(planner.canReach(0, next, 30, 100, 1));
+		Assertions.assertTrue(planner.canReach(0, next, 36, 100, 1));
+
+		Assertions.assertTrue(planner.countReachable(0, 30, 100, 0) > 0);
+		Assertions.assertEquals(0, planner.countReachable(0, 30, 100, 1));
+	}
+
+	@Test
+	public void testForwardJumpsKeepTreesBehind() {
+		int behind = forwardNeighbour(0);
+		int edge = Galaxy.idOf(9, 0);
+		planner.jumpsTo(behind, edge, 100);
+		planner.jumpsTo(edge, behind, 100);
+		Assertions.assertEquals(2, planner.getTreesBuilt());
+
+		// Revealing a layer leaves the tree from depth 1 alone, it never reached the last layers
+		galaxy.ensureDepth(11);
+		planner.jumpsTo(behind, edge, 100);
+		Assertions.assertEquals(2, planner.getTreesBuilt());
+
+		// The tree from depth 9 was cut off at depth 10 and has to see the new layer
+		int deeper = forwardNeighbour(forwardNeighbour(edge));
+		Assertions.assertEquals(2, planner.jumpsTo(edge, deeper, 100));
+		Assertions.assertEquals(3, planner.getTreesBuilt());
+	}
+
+	@Test
+	public void testFuelUpgradeRebuildsTrees() {
+		planner.jumpsTo(0, forwardNeighbour(0), 100);
+		planner.jumpsTo(0, forwardNeighbour(0), 100);
+		Assertions.assertEquals(1, planner.getTreesBuilt());
+		planner.jumpsTo(0, forwardNeighbour(0), 150);
+		Assertions.assertEquals(2, planner.getTreesBuilt());
+	}
+}
@@ -0,0 +1,168 @@
+package com.mygdx.objects;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mygdx.helpers.SeedTree;
+
+/**
+ *  Tests that a universe file reads back what was generated, and that broken files are turned away
+ */
+public class TestUniverseFile {
+
+	private static final long SEED = 1234;
+	private static final int LAYERS = 40;
+	private static final int LENGTH = 100;
+
+	private Path path;
+	private Path broken;
+
+	@BeforeEach
+	public void writeFile() throws IOException {
+		path = Files.createTempFile("universe", ".litv");
+		broken = Files.createTempFile("broken", ".litv");
+		UniverseFile.write(SEED, LAYERS, LENGTH, path);
+	}
+
+	@AfterEach
+	public void deleteFiles() throws IOException {
+		Files.deleteIfExists(path);
+		Files.deleteIfExists(broken);
+	}
+
+	@Test
+	public void testHeaderRoundTrip() throws IOException {
+		UniverseFile file = UniverseFile.open(path);
+		Assertions.assertEquals(SEED, file.getSeed());
+		Assertions.assertEquals(LAYERS, file.getLayers());
+		Assertions.assertEquals(LENGTH, file.getUniverseLength());
+		Assertions.assertTrue(file.covers(Galaxy.idOf(LAYERS - 1, Galaxy.LAYER_SIZE - 1)));
+		Assertions.assertFalse(file.covers(Galaxy.idOf(LAYERS, 0)));
+	}
+
+	@Test
+	public void testSystemsRoundTrip() throws IOException {
+		UniverseFile file = UniverseFile.open(path);
+		Galaxy generated = new Galaxy(new SeedTree(SEED), LENGTH);
+		generated.ensureDepth(LAYERS - 1);
+		for (int id = Galaxy.LAYER_SIZE; id < LAYERS * Galaxy.LAYER_SIZE; id++) {
+			Assertions.assertEquals(generated.getX(id), file.getX(id));
+			Assertions.assertEquals(generated.getY(id), file.getY(id));
+			Assertions.assertEquals(generated.getStarSize(id), file.getStarSize(id));
+			Assertions.assertEquals(generated.getTier(id), file.getTier(id));
+			Assertions.assertEquals(generated.getPlanetCount(id), file.getPlanetCount(id));
+			Assertions.assertEquals(generated.getLinks(id), file.getLinks(id));
+
+			Planet[] expected = generated.getSystem(id).getPlanets();
+			Planet[] read = file.readSystem(id, generated.getKey(id)).getPlanets();
+			Assertions.assertEquals(expected.length, read.length);
+			for (int p = 0; p < expected.length; p++) {
+				Assertions.assertEquals(expected[p].getType(), read[p].getType());
+				Assertions.assertEquals(expected[p].getTier(), read[p].getTier());
+				Assertions.assertEquals(expected[p].getSize(), read[p].getSize());
+				Assertions.assertEquals(expected[p].getHasAlien(), read[p].getHasAlien());
+			}
+		}
+	}
+
+	@Test
+	public void testUniverseFromFilePlaysTheSame() throws IOException {
+		Universe fromSeed = new Universe(SEED);
+		Universe fromFile = new Universe(UniverseFile.open(path));
+		for (int jump = 0; jump < LAYERS + 5; jump++) {
+			Assertions.assertArrayEquals(fromSeed.getDestinationIds(), fromFile.getDestinationIds());
+			Assertions.assertEquals(fromSeed.getCurrentPosition().getName(), fromFile.getCurrentPosition().getName());
+			Assertions.assertEquals(fromSeed.getCurrentPosition().getPlanets().length, fromFile.getCurrentPosition().getPlanets().length);
+			Assertions.assertTrue(fromSeed.chooseDestination(0));
+			Assertions.assertTrue(fromFile.chooseDestination(0));
+		}
+	}
+
+	@Test
+	public void testRejectsBadMagic() throws IOException {
+		byte[] bytes = Files.readAllBytes(path);
+		bytes[0] ^= 0x20;
+		Files.write(broken, bytes);
+		IOException e = Assertions.assertThrows(IOException.class, () -> UniverseFile.open(broken));
+		Assertions.assertEquals("Not a universe file", e.getMessage());
+	}
+
+	@Test
+	public void testRejectsOtherVersion() throws IOException {
+		byte[] bytes = Files.readAllBytes(path);
+		// Little endian, the low byte of the version comes first
+		bytes[4] = 99;
+		Files.write(broken, bytes);
+		IOException e = Assertions.assertThrows(IOException.class, () -> UniverseFile.open(broken));
+		Assertions.assertEquals("Unsupported universe file version 99", e.getMessage());
+	}
+
+	@Test
+	public void testRejectsTruncatedFile() throws IOException {
+		byte[] bytes = Files.readAllBytes(path);
+		Files.write(broken, Arrays.copyOf(bytes, bytes.length - 1));
+		IOException e = Assertions.assertThrows(IOException.class, () -> UniverseFile.open(broken));
+		Assertions.assertEquals("Universe file is truncated", e.getMessage());
+
+		// Too short to even hold a header
+		Files.write(broken, Arrays.copyOf(bytes, 10));
+		Assertions.assertThrows(IOException.class, () -> UniverseFile.open(broken));
+	}
+
+	@Test
+	public void testRejectsNegativeCounts() throws IOException {
+		byte[] bytes = Files.readAllBytes(path);
+		ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt(16, -1);
+		Files.write(broken, bytes);
+		IOException e = Assertions.assertThrows(IOException.class, () -> UniverseFile.open(broken));
+		Assertions.assertEquals("Universe file header is corrupt", e.getMessage());
+
+		bytes = Files.readAllBytes(path);
+		ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt(24, -1);
+		Files.write(broken, bytes);
+		e = Assertions.assertThrows(IOException.class, () -> UniverseFile.open(broken));
+		Assertions.assertEquals("Universe file header is corrupt", e.getMessage());
+	}
+
+	@Test
+	public void testRejectsLayersPastIntRange() throws IOException {
+		byte[] bytes = Files.readAllBytes(path);
+		// layers * LAYER_SIZE * SYSTEM_BYTES wraps around as an int
+		ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt(16, Integer.MAX_VALUE / 4);
+		Files.write(broken, bytes);
+		IOException e = Assertions.assertThrows(IOException.class, () -> UniverseFile.open(broken));
+		Assertions.assertEquals("Universe file is truncated", e.getMessage());
+	}
+
+	@Test
+	public void testRejectsSystemOutsidePlanets() throws IOException {
+		byte[] bytes = Files.readAllBytes(path);
+		ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+		int id = Galaxy.idOf(LAYERS - 1, 0);
+		// The first planet of the system sits 8 bytes into its 20 byte record
+		buffer.putInt(32 + id * 20 + 8, buffer.getInt(24));
+		Files.write(broken, bytes);
+		IOException e = Assertions.assertThrows(IOException.class, () -> UniverseFile.open(broken));
+		Assertions.assertEquals("System " + id + " points outside the planet table", e.getMessage());
+	}
+
+	@Test
+	public void testGalaxyReadsLinksFromFile() throws IOException {
+		byte[] bytes = Files.readAllBytes(path);
+		int id = Galaxy.idOf(3, 0);
+		// Links byte of the system, only the first system of the next layer left
+		bytes[32 + id * 20 + 16] = 1;
+		Files.write(broken, bytes);
+		Galaxy galaxy = new Galaxy(new SeedTree(SEED), LENGTH, UniverseFile.open(broken));
+		Assertions.assertEquals(1, galaxy.getLinks(id));
+	}
+}
@@ -0,0 +1,64 @@
+package com.mygdx.sim;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.mygdx.objects.Event;
+
+/**
+ *  Tests how a bot's run is reported when its fuel runs out
+ */
+public class TestBotSession {
+
+	// Never lands, always takes the first destination and sets the tank to a fixed level before its first move
+	private static class FixedFuelPolicy implements Policy {
+		private final float fuel;
+		private boolean filled = false;
+
+		FixedFuelPolicy(float fuel) {
+			this.fuel = fuel;
+		}
+
+		@Override
+		public String getName() {
+			return "fixed-fuel";
+		}
+
+		@Override
+		public int chooseEventChoice(Simulation sim, Event event) {
+			return 0;
+		}
+
+		@Override
+		public void manageInventory(Simulation sim) {
+			if (!filled) {
+				sim.getPlayer().setFuel(fuel);
+				filled = true;
+			}
+		}
+
+		@Override
+		public int chooseLanding(Simulation sim) {
+			return -1;
+		}
+
+		@Override
+		public int chooseDestination(Simulation sim) {
+			return 0;
+		}
+	}
+
+	@Test
+	public void testLastJumpIsDeath() {
+		BotSession session = new BotSession(42, new FixedFuelPolicy(BalanceParams.DEFAULT.getJumpFuelCost())).play();
+		Assertions.assertEquals(BotSession.End.DIED, session.getEnd());
+		Assertions.assertEquals(DeathCause.OUT_OF_FUEL.name(), session.getDetail());
+	}
+
+	@Test
+	public void testJumpWithoutFuelIsStranded() {
+		BotSession session = new BotSession(42, new FixedFuelPolicy(BalanceParams.DEFAULT.getJumpFuelCost() - 1)).play();
+		Assertions.assertEquals(BotSession.End.STRANDED, session.getEnd());
+		Assertions.assertFalse(session.getSimulation().isOver());
+	}
+}
@@ -0,0 +1,54 @@
+package com.mygdx.sim;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.mygdx.events.EventCatalogue;
+import com.mygdx.events.EventTemplate;
+import com.mygdx.objects.Event;
+import com.mygdx.objects.Player;
+import com.mygdx.objects.UpgradeLevels;
+
+/**
+ *  Tests that previews run beside the event window without touching the event it shows
+ */
+public class TestChoicePreview {
+
+	@Test
+	public void testPreviewLeavesChoicesToTheCaller() throws Exception {
+		ChoicePreview preview = new ChoicePreview();
+		try {
+			List<EventTemplate> templates = EventCatalogue.getInstance().getRandomEvents();
+			for (int n = 0; n < 200; n++) {
+				int index = n % templates.size();
+				Event event = GameRules.randomEvent(index, UpgradeLevels.NONE);
+				Player player = new Player();
+				player.setFuel(n % 100 + 1);
+				List<ChoicePreview.Outcome> outcomes = preview.preview(event, player).get();
+				// Like EventUI, which builds its buttons while the preview runs
+				Assertions.assertEquals(templates.get(index).getChoiceCount(), event.getChoices().size());
+				Assertions.assertEquals(event.getChoices().size(), outcomes.size());
+			}
+		} finally {
+			preview.dispose();
+		}
+	}
+
+	@Test
+	public void testPreviewMatchesEvaluate() throws Exception {
+		ChoicePreview preview = new ChoicePreview();
+		try {
+			Event event = GameRules.randomEvent(0, UpgradeLevels.NONE);
+			Player player = new Player();
+			List<ChoicePreview.Outcome> background = preview.preview(event, player).get();
+			List<ChoicePreview.Outcome> direct = ChoicePreview.evaluate(event, player);
+			for (int c = 0; c < direct.size(); c++) {
+				Assertions.assertEquals(direct.get(c).toString(), background.get(c).toString());
+			}
+		} finally {
+			preview.dispose();
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package com.mygdx.sim;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.mygdx.events.ScheduledEvent;
+
+/**
+ *  Tests that the catalogue's schedule brings the same events on the same jumps as the fixed rule it replaced
+ */
+public class TestEventScheduler {
+
+	// The old rule: story events on these jumps, a random event on every third jump otherwise
+	private static final int[] STORY_JUMPS = {20, 40, 60, 80};
+	private static final String[] STORY_EVENTS = {"mysterious-ship", "cosmic-energy", "abandoned-space-station", "earth"};
+	private static final int RANDOM_EVENT_EVERY = 3;
+
+	private static String oldRule(int jump) {
+		for (int i = 0; i < STORY_JUMPS.length; i++) {
+			if (jump == STORY_JUMPS[i]) return STORY_EVENTS[i];
+		}
+		return jump % RANDOM_EVENT_EVERY == 0 ? ScheduledEvent.RANDOM_POOL : null;
+	}
+
+	@Test
+	public void testPlanMatchesOldRule() {
+		int jumps = 240;
+		String[] plan = EventScheduler.plan(jumps);
+		for (int jump = 1; jump <= jumps; jump++) {
+			Assertions.assertEquals(oldRule(jump), plan[jump], "jump " + jump);
+		}
+	}
+
+	@Test
+	public void testPlansAreRepeatable() {
+		Assertions.assertArrayEquals(EventScheduler.plan(100), EventScheduler.plan(100));
+	}
+}
@@ -0,0 +1,165 @@
+package com.mygdx.sim;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.mygdx.helpers.ResourceType;
+
+/**
+ *  Tests that a journal reads back the decisions written to it, and that broken journals are turned away
+ */
+public class TestJournal {
+
+	private static final long SEED = 0x0123456789abcdefL;
+
+	// One entry of each kind, with arguments that need one to five varint bytes
+	private static Journal sample() {
+		Journal journal = new Journal(SEED);
+		journal.recordJump(2);
+		journal.recordLanding(127);
+		journal.recordChoice(128);
+		journal.recordUseItem(ResourceType.RARE_FUEL.getDisplayName(), 300);
+		journal.recordRemoveItem(ResourceType.COMMON_BIOMASS.getDisplayName(), 1 << 20);
+		journal.recordBuy(UpgradeChain.values()[UpgradeChain.values().length - 1]);
+		journal.recordJump(Integer.MAX_VALUE);
+		return journal;
+	}
+
+	private static List<String> entries(Journal journal) {
+		List<String> entries = new ArrayList<>();
+		journal.forEach((op, a, b) -> entries.add(op + " " + a + " " + b));
+		return entries;
+	}
+
+	@Test
+	public void testRoundTrip() {
+		Journal journal = sample();
+		Journal read = Journal.fromBytes(journal.toBytes());
+		Assertions.assertEquals(SEED, read.getSeed());
+		Assertions.assertEquals(7, read.size());
+		Assertions.assertEquals(entries(journal), entries(read));
+		Assertions.assertArrayEquals(journal.toBytes(), read.toBytes());
+	}
+
+	@Test
+	public void testEntries() {
+		List<String> expected = Arrays.asList(
+				"JUMP 2 -1",
+				"LAND 127 -1",
+				"CHOOSE 128 -1",
+				"USE_ITEM " + ResourceType.RARE_FUEL.ordinal() + " 300",
+				"REMOVE_ITEM " + ResourceType.COMMON_BIOMASS.ordinal() + " " + (1 << 20),
+				"BUY " + (UpgradeChain.values().length - 1) + " -1",
+				"JUMP " + Integer.MAX_VALUE + " -1");
+		Assertions.assertEquals(expected, entries(sample()));
+	}
+
+	@Test
+	public void testFileRoundTrip() throws IOException {
+		Path path = Files.createTempFile("journal", ".litj");
+		try {
+			sample().write(path);
+			Assertions.assertEquals(entries(sample()), entries(Journal.read(path)));
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	@Test
+	public void testVarintLengths() {
+		int header = new Journal(SEED).toBytes().length;
+		int[] values = {0, 127, 128, 16383, 16384, 1 << 20, 1 << 28, Integer.MAX_VALUE};
+		int[] lengths = {1, 1, 2, 2, 3, 3, 5, 5};
+		for (int i = 0; i < values.length; i++) {
+			Journal journal = new Journal(SEED);
+			journal.recordJump(values[i]);
+			Assertions.assertEquals(header + 1 + lengths[i], journal.toBytes().length, "bytes for " + values[i]);
+			int[] read = {-1};
+			Journal.fromBytes(journal.toBytes()).forEach((op, a, b) -> read[0] = a);
+			Assertions.assertEquals(values[i], read[0]);
+		}
+	}
+
+	@Test
+	public void testNegativeValue() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new Journal(SEED).recordChoice(-1));
+	}
+
+	@Test
+	public void testEmptyJournal() {
+		Journal read = Journal.fromBytes(new Journal(SEED).toBytes());
+		Assertions.assertEquals(SEED, read.getSeed());
+		Assertions.assertEquals(0, read.size());
+	}
+
+	@Test
+	public void testBadMagic() {
+		byte[] bytes = sample().toBytes();
+		bytes[0] = 'X';
+		IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class, () -> Journal.fromBytes(bytes));
+		Assertions.assertEquals("Not a journal", e.getMessage());
+	}
+
+	@Test
+	public void testBadVersion() {
+		byte[] bytes = sample().toBytes();
+		bytes[4] = 99;
+		IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class, () -> Journal.fromBytes(bytes));
+		Assertions.assertEquals("Unsupported journal version 99", e.getMessage());
+	}
+
+	@Test
+	public void testTruncatedHeader() {
+		byte[] bytes = Arrays.copyOf(sample().toBytes(), 10);
+		IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class, () -> Journal.fromBytes(bytes));
+		Assertions.assertEquals("Not a journal", e.getMessage());
+	}
+
+	@Test
+	public void testTruncatedEntry() {
+		// The last entry's varint is five bytes long, cut it anywhere and the journal no longer parses
+		byte[] bytes = sample().toBytes();
+		for (int cut = 1; cut <= 5; cut++) {
+			byte[] truncated = Arrays.copyOf(bytes, bytes.length - cut);
+			IllegalStateException e = Assertions.assertThrows(IllegalStateException.class, () -> Journal.fromBytes(truncated));
+			Assertions.assertEquals("Journal ends in the middle of an entry", e.getMessage());
+		}
+	}
+
+	@Test
+	public void testTruncatedItemEntry() {
+		// A USE_ITEM cut after its item still needs a quantity
+		Journal journal = new Journal(SEED);
+		journal.recordUseItem(ResourceType.RARE_FUEL.getDisplayName(), 1);
+		byte[] bytes = journal.toBytes();
+		byte[] truncated = Arrays.copyOf(bytes, bytes.length - 1);
+		Assertions.assertThrows(IllegalStateException.class, () -> Journal.fromBytes(truncated));
+	}
+
+	@Test
+	public void testBadEntry() {
+		byte[] header = new Journal(SEED).toBytes();
+		byte[] bytes = Arrays.copyOf(header, header.length + 2);
+		bytes[header.length] = (byte) Journal.Op.values().length;
+		IllegalStateException e = Assertions.assertThrows(IllegalStateException.class, () -> Journal.fromBytes(bytes));
+		Assertions.assertTrue(e.getMessage().startsWith("Bad journal entry"));
+	}
+
+	@Test
+	public void testVarintTooLong() {
+		byte[] header = new Journal(SEED).toBytes();
+		byte[] bytes = Arrays.copyOf(header, header.length + 7);
+		bytes[header.length] = (byte) Journal.Op.JUMP.ordinal();
+		for (int i = header.length + 1; i < bytes.length; i++) bytes[i] = (byte) 0x80;
+		bytes[bytes.length - 1] = 1;
+		IllegalStateException e = Assertions.assertThrows(IllegalStateException.class, () -> Journal.fromBytes(bytes));
+		Assertions.assertTrue(e.getMessage().startsWith("Varint too long"));
+	}
+}
@@ -0,0 +1,103 @@
+package com.mygdx.sim;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.mygdx.events.EventCatalogue;
+import com.mygdx.events.EventTemplate;
+import com.mygdx.objects.Player;
+
+/**
+ *  Tests that random events are drawn in proportion to their weights and never within RECENT picks of each other
+ */
+public class TestRandomEventPicker {
+
+	private static final List<EventTemplate> EVENTS = EventCatalogue.getInstance().getRandomEvents();
+
+	private static Player lowOn(Player.Stats stat) {
+		Player player = new Player();
+		if (stat == Player.Stats.FUEL) player.setFuel(player.getFuelLim() * 0.1);
+		if (stat == Player.Stats.HEALTH) player.setHealth(player.getHealthLim() * 0.1);
+		if (stat == Player.Stats.OXYGEN) player.setOxygen(player.getOxygenLim() * 0.1);
+		return player;
+	}
+
+	@Test
+	public void testWeightsFollowTierAndStats() {
+		// One picker through every change, so the weights it only partly works out again are checked too
+		RandomEventPicker picker = new RandomEventPicker(EVENTS);
+		Player.Stats[] stats = {null, Player.Stats.FUEL, Player.Stats.OXYGEN, Player.Stats.HEALTH, null};
+		for (int tier = 1; tier <= 4; tier++) {
+			for (Player.Stats stat : stats) {
+				Player player = lowOn(stat);
+				double[] weights = picker.weightsFor(tier, player);
+				for (int i = 0; i < EVENTS.size(); i++) {
+					double expected = EVENTS.get(i).getWeight(tier, RandomEventPicker.lowStatsOf(player));
+					Assertions.assertEquals(expected, weights[i], 0, EVENTS.get(i).getId() + " at tier " + tier + " low " + stat);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testNoRepeatsWithinRecent() {
+		RandomEventPicker picker = new RandomEventPicker(EVENTS);
+		SplittableRandom rand = new SplittableRandom(7);
+		int[] last = new int[RandomEventPicker.RECENT];
+		Arrays.fill(last, -1);
+		for (int n = 0; n < 20000; n++) {
+			int index = picker.pick(1 + n % 4, lowOn(n % 5 == 0 ? Player.Stats.FUEL : null), rand);
+			for (int recent : last) {
+				Assertions.assertNotEquals(recent, index, "pick " + n);
+			}
+			last[n % last.length] = index;
+		}
+	}
+
+	@Test
+	public void testFrequenciesFollowWeights() {
+		// Each draw skips the recent events, so it should land on the others in proportion to their weights
+		int tier = 4;
+		Player player = lowOn(Player.Stats.FUEL);
+		RandomEventPicker picker = new RandomEventPicker(EVENTS);
+		double[] weights = picker.weightsFor(tier, player);
+		SplittableRandom rand = new SplittableRandom(11);
+
+		int draws = 200000;
+		int[] counts = new int[EVENTS.size()];
+		double[] expected = new double[EVENTS.size()];
+		double[] variance = new double[EVENTS.size()];
+		boolean[] recent = new boolean[EVENTS.size()];
+		int[] last = new int[RandomEventPicker.RECENT];
+		Arrays.fill(last, -1);
+		for (int n = 0; n < draws; n++) {
+			double total = 0;
+			for (int i = 0; i < weights.length; i++) {
+				if (!recent[i]) total += weights[i];
+			}
+			for (int i = 0; i < weights.length; i++) {
+				if (recent[i]) continue;
+				double p = weights[i] / total;
+				expected[i] += p;
+				variance[i] += p * (1 - p);
+			}
+
+			int index = picker.pick(tier, player, rand);
+			counts[index]++;
+			int dropped = last[n % last.length];
+			if (dropped >= 0) recent[dropped] = false;
+			last[n % last.length] = index;
+			recent[index] = true;
+		}
+
+		for (int i = 0; i < counts.length; i++) {
+			double tolerance = 5 * Math.sqrt(variance[i]);
+			Assertions.assertTrue(Math.abs(counts[i] - expected[i]) < tolerance,
+					EVENTS.get(i).getId() + " drawn " + counts[i] + " times, expected " + expected[i]);
+		}
+	}
+}
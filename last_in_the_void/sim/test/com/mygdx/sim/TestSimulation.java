@@ -0,0 +1,80 @@
+package com.mygdx.sim;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mygdx.objects.Player;
+import com.mygdx.objects.Universe;
+
+/**
+ *  Tests that jumps and landings tell a refused move apart from one that killed the player
+ */
+public class TestSimulation {
+
+	private Player player;
+	private Simulation sim;
+
+	@BeforeEach
+	public void initSimulation() {
+		player = new Player();
+		sim = new Simulation(new Universe(42), player, new ShipUpgrades());
+		// Every run opens with an event, answer it so the ship can move
+		sim.choose(0);
+		Assertions.assertNull(sim.getPendingEvent());
+	}
+
+	@Test
+	public void testJumpOnLastFuelDies() {
+		player.setFuel(BalanceParams.DEFAULT.getJumpFuelCost());
+		Assertions.assertEquals(Simulation.Result.DIED, sim.jump(0));
+		Assertions.assertTrue(sim.isOver());
+		Assertions.assertEquals(DeathCause.OUT_OF_FUEL, sim.getDeathCause());
+		Assertions.assertEquals(0, sim.getJumps());
+	}
+
+	@Test
+	public void testJumpWithoutFuelIsRefused() {
+		player.setFuel(BalanceParams.DEFAULT.getJumpFuelCost() - 1);
+		Assertions.assertEquals(Simulation.Result.REFUSED, sim.jump(0));
+		Assertions.assertFalse(sim.isOver());
+		Assertions.assertEquals(BalanceParams.DEFAULT.getJumpFuelCost() - 1, player.getFuel(), 0);
+	}
+
+	@Test
+	public void testJumpToMissingDestinationIsRefused() {
+		double fuel = player.getFuel();
+		Assertions.assertEquals(Simulation.Result.REFUSED, sim.jump(Universe.DEFAULT_LENGTH));
+		Assertions.assertEquals(Simulation.Result.REFUSED, sim.jump(-1));
+		Assertions.assertEquals(fuel, player.getFuel(), 0);
+	}
+
+	@Test
+	public void testJumpGoesDeeper() {
+		Assertions.assertEquals(Simulation.Result.DONE, sim.jump(0));
+		Assertions.assertEquals(1, sim.getJumps());
+		Assertions.assertEquals(1, sim.getDepth());
+	}
+
+	@Test
+	public void testLandingOnLastFuelDies() {
+		// Planet 0 of the start system is its star, the others are safe to land on
+		player.setFuel(BalanceParams.DEFAULT.getLandingFuelCost());
+		Assertions.assertEquals(Simulation.Result.DIED, sim.land(1));
+		Assertions.assertEquals(DeathCause.OUT_OF_FUEL, sim.getDeathCause());
+		Assertions.assertEquals(0, sim.getLandings());
+	}
+
+	@Test
+	public void testLandingOnStarDies() {
+		Assertions.assertEquals(Simulation.Result.DIED, sim.land(0));
+		Assertions.assertEquals(DeathCause.FLEW_INTO_STAR, sim.getDeathCause());
+	}
+
+	@Test
+	public void testLandingWithoutFuelDies() {
+		player.setFuel(BalanceParams.DEFAULT.getLandingFuelCost() - 1);
+		Assertions.assertEquals(Simulation.Result.DIED, sim.land(1));
+		Assertions.assertEquals(DeathCause.LOST_IN_SPACE, sim.getDeathCause());
+	}
+}